@@ -15,15 +15,16 @@ import eu.maveniverse.maven.toolbox.shared.ArtifactVersionSelector;
 import eu.maveniverse.maven.toolbox.shared.DependencyMatcher;
 import eu.maveniverse.maven.toolbox.shared.ResolutionRoot;
 import eu.maveniverse.maven.toolbox.shared.ResolutionScope;
-import eu.maveniverse.maven.toolbox.shared.ToolboxCommando;
 import eu.maveniverse.maven.toolbox.shared.internal.ArtifactSinks;
 import eu.maveniverse.maven.toolbox.shared.internal.ArtifactSources;
+import eu.maveniverse.maven.toolbox.shared.internal.HttpClientRegistry;
 import eu.maveniverse.maven.toolbox.shared.internal.ToolboxCommandoImpl;
 import eu.maveniverse.maven.toolbox.shared.output.MarkdownOutput;
 import eu.maveniverse.maven.toolbox.shared.output.Output;
 import eu.maveniverse.maven.toolbox.shared.output.PrintStreamOutput;
 import io.quarkiverse.mcp.server.Tool;
 import io.quarkiverse.mcp.server.ToolArg;
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import java.io.ByteArrayOutputStream;
 import java.io.OutputStream;
@@ -35,6 +36,12 @@ import org.eclipse.aether.artifact.DefaultArtifact;
 
 @ApplicationScoped
 public class ToolboxTools {
+    private final HttpClientRegistry httpClientRegistry = new HttpClientRegistry();
+
+    @PreDestroy
+    void close() {
+        httpClientRegistry.close();
+    }
 
     private ContextOverrides createCLIContextOverrides() {
         // create builder with some sane defaults
@@ -42,10 +49,11 @@ public class ToolboxTools {
     }
 
     private ToolboxCommandoImpl createToolboxCommando(OutputStream output) {
-        return (ToolboxCommandoImpl) ToolboxCommando.create(
+        return new ToolboxCommandoImpl(
                 new MarkdownOutput(
                         new PrintStreamOutput(new PrintStream(output), System.err, Output.Verbosity.SUGGEST, false)),
-                Runtimes.INSTANCE.getRuntime().create(createCLIContextOverrides()));
+                Runtimes.INSTANCE.getRuntime().create(createCLIContextOverrides()),
+                httpClientRegistry);
     }
 
     @Tool(description = "Check for Maven Artifact existence.")
@@ -38,6 +38,7 @@ import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.collection.CollectResult;
 import org.eclipse.aether.graph.Dependency;
 import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.graph.Exclusion;
 import org.eclipse.aether.metadata.Metadata;
 import org.eclipse.aether.repository.RemoteRepository;
 import org.eclipse.aether.resolution.ArtifactDescriptorException;
@@ -421,6 +422,25 @@ public interface ToolboxCommando extends Closeable {
             boolean showManagement)
             throws Exception;
 
+    /**
+     * Checks exclusions of all dependencies of given root. Each dependency graph is collected once (with its
+     * exclusions removed, concurrently across dependencies) and all of its exclusions are evaluated in a single
+     * traversal. Returns, per dependency, the paths to artifacts each exclusion removes (empty if exclusion is unused).
+     */
+    Result<Map<Dependency, Map<Exclusion, List<List<Artifact>>>>> checkExclusions(
+            ResolutionScope resolutionScope, ResolutionRoot resolutionRoot, boolean verboseTree) throws Exception;
+
+    /**
+     * Collects trees of all given roots once (concurrently), and builds a reverse index of reached artifacts to roots
+     * reaching them. All the passed in matchers are evaluated against this index, and for each of them the keys of
+     * roots whose tree contains a matching artifact are returned (in order of roots).
+     */
+    Result<Map<String, List<String>>> affectedBy(
+            ResolutionScope resolutionScope,
+            Map<String, ResolutionRoot> resolutionRoots,
+            Map<String, ArtifactMatcher> artifactMatchers)
+            throws Exception;
+
     /**
      * Returns the depMgt list of given root.
      */
@@ -516,7 +536,7 @@ public interface ToolboxCommando extends Closeable {
     /**
      * Checks existence of GAV (and sub-artifacts optionally).
      */
-    Result<Map<Artifact, Boolean>> exists(
+    default Result<Map<Artifact, Boolean>> exists(
             RemoteRepository remoteRepository,
             String gav,
             boolean pom,
@@ -525,10 +545,27 @@ public interface ToolboxCommando extends Closeable {
             boolean signature,
             boolean allRequired,
             String repositoryVendor)
+            throws IOException {
+        return exists(remoteRepository, List.of(gav), pom, sources, javadoc, signature, allRequired, repositoryVendor);
+    }
+
+    /**
+     * Checks existence of GAVs (and sub-artifacts optionally). All the checks are issued concurrently.
+     */
+    Result<Map<Artifact, Boolean>> exists(
+            RemoteRepository remoteRepository,
+            Collection<String> gavs,
+            boolean pom,
+            boolean sources,
+            boolean javadoc,
+            boolean signature,
+            boolean allRequired,
+            String repositoryVendor)
             throws IOException;
 
     /**
-     * Identifies targets (a file or sha1) and returns matched artifacts.
+     * Identifies targets (a file, directory, glob or sha1) and returns matched artifacts. Directories and globs are
+     * expanded to files they contain or match.
      */
     Result<Map<String, Artifact>> identify(
             RemoteRepository remoteRepository, Collection<String> targets, boolean decorated) throws IOException;
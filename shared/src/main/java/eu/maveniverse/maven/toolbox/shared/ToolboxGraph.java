@@ -21,8 +21,15 @@ public interface ToolboxGraph {
      * Creates instance of {@link ToolboxGraph}, if it can. Graphviz is optional dependency.
      */
     static Optional<ToolboxGraph> create(Output output) {
+        return create(output, 1);
+    }
+
+    /**
+     * Creates instance of {@link ToolboxGraph}, if it can, that expands independent subgraphs with given parallelism.
+     */
+    static Optional<ToolboxGraph> create(Output output, int parallelism) {
         try {
-            return Optional.of(new eu.maveniverse.maven.toolbox.shared.internal.ToolboxGraphImpl(output));
+            return Optional.of(new eu.maveniverse.maven.toolbox.shared.internal.ToolboxGraphImpl(output, parallelism));
         } catch (LinkageError e) {
             return Optional.empty();
         }
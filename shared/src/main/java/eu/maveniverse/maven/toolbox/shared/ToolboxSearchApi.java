@@ -8,12 +8,15 @@
 package eu.maveniverse.maven.toolbox.shared;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 import org.apache.maven.search.api.Record;
 import org.apache.maven.search.api.SearchBackend;
+import org.apache.maven.search.api.SearchRequest;
 import org.apache.maven.search.api.request.Query;
 import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.artifact.Artifact;
@@ -26,8 +29,11 @@ public interface ToolboxSearchApi {
      *     <li>if {@code repositoryVendor} is non-{@code null}, use it</li>
      *     <li>check {@code toolbox.search.backend.type} session config property</li>
      *     <li>check {@link RemoteRepository#getContentType()}</li>
-     *     <li>finally, if none above, try some "heuristics"</li>
+     *     <li>finally, if none above, detect it: recognize well known repositories, or probe the repository (outcome
+     *     is cached per repository URL), or try some "heuristics"</li>
      * </ul>
+     * Repositories with {@code file:} URL, or vendor {@code local} are served offline, see
+     * {@link #getLocalRepositoryBackend(RepositorySystemSession, String, Path)}.
      * This is all about the Search API RR backend extractor selection. Note: in some use cases "extractor" is not
      * used, so forcing any value in those cases is perfectly fine.
      *
@@ -40,10 +46,22 @@ public interface ToolboxSearchApi {
             RepositorySystemSession session, RemoteRepository remoteRepository, String repositoryVendor);
 
     /**
-     * Creates SMO search backend: it works only for Maven Central, obviously.
+     * Creates SMO search backend: it works only for Maven Central, obviously. If session config property
+     * {@code toolbox.search.smoBackend} is set to {@code local}, local repository is searched instead, offline.
      */
     SearchBackend getSmoBackend(RepositorySystemSession session, RemoteRepository remoteRepository);
 
+    /**
+     * Creates search backend over a directory having Maven repository layout (like the local repository), that answers
+     * queries offline, from an on-disk index that is incrementally refreshed on each invocation.
+     *
+     * @param session The session, must not be {@code null}.
+     * @param repositoryId The repository ID to report in records, must not be {@code null}.
+     * @param basedir The repository basedir, must not be {@code null}.
+     */
+    SearchBackend getLocalRepositoryBackend(RepositorySystemSession session, String repositoryId, Path basedir)
+            throws IOException;
+
     List<String> renderGavoid(List<Record> page, Predicate<String> versionPredicate);
 
     Collection<Artifact> renderArtifacts(
@@ -56,6 +74,13 @@ public interface ToolboxSearchApi {
     Map<String, Artifact> identify(
             RepositorySystemSession session, SearchBackend searchBackend, Collection<String> sha1s) throws IOException;
 
+    /**
+     * Performs the search and returns a stream of all found artifacts (from all pages). Next pages are prefetched
+     * while current page is being consumed. Returned stream must be closed.
+     */
+    Stream<Artifact> searchArtifacts(
+            RepositorySystemSession session, SearchBackend searchBackend, SearchRequest searchRequest);
+
     Query toRrQuery(Artifact artifact);
 
     Query toSmoQuery(Artifact artifact);
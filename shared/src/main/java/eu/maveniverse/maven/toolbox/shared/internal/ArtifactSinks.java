@@ -17,6 +17,7 @@ import eu.maveniverse.maven.toolbox.shared.ArtifactNameMapper;
 import eu.maveniverse.maven.toolbox.shared.Sink;
 import eu.maveniverse.maven.toolbox.shared.ToolboxCommando;
 import eu.maveniverse.maven.toolbox.shared.internal.ModuleDescriptorExtractingSink.ModuleDescriptor;
+import eu.maveniverse.maven.toolbox.shared.output.NopOutput;
 import eu.maveniverse.maven.toolbox.shared.output.Output;
 import java.io.IOException;
 import java.io.UncheckedIOException;
@@ -27,8 +28,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -44,11 +46,7 @@ import org.eclipse.aether.internal.impl.checksum.Sha512ChecksumAlgorithmFactory;
 import org.eclipse.aether.repository.LocalRepository;
 import org.eclipse.aether.repository.LocalRepositoryManager;
 import org.eclipse.aether.spi.connector.checksum.ChecksumAlgorithmFactory;
-import org.eclipse.aether.spi.connector.checksum.ChecksumAlgorithmHelper;
-import org.kordamp.jarviz.core.model.BytecodeVersion;
-import org.kordamp.jarviz.core.model.BytecodeVersions;
-import org.kordamp.jarviz.core.processors.BytecodeShowJarProcessor;
-import org.kordamp.jarviz.core.resolvers.PathBasedJarFileResolver;
+import org.eclipse.aether.util.ConfigUtils;
 
 /**
  * Various utility sink implementations.
@@ -89,6 +87,19 @@ public final class ArtifactSinks {
                     && !"unpack".equals(node.getValue());
         }
 
+        private static DirectorySink.Mode directorySinkMode(ToolboxCommandoImpl tc) {
+            String mode = ConfigUtils.getString(tc.session(), "copy", DirectorySink.CONFIG_PROP_MODE);
+            return DirectorySink.Mode.valueOf(mode.toUpperCase(Locale.ENGLISH));
+        }
+
+        private static int directorySinkParallelism(ToolboxCommandoImpl tc) {
+            return ParallelExecutor.parallelism(tc.session(), DirectorySink.CONFIG_PROP_PARALLELISM);
+        }
+
+        private static int unpackSinkParallelism(ToolboxCommandoImpl tc) {
+            return ParallelExecutor.parallelism(tc.session(), UnpackSink.CONFIG_PROP_PARALLELISM);
+        }
+
         @Override
         protected void processOp(SpecParser.Node node) {
             switch (node.getValue()) {
@@ -177,7 +188,8 @@ public final class ArtifactSinks {
                         } else {
                             throw new IllegalArgumentException("op flat accepts only 1..2 argument");
                         }
-                        params.add(DirectorySink.flat(tc.output(), p0, p1, dryRun));
+                        params.add(DirectorySink.flat(
+                                tc.output(), p0, p1, directorySinkMode(tc), directorySinkParallelism(tc), dryRun));
                         node.getChildren().clear();
                     } catch (IOException e) {
                         throw new UncheckedIOException(e);
@@ -187,7 +199,8 @@ public final class ArtifactSinks {
                 case "repository": {
                     try {
                         Path p0 = tc.basedir().resolve(stringParam(node.getValue()));
-                        params.add(DirectorySink.repository(tc.output(), p0, dryRun));
+                        params.add(DirectorySink.repository(
+                                tc.output(), p0, directorySinkMode(tc), directorySinkParallelism(tc), dryRun));
                     } catch (IOException e) {
                         throw new UncheckedIOException(e);
                     }
@@ -235,7 +248,13 @@ public final class ArtifactSinks {
                         if (node.getChildren().size() == 1) {
                             Path p0 = tc.basedir()
                                     .resolve(node.getChildren().get(0).getValue());
-                            params.add(UnpackSink.unpack(tc.output(), p0, ArtifactNameMapper.ACVE(), true, dryRun));
+                            params.add(UnpackSink.unpack(
+                                    tc.output(),
+                                    p0,
+                                    ArtifactNameMapper.ACVE(),
+                                    true,
+                                    unpackSinkParallelism(tc),
+                                    dryRun));
                         } else if (node.getChildren().size() == 2) {
                             ArtifactNameMapper.ArtifactNameMapperBuilder mapperBuilder =
                                     new ArtifactNameMapper.ArtifactNameMapperBuilder(properties);
@@ -243,7 +262,8 @@ public final class ArtifactSinks {
                             ArtifactNameMapper p1 = mapperBuilder.build();
                             Path p0 = tc.basedir()
                                     .resolve(node.getChildren().get(0).getValue());
-                            params.add(UnpackSink.unpack(tc.output(), p0, p1, true, dryRun));
+                            params.add(
+                                    UnpackSink.unpack(tc.output(), p0, p1, true, unpackSinkParallelism(tc), dryRun));
                         } else {
                             throw new IllegalArgumentException("op unpack accepts only 1..2 argument");
                         }
@@ -284,7 +304,7 @@ public final class ArtifactSinks {
                     break;
                 }
                 case "moduleDescriptor": {
-                    params.add(new ModuleDescriptorExtractingSink(tc.output()));
+                    params.add(new ModuleDescriptorExtractingSink(tc.output(), fileAnalysisCache(tc.output(), tc)));
                     break;
                 }
                 default:
@@ -499,28 +519,63 @@ public final class ArtifactSinks {
      */
     public static ChecksumArtifactSink checksumArtifactSink(ChecksumAlgorithmFactory... factories) {
         return new ChecksumArtifactSink(
-                factories.length == 0
-                        ? List.of(new Sha1ChecksumAlgorithmFactory(), new Sha512ChecksumAlgorithmFactory())
-                        : Arrays.asList(factories));
+                NopOutput.INSTANCE, new FileAnalysisCache(NopOutput.INSTANCE, null, 0), factories);
+    }
+
+    /**
+     * Creates a checksum sink, that accumulate checksums of seen (and resolved) artifacts, using the file analysis
+     * cache of passed in Toolbox.
+     */
+    public static ChecksumArtifactSink checksumArtifactSink(
+            Output output, ToolboxCommando tc, ChecksumAlgorithmFactory... factories) {
+        return new ChecksumArtifactSink(output, fileAnalysisCache(output, tc), factories);
+    }
+
+    static List<ChecksumAlgorithmFactory> defaultChecksumAlgorithmFactories() {
+        return List.of(new Sha1ChecksumAlgorithmFactory(), new Sha512ChecksumAlgorithmFactory());
+    }
+
+    private static FileAnalysisCache fileAnalysisCache(Output output, ToolboxCommando tc) {
+        if (tc instanceof ToolboxCommandoImpl impl) {
+            return impl.fileAnalysisCache;
+        }
+        return new FileAnalysisCache(output, null, 0);
     }
 
     public static class ChecksumArtifactSink implements Artifacts.Sink {
         private final ConcurrentMap<Artifact, Map<String, String>> checksums = new ConcurrentHashMap<>();
-        private final List<ChecksumAlgorithmFactory> algorithmFactories;
+        private final List<String> algorithms;
+        private final FileAnalysisCache fileAnalysisCache;
+        private final JarAnalyzer jarAnalyzer;
 
-        private ChecksumArtifactSink(List<ChecksumAlgorithmFactory> algorithmFactories) {
-            requireNonNull(algorithmFactories, "algorithmFactories");
-            this.algorithmFactories = algorithmFactories;
+        ChecksumArtifactSink(
+                Output output, FileAnalysisCache fileAnalysisCache, ChecksumAlgorithmFactory... factories) {
+            List<ChecksumAlgorithmFactory> algorithmFactories =
+                    factories.length == 0 ? defaultChecksumAlgorithmFactories() : Arrays.asList(factories);
+            this.algorithms = algorithmFactories.stream()
+                    .map(ChecksumAlgorithmFactory::getName)
+                    .collect(Collectors.toList());
+            this.fileAnalysisCache = requireNonNull(fileAnalysisCache, "fileAnalysisCache");
+            this.jarAnalyzer = new JarAnalyzer(output, algorithmFactories, fileAnalysisCache);
         }
 
         @Override
         public void accept(Artifact artifact) throws IOException {
             Path path = artifact.getFile() != null ? artifact.getFile().toPath() : null;
-            if (path != null && Files.exists(path)) {
-                checksums.put(artifact, ChecksumAlgorithmHelper.calculate(path.toFile(), algorithmFactories));
+            if (path != null && Files.isRegularFile(path)) {
+                // cached analysis may have more checksums than asked for
+                Map<String, String> all = jarAnalyzer.analyze(path, false).checksums();
+                LinkedHashMap<String, String> result = new LinkedHashMap<>();
+                algorithms.forEach(name -> result.put(name, all.get(name)));
+                checksums.put(artifact, result);
             }
         }
 
+        @Override
+        public void close() {
+            fileAnalysisCache.save();
+        }
+
         public Map<String, String> checksums(Artifact artifact) {
             return checksums.getOrDefault(artifact, Map.of());
         }
@@ -598,8 +653,8 @@ public final class ArtifactSinks {
         private final String classifier;
         private final Output output;
         private final Map<String, Property> propertyByModuleName;
-        private final ModuleDescriptorExtractingSink moduleArtifactSink;
-        private final ChecksumArtifactSink checksumArtifactSink;
+        private final FileAnalysisCache fileAnalysisCache;
+        private final JarAnalyzer jarAnalyzer;
         private final ArtifactUriSink artifactUriSink;
 
         private ModulePropertiesArtifactSink(Path file, String classifier, Output output, ToolboxCommando tc) {
@@ -607,8 +662,8 @@ public final class ArtifactSinks {
             this.classifier = classifier;
             this.output = output;
             this.propertyByModuleName = new ConcurrentHashMap<>();
-            this.moduleArtifactSink = new ModuleDescriptorExtractingSink(output);
-            this.checksumArtifactSink = checksumArtifactSink();
+            this.fileAnalysisCache = fileAnalysisCache(output, tc);
+            this.jarAnalyzer = new JarAnalyzer(output, defaultChecksumAlgorithmFactories(), fileAnalysisCache);
             this.artifactUriSink = artifactUriSink(output, tc, false);
         }
 
@@ -622,10 +677,11 @@ public final class ArtifactSinks {
             var file = artifact.getFile();
             if (file == null) return;
             var path = file.toPath();
-            if (!Files.exists(path)) return;
+            if (!Files.isRegularFile(path)) return;
+            // single read of file: module descriptor, size and checksums
+            JarAnalyzer.Analysis analysis = jarAnalyzer.analyze(path, true);
             // only interested in modular Java Archives
-            moduleArtifactSink.accept(artifact);
-            ModuleDescriptor module = moduleArtifactSink.getModuleDescriptor(artifact);
+            ModuleDescriptor module = analysis.module();
             if (!module.available()) {
                 output.tell("No module available, skipping artifact: {}", artifact);
                 return;
@@ -638,19 +694,18 @@ public final class ArtifactSinks {
                 return;
             }
             // only interested in artifacts with SHA-1 checksums
-            checksumArtifactSink.accept(artifact);
-            String sha1 = checksumArtifactSink.checksums(artifact).get("SHA-1");
+            String sha1 = analysis.checksums().get("SHA-1");
             if (sha1 == null) {
                 output.tell("No SHA-1 checksum, skipping artifact: {}", artifact);
                 return;
             }
             String name = module.name();
-            long size = Files.size(path);
-            propertyByModuleName.put(name, new Property(name, origin, size, sha1));
+            propertyByModuleName.put(name, new Property(name, origin, analysis.size(), sha1));
         }
 
         @Override
         public void close() throws Exception {
+            fileAnalysisCache.save();
             List<String> lines = propertyByModuleName.keySet().stream()
                     .sorted()
                     .map(propertyByModuleName::get)
@@ -683,22 +738,23 @@ public final class ArtifactSinks {
         private final CopyOnWriteArrayList<Artifact> seen = new CopyOnWriteArrayList<>();
         private final CountingArtifactSink countingArtifactSink = new CountingArtifactSink();
         private final SizingArtifactSink sizingArtifactSink = new SizingArtifactSink();
-        private final ModuleDescriptorExtractingSink moduleDescriptorExtractingSink;
-        private final ChecksumArtifactSink checksumArtifactSink;
+        private final FileAnalysisCache fileAnalysisCache;
+        private final JarAnalyzer jarAnalyzer;
         private final ArtifactUriSink artifactUriSink;
         private final ArtifactPurlSink artifactPurlSink;
-        private final Map<Artifact, BytecodeVersions> bytecodeVersions;
+        private final Map<Artifact, JarAnalyzer.Analysis> analyses;
 
         private StatArtifactSink(int level, boolean list, boolean details, Output output, ToolboxCommando tc) {
             this.level = level;
             this.list = list;
             this.details = details;
             this.output = requireNonNull(output, "output");
-            this.moduleDescriptorExtractingSink = details ? new ModuleDescriptorExtractingSink(output) : null;
-            this.checksumArtifactSink = details ? checksumArtifactSink() : null;
+            this.fileAnalysisCache = fileAnalysisCache(output, tc);
+            this.jarAnalyzer =
+                    details ? new JarAnalyzer(output, defaultChecksumAlgorithmFactories(), fileAnalysisCache) : null;
             this.artifactUriSink = details ? artifactUriSink(output, tc, false) : null;
             this.artifactPurlSink = details ? modulePurlSink(output, tc, false) : null;
-            this.bytecodeVersions = details ? new HashMap<>() : null;
+            this.analyses = details ? new ConcurrentHashMap<>() : null;
         }
 
         public boolean isList() {
@@ -715,21 +771,15 @@ public final class ArtifactSinks {
             countingArtifactSink.accept(artifact);
             sizingArtifactSink.accept(artifact);
             if (details) {
-                checksumArtifactSink.accept(artifact);
                 artifactUriSink.accept(artifact);
                 artifactPurlSink.accept(artifact);
-                if (artifact.getFile() != null
-                        && artifact.getFile().isFile()
-                        && artifact.getFile().getPath().endsWith(".jar")) {
-                    moduleDescriptorExtractingSink.accept(artifact);
-                    bytecodeVersions.put(
+                if (artifact.getFile() != null && artifact.getFile().isFile()) {
+                    // single read of file: checksums, and for JARs module descriptor and bytecode versions
+                    analyses.put(
                             artifact,
-                            new BytecodeShowJarProcessor(new PathBasedJarFileResolver(
-                                            artifact.getFile().toPath()))
-                                    .getResult()
-                                    .iterator()
-                                    .next()
-                                    .getResult());
+                            jarAnalyzer.analyze(
+                                    artifact.getFile().toPath(),
+                                    artifact.getFile().getPath().endsWith(".jar")));
                 }
             }
         }
@@ -746,44 +796,36 @@ public final class ArtifactSinks {
             }
             countingArtifactSink.close();
             sizingArtifactSink.close();
-            if (details) {
-                moduleDescriptorExtractingSink.close();
-            }
+            fileAnalysisCache.save();
             if (list) {
                 output.tell("{}------------------------------", indent);
                 for (Artifact artifact : seen) {
                     output.tell("{}{}", indent, artifact);
                     if (details) {
-                        ModuleDescriptor descriptor = moduleDescriptorExtractingSink.getModuleDescriptor(artifact);
+                        JarAnalyzer.Analysis analysis = analyses.get(artifact);
                         String moduleInfo = "";
-                        if (descriptor != null) {
-                            moduleInfo = moduleDescriptorExtractingSink.formatString(descriptor);
+                        if (analysis != null && analysis.module() != null) {
+                            moduleInfo = ModuleDescriptorExtractingSink.formatString(analysis.module());
                         }
                         output.tell("{} -- {}", indent, moduleInfo);
-                        BytecodeVersions bcvs = bytecodeVersions.get(artifact);
-                        if (bcvs != null) {
-                            boolean mrjar =
-                                    !bcvs.getJavaVersionOfVersionedClasses().isEmpty();
+                        if (analysis != null && analysis.module() != null) {
+                            boolean mrjar = analysis.multiRelease();
                             String result = mrjar ? "MR-JAR Unversioned bytecode: " : "JAR bytecode: ";
-                            for (Map.Entry<BytecodeVersion, List<String>> ue :
-                                    bcvs.getUnversionedClasses().entrySet()) {
-                                result += ue.getKey().toString() + " = "
-                                        + ue.getValue().size() + " class ";
-                            }
+                            result += JarAnalyzer.formatBytecode(analysis.bytecode().getOrDefault(0, Map.of()));
                             if (mrjar) {
-                                result += " Versioned bytecode: ";
-                                for (Integer jv : bcvs.getJavaVersionOfVersionedClasses()) {
-                                    for (Map.Entry<BytecodeVersion, List<String>> ue :
-                                            bcvs.getVersionedClasses(jv).entrySet()) {
-                                        result += ue.getKey().toString() + " = "
-                                                + ue.getValue().size() + " class ";
+                                result += " Versioned bytecode:";
+                                for (Map.Entry<Integer, Map<Integer, Integer>> versioned :
+                                        analysis.bytecode().entrySet()) {
+                                    if (versioned.getKey() != 0) {
+                                        result += " [" + versioned.getKey() + "] "
+                                                + JarAnalyzer.formatBytecode(versioned.getValue());
                                     }
                                 }
                             }
                             output.tell("{} -- {}", indent, result);
                         }
-                        Map<String, String> checksums = checksumArtifactSink.checksums(artifact);
-                        if (checksums != null && !checksums.isEmpty()) {
+                        Map<String, String> checksums = analysis != null ? analysis.checksums() : Map.of();
+                        if (!checksums.isEmpty()) {
                             for (Map.Entry<String, String> checksum : checksums.entrySet()) {
                                 output.tell("{} -- {}: {}", indent, checksum.getKey(), checksum.getValue());
                             }
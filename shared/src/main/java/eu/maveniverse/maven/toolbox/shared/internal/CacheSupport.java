@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.toolbox.shared.internal;
+
+import static java.util.Objects.requireNonNull;
+
+import eu.maveniverse.maven.toolbox.shared.output.Output;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.util.ConfigUtils;
+
+/**
+ * Support class for persistent caches living in Toolbox cache basedir. A cache has a location (a file or a directory)
+ * that is {@code null} if cache is disabled, counts hits, misses and stores, and writes its files atomically.
+ */
+public abstract class CacheSupport {
+    protected final Output output;
+    protected final Path location; // nullable: if null, cache is disabled
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong stores = new AtomicLong();
+
+    protected CacheSupport(Output output, Path location) {
+        this.output = requireNonNull(output, "output");
+        this.location = location;
+    }
+
+    public boolean isEnabled() {
+        return location != null;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getStores() {
+        return stores.get();
+    }
+
+    protected void hit() {
+        hits.incrementAndGet();
+    }
+
+    protected void miss() {
+        misses.incrementAndGet();
+    }
+
+    protected void store() {
+        stores.incrementAndGet();
+    }
+
+    /**
+     * Returns the location of cache with given name within cache basedir, or {@code null} if cache is disabled in
+     * session by the passed in property, or is not usable as configured (ie. has zero size).
+     */
+    protected static Path location(
+            RepositorySystemSession session, Path cacheBasedir, String enabledProperty, String name, boolean usable) {
+        requireNonNull(session, "session");
+        requireNonNull(cacheBasedir, "cacheBasedir");
+        return usable && ConfigUtils.getBoolean(session, true, enabledProperty) ? cacheBasedir.resolve(name) : null;
+    }
+
+    /**
+     * Writes file atomically: content is written to a temporary file next to it, that is moved over the file once
+     * complete, so concurrent readers (and processes) never see partial content.
+     */
+    protected static void write(Path file, Content content) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path tmp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                content.write(out);
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * Merges entries of this process into the stored ones (that other processes may have changed meanwhile). Both
+     * maps are ordered from least to most recently used, and least recently used entries over the limit are dropped.
+     */
+    protected static <K, V> LinkedHashMap<K, V> merge(Map<K, V> stored, Map<K, V> entries, int maxEntries) {
+        LinkedHashMap<K, V> merged = new LinkedHashMap<>(stored);
+        merged.keySet().removeAll(entries.keySet());
+        merged.putAll(entries);
+        Iterator<K> keys = merged.keySet().iterator();
+        for (int skip = merged.size() - maxEntries; skip > 0; skip--) {
+            keys.next();
+            keys.remove();
+        }
+        return merged;
+    }
+
+    /**
+     * Marks entry file as recently used.
+     */
+    protected static void touch(Path file) throws IOException {
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+    }
+
+    /**
+     * Deletes the least recently used entry files (having given extension) in directory over the limit.
+     */
+    protected static void evict(Path directory, String extension, int maxEntries) throws IOException {
+        List<Path> entries;
+        try (Stream<Path> stream = Files.list(directory)) {
+            entries = stream.filter(p -> p.getFileName().toString().endsWith(extension))
+                    .collect(Collectors.toList());
+        }
+        if (entries.size() > maxEntries) {
+            HashMap<Path, Long> lastUsed = new HashMap<>();
+            for (Path entry : entries) {
+                try {
+                    lastUsed.put(entry, Files.getLastModifiedTime(entry).toMillis());
+                } catch (IOException e) {
+                    lastUsed.put(entry, 0L);
+                }
+            }
+            entries.sort(Comparator.comparing(lastUsed::get));
+            for (Path entry : entries.subList(0, entries.size() - maxEntries)) {
+                Files.deleteIfExists(entry);
+            }
+        }
+    }
+
+    /**
+     * The content of a cache file.
+     */
+    @FunctionalInterface
+    protected interface Content {
+        void write(OutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,626 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.toolbox.shared.internal;
+
+import static java.util.Objects.requireNonNull;
+
+import eu.maveniverse.maven.toolbox.shared.output.Output;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.collection.CollectRequest;
+import org.eclipse.aether.collection.CollectResult;
+import org.eclipse.aether.graph.DefaultDependencyNode;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.graph.DependencyCycle;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.graph.Exclusion;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.util.ChecksumUtils;
+import org.eclipse.aether.util.ConfigUtils;
+import org.eclipse.aether.util.graph.manager.DependencyManagerUtils;
+import org.eclipse.aether.util.graph.transformer.ConflictResolver;
+import org.eclipse.aether.version.InvalidVersionSpecificationException;
+import org.eclipse.aether.version.VersionScheme;
+
+/**
+ * Persistent cache of collected dependency graphs. Graphs are stored in a compact binary form, keyed by hash of all
+ * the collection inputs (root, dependencies, managed dependencies, repositories, Java and OS properties, session user
+ * properties, resolver configuration and the collection variant). Only graphs made exclusively of released artifacts
+ * (no snapshots, no version ranges) are cached, as only those are guaranteed to not change over time. Sessions having
+ * workspace reader are not cached at all, as workspace may shadow any artifact. Least recently used entries are
+ * evicted once cache grows over its limit.
+ * <p>
+ * Note: a cache hit does not read any artifact descriptor, hence no repository events are fired, and repository
+ * listeners (like artifact recorder) do not see the POMs that a real collection would resolve.
+ */
+public final class DependencyGraphCache extends CacheSupport {
+    /**
+     * Session config property to enable or disable (bypass) the graph cache.
+     */
+    public static final String CONFIG_PROP_ENABLED = "toolbox.cache.graph.enabled";
+
+    /**
+     * Session config property to set the maximum count of graphs cached.
+     */
+    public static final String CONFIG_PROP_MAX_ENTRIES = "toolbox.cache.graph.maxEntries";
+
+    public static final int DEFAULT_MAX_ENTRIES = 500;
+
+    private static final int FORMAT_VERSION = 3;
+
+    private static final String EXT = ".graph";
+
+    /**
+     * Creates graph cache configured from session, using passed in cache basedir. If disabled in session, returned
+     * cache is a no-op one.
+     */
+    public static DependencyGraphCache create(
+            Output output, RepositorySystemSession session, VersionScheme versionScheme, Path cacheBasedir) {
+        int maxEntries = ConfigUtils.getInteger(session, DEFAULT_MAX_ENTRIES, CONFIG_PROP_MAX_ENTRIES);
+        return new DependencyGraphCache(
+                output,
+                versionScheme,
+                location(session, cacheBasedir, CONFIG_PROP_ENABLED, "graphs", maxEntries > 0),
+                maxEntries);
+    }
+
+    private final VersionScheme versionScheme;
+    private final int maxEntries;
+
+    public DependencyGraphCache(Output output, VersionScheme versionScheme, Path basedir, int maxEntries) {
+        super(output, basedir);
+        this.versionScheme = requireNonNull(versionScheme, "versionScheme");
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Calculates the cache key of given collect request and variant (any other input that alters the collection),
+     * or returns {@code null} if request is not cacheable.
+     */
+    public String key(RepositorySystemSession session, CollectRequest collectRequest, Object... variant) {
+        requireNonNull(session, "session");
+        requireNonNull(collectRequest, "collectRequest");
+        if (!isEnabled()
+                || session.getWorkspaceReader() != null
+                || collectRequest.getRootArtifact() == null
+                || !isRelease(collectRequest.getRootArtifact())) {
+            return null;
+        }
+        for (Dependency dependency : collectRequest.getDependencies()) {
+            if (!isRelease(dependency.getArtifact())) {
+                return null;
+            }
+        }
+        for (Dependency dependency : collectRequest.getManagedDependencies()) {
+            if (!isRelease(dependency.getArtifact())) {
+                return null;
+            }
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("v").append(FORMAT_VERSION).append('\n');
+        for (Object v : variant) {
+            sb.append(v).append('\n');
+        }
+        sb.append("root:").append(collectRequest.getRootArtifact()).append('\n');
+        for (Dependency dependency : collectRequest.getDependencies()) {
+            sb.append("dep:").append(keyOf(dependency)).append('\n');
+        }
+        for (Dependency dependency : collectRequest.getManagedDependencies()) {
+            sb.append("dm:").append(keyOf(dependency)).append('\n');
+        }
+        for (RemoteRepository repository : collectRequest.getRepositories()) {
+            sb.append("repo:").append(keyOf(repository)).append('\n');
+        }
+        // inputs that may alter model building (profile activation); system properties are not used as a whole, as
+        // they carry environment (env.*, user.dir, etc.) that changes from run to run, while user properties (-D)
+        // are what is usually referenced by profile activation
+        for (String key : List.of("java.version", "os.name", "os.arch", "os.version")) {
+            String value = session.getSystemProperties().get(key);
+            sb.append(key).append('=').append(value != null ? value : System.getProperty(key)).append('\n');
+        }
+        new TreeMap<>(session.getUserProperties())
+                .forEach((k, v) -> sb.append("user:").append(k).append('=').append(v).append('\n'));
+        // resolver configuration that may alter collection and conflict resolution
+        new TreeMap<>(session.getConfigProperties()).forEach((k, v) -> {
+            if (k.startsWith("aether.")) {
+                sb.append("config:").append(k).append('=').append(configValue(v)).append('\n');
+            }
+        });
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            return ChecksumUtils.toHexString(digest.digest(sb.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the cached graph (with cycles) for given key, if present. See class javadoc about repository events.
+     */
+    public Optional<CollectResult> get(String key, CollectRequest collectRequest) {
+        requireNonNull(key, "key");
+        requireNonNull(collectRequest, "collectRequest");
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+        Path file = location.resolve(key + EXT);
+        if (Files.isRegularFile(file)) {
+            try (DataInputStream in = new DataInputStream(
+                    new BufferedInputStream(new GZIPInputStream(Files.newInputStream(file))))) {
+                Reader reader = new Reader(in, collectRequest.getRepositories());
+                DependencyNode root = reader.read();
+                touch(file);
+                hit();
+                output.chatter("Graph cache hit for {}", collectRequest.getRootArtifact());
+                CollectResult result = new CollectResult(collectRequest);
+                result.setRoot(root);
+                reader.cycles.forEach(result::addCycle);
+                return Optional.of(result);
+            } catch (IOException | InvalidVersionSpecificationException | RuntimeException e) {
+                output.warn("Dropping unreadable graph cache entry {}", file, e);
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException ignore) {
+                    // ignore
+                }
+            }
+        }
+        miss();
+        return Optional.empty();
+    }
+
+    /**
+     * Stores the collected graph under given key, if graph is cacheable (has no exceptions, and all nodes are
+     * released artifacts).
+     */
+    public void put(String key, CollectResult collectResult) {
+        requireNonNull(key, "key");
+        requireNonNull(collectResult, "collectResult");
+        if (!isEnabled() || !collectResult.getExceptions().isEmpty() || collectResult.getRoot() == null) {
+            return;
+        }
+        List<DependencyNode> nodes = nodes(collectResult.getRoot());
+        for (DependencyNode node : nodes) {
+            if (node.getArtifact() != null && !isRelease(node.getArtifact())) {
+                return;
+            }
+            if (node.getVersionConstraint() != null && node.getVersionConstraint().getRange() != null) {
+                return;
+            }
+        }
+        try {
+            write(location.resolve(key + EXT), os -> {
+                try (DataOutputStream out =
+                        new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(os)))) {
+                    new Writer(out, nodes, collectResult.getCycles()).write();
+                }
+            });
+            store();
+            evict(location, EXT, maxEntries);
+        } catch (IOException e) {
+            output.warn("Could not store graph cache entry for {}", collectResult.getRoot(), e);
+        }
+    }
+
+    private boolean isRelease(Artifact artifact) {
+        if (artifact.isSnapshot()) {
+            return false;
+        }
+        try {
+            return versionScheme.parseVersionConstraint(artifact.getVersion()).getRange() == null;
+        } catch (InvalidVersionSpecificationException e) {
+            return false;
+        }
+    }
+
+    private static String keyOf(Dependency dependency) {
+        return dependency.getArtifact() + ":" + dependency.getScope() + ":" + dependency.getOptional() + ":"
+                + dependency.getExclusions().stream().map(Exclusion::toString).collect(Collectors.joining(","));
+    }
+
+    /**
+     * Repository key: besides id and URL, policies, proxy, authentication and mirrored repositories as well.
+     */
+    private static String keyOf(RemoteRepository repository) {
+        return repository.getId() + ":" + repository.getUrl() + ":" + repository.getPolicy(false) + ":"
+                + repository.getPolicy(true) + ":" + repository.getProxy() + ":" + repository.getAuthentication()
+                + ":[" + repository.getMirroredRepositories().stream()
+                        .map(DependencyGraphCache::keyOf)
+                        .collect(Collectors.joining(","))
+                + "]";
+    }
+
+    /**
+     * Renders configuration value for key: only simple values are rendered, as others (ie. objects set by
+     * integrations) would have no stable string form.
+     */
+    private static String configValue(Object value) {
+        if (value == null || value instanceof CharSequence || value instanceof Number || value instanceof Boolean) {
+            return String.valueOf(value);
+        }
+        return value.getClass().getName();
+    }
+
+    /**
+     * Dependency cycle read from cache.
+     */
+    private record Cycle(List<Dependency> precedingDependencies, List<Dependency> cyclicDependencies)
+            implements DependencyCycle {
+        @Override
+        public List<Dependency> getPrecedingDependencies() {
+            return precedingDependencies;
+        }
+
+        @Override
+        public List<Dependency> getCyclicDependencies() {
+            return cyclicDependencies;
+        }
+
+        @Override
+        public String toString() {
+            return cyclicDependencies.stream()
+                    .map(d -> d.getArtifact().toString())
+                    .collect(Collectors.joining(" -> "));
+        }
+    }
+
+    /**
+     * Collects all the nodes of graph (children and conflict winners), every node once, even if graph has cycles.
+     */
+    private static List<DependencyNode> nodes(DependencyNode root) {
+        IdentityHashMap<DependencyNode, Boolean> seen = new IdentityHashMap<>();
+        ArrayList<DependencyNode> result = new ArrayList<>();
+        ArrayDeque<DependencyNode> queue = new ArrayDeque<>();
+        queue.add(root);
+        seen.put(root, Boolean.TRUE);
+        while (!queue.isEmpty()) {
+            DependencyNode node = queue.remove();
+            result.add(node);
+            ArrayList<DependencyNode> next = new ArrayList<>(node.getChildren());
+            if (node.getData().get(ConflictResolver.NODE_DATA_WINNER) instanceof DependencyNode winner) {
+                next.add(winner);
+            }
+            for (DependencyNode n : next) {
+                if (seen.put(n, Boolean.TRUE) == null) {
+                    queue.add(n);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static final int STRING_NULL = -1;
+    private static final int STRING_NEW = -2;
+
+    private static final class Writer {
+        private final DataOutputStream out;
+        private final List<DependencyNode> nodes;
+        private final List<DependencyCycle> cycles;
+        private final IdentityHashMap<DependencyNode, Integer> ids = new IdentityHashMap<>();
+        private final HashMap<String, Integer> strings = new HashMap<>();
+
+        private Writer(DataOutputStream out, List<DependencyNode> nodes, List<DependencyCycle> cycles) {
+            this.out = out;
+            this.nodes = nodes;
+            this.cycles = cycles;
+            for (DependencyNode node : nodes) {
+                ids.put(node, ids.size());
+            }
+        }
+
+        private void write() throws IOException {
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(nodes.size());
+            for (DependencyNode node : nodes) {
+                writeNode(node);
+            }
+            for (DependencyNode node : nodes) {
+                out.writeInt(node.getChildren().size());
+                for (DependencyNode child : node.getChildren()) {
+                    out.writeInt(ids.get(child));
+                }
+                DependencyNode winner = (DependencyNode) node.getData().get(ConflictResolver.NODE_DATA_WINNER);
+                out.writeInt(winner != null ? ids.get(winner) : -1);
+            }
+            out.writeInt(cycles.size());
+            for (DependencyCycle cycle : cycles) {
+                writeDependencies(cycle.getPrecedingDependencies());
+                writeDependencies(cycle.getCyclicDependencies());
+            }
+        }
+
+        private void writeDependencies(List<Dependency> dependencies) throws IOException {
+            out.writeInt(dependencies.size());
+            for (Dependency dependency : dependencies) {
+                writeArtifact(dependency.getArtifact());
+                writeString(dependency.getScope());
+                writeBoolean(dependency.getOptional());
+                writeExclusions(dependency.getExclusions());
+            }
+        }
+
+        private void writeNode(DependencyNode node) throws IOException {
+            Dependency dependency = node.getDependency();
+            out.writeBoolean(dependency != null);
+            writeArtifact(node.getArtifact());
+            if (dependency != null) {
+                writeString(dependency.getScope());
+                writeBoolean(dependency.getOptional());
+                writeExclusions(dependency.getExclusions());
+            }
+            writeArtifacts(node.getRelocations());
+            writeArtifacts(node.getAliases());
+            writeString(node.getVersionConstraint() != null ? node.getVersionConstraint().toString() : null);
+            writeString(node.getVersion() != null ? node.getVersion().toString() : null);
+            out.writeInt(node.getManagedBits());
+            writeString(node.getRequestContext());
+            out.writeInt(node.getRepositories().size());
+            for (RemoteRepository repository : node.getRepositories()) {
+                writeString(repository.getId());
+                writeString(repository.getContentType());
+                writeString(repository.getUrl());
+            }
+            writeString(DependencyManagerUtils.getPremanagedVersion(node));
+            writeString(DependencyManagerUtils.getPremanagedScope(node));
+            writeBoolean(DependencyManagerUtils.getPremanagedOptional(node));
+            Collection<Exclusion> premanagedExclusions = DependencyManagerUtils.getPremanagedExclusions(node);
+            out.writeBoolean(premanagedExclusions != null);
+            if (premanagedExclusions != null) {
+                writeExclusions(premanagedExclusions);
+            }
+            writeMap(DependencyManagerUtils.getPremanagedProperties(node));
+            writeString((String) node.getData().get(ConflictResolver.NODE_DATA_ORIGINAL_SCOPE));
+            writeBoolean((Boolean) node.getData().get(ConflictResolver.NODE_DATA_ORIGINAL_OPTIONALITY));
+        }
+
+        private void writeArtifacts(Collection<? extends Artifact> artifacts) throws IOException {
+            out.writeInt(artifacts.size());
+            for (Artifact artifact : artifacts) {
+                writeArtifact(artifact);
+            }
+        }
+
+        private void writeArtifact(Artifact artifact) throws IOException {
+            writeString(artifact.getGroupId());
+            writeString(artifact.getArtifactId());
+            writeString(artifact.getClassifier());
+            writeString(artifact.getExtension());
+            writeString(artifact.getVersion());
+            writeMap(artifact.getProperties());
+        }
+
+        private void writeExclusions(Collection<Exclusion> exclusions) throws IOException {
+            out.writeInt(exclusions.size());
+            for (Exclusion exclusion : exclusions) {
+                writeString(exclusion.getGroupId());
+                writeString(exclusion.getArtifactId());
+                writeString(exclusion.getClassifier());
+                writeString(exclusion.getExtension());
+            }
+        }
+
+        private void writeMap(Map<String, String> map) throws IOException {
+            if (map == null) {
+                out.writeInt(-1);
+            } else {
+                out.writeInt(map.size());
+                for (Map.Entry<String, String> entry : new TreeMap<>(map).entrySet()) {
+                    writeString(entry.getKey());
+                    writeString(entry.getValue());
+                }
+            }
+        }
+
+        private void writeBoolean(Boolean value) throws IOException {
+            out.writeByte(value == null ? 0 : value ? 1 : 2);
+        }
+
+        private void writeString(String value) throws IOException {
+            if (value == null) {
+                out.writeInt(STRING_NULL);
+            } else {
+                Integer idx = strings.get(value);
+                if (idx != null) {
+                    out.writeInt(idx);
+                } else {
+                    strings.put(value, strings.size());
+                    out.writeInt(STRING_NEW);
+                    out.writeUTF(value);
+                }
+            }
+        }
+    }
+
+    private final class Reader {
+        private final DataInputStream in;
+        private final Map<String, RemoteRepository> repositories;
+        private final ArrayList<String> strings = new ArrayList<>();
+        private final ArrayList<DependencyCycle> cycles = new ArrayList<>();
+
+        private Reader(DataInputStream in, List<RemoteRepository> repositories) {
+            this.in = in;
+            this.repositories = new HashMap<>();
+            for (RemoteRepository repository : repositories) {
+                this.repositories.put(repository.getId() + "::" + repository.getUrl(), repository);
+            }
+        }
+
+        private DependencyNode read() throws IOException, InvalidVersionSpecificationException {
+            if (in.readInt() != FORMAT_VERSION) {
+                throw new IOException("Unsupported format version");
+            }
+            int count = in.readInt();
+            ArrayList<DefaultDependencyNode> nodes = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                nodes.add(readNode());
+            }
+            for (DefaultDependencyNode node : nodes) {
+                int children = in.readInt();
+                ArrayList<DependencyNode> list = new ArrayList<>(children);
+                for (int i = 0; i < children; i++) {
+                    list.add(nodes.get(in.readInt()));
+                }
+                node.setChildren(list);
+                int winner = in.readInt();
+                if (winner >= 0) {
+                    node.setData(ConflictResolver.NODE_DATA_WINNER, nodes.get(winner));
+                }
+            }
+            int cycleCount = in.readInt();
+            for (int i = 0; i < cycleCount; i++) {
+                cycles.add(new Cycle(readDependencies(), readDependencies()));
+            }
+            return nodes.get(0);
+        }
+
+        private List<Dependency> readDependencies() throws IOException {
+            int count = in.readInt();
+            ArrayList<Dependency> result = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                result.add(new Dependency(readArtifact(), readString(), readBoolean(), readExclusions()));
+            }
+            return Collections.unmodifiableList(result);
+        }
+
+        private DefaultDependencyNode readNode() throws IOException, InvalidVersionSpecificationException {
+            boolean hasDependency = in.readBoolean();
+            Artifact artifact = readArtifact();
+            DefaultDependencyNode node;
+            if (hasDependency) {
+                String scope = readString();
+                Boolean optional = readBoolean();
+                List<Exclusion> exclusions = readExclusions();
+                node = new DefaultDependencyNode(new Dependency(artifact, scope, optional, exclusions));
+            } else {
+                node = new DefaultDependencyNode(artifact);
+            }
+            node.setRelocations(readArtifacts());
+            node.setAliases(readArtifacts());
+            String versionConstraint = readString();
+            if (versionConstraint != null) {
+                node.setVersionConstraint(versionScheme.parseVersionConstraint(versionConstraint));
+            }
+            String version = readString();
+            if (version != null) {
+                node.setVersion(versionScheme.parseVersion(version));
+            }
+            node.setManagedBits(in.readInt());
+            node.setRequestContext(readString());
+            int repositoryCount = in.readInt();
+            ArrayList<RemoteRepository> nodeRepositories = new ArrayList<>(repositoryCount);
+            for (int i = 0; i < repositoryCount; i++) {
+                String id = readString();
+                String contentType = readString();
+                String url = readString();
+                RemoteRepository repository = repositories.get(id + "::" + url);
+                nodeRepositories.add(
+                        repository != null ? repository : new RemoteRepository.Builder(id, contentType, url).build());
+            }
+            node.setRepositories(nodeRepositories);
+            setData(node, DependencyManagerUtils.NODE_DATA_PREMANAGED_VERSION, readString());
+            setData(node, DependencyManagerUtils.NODE_DATA_PREMANAGED_SCOPE, readString());
+            setData(node, DependencyManagerUtils.NODE_DATA_PREMANAGED_OPTIONAL, readBoolean());
+            if (in.readBoolean()) {
+                setData(node, DependencyManagerUtils.NODE_DATA_PREMANAGED_EXCLUSIONS, readExclusions());
+            }
+            setData(node, DependencyManagerUtils.NODE_DATA_PREMANAGED_PROPERTIES, readMap());
+            setData(node, ConflictResolver.NODE_DATA_ORIGINAL_SCOPE, readString());
+            setData(node, ConflictResolver.NODE_DATA_ORIGINAL_OPTIONALITY, readBoolean());
+            return node;
+        }
+
+        private void setData(DefaultDependencyNode node, String key, Object value) {
+            if (value != null) {
+                node.setData(key, value);
+            }
+        }
+
+        private List<Artifact> readArtifacts() throws IOException {
+            int count = in.readInt();
+            ArrayList<Artifact> result = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                result.add(readArtifact());
+            }
+            return result;
+        }
+
+        private Artifact readArtifact() throws IOException {
+            String groupId = readString();
+            String artifactId = readString();
+            String classifier = readString();
+            String extension = readString();
+            String version = readString();
+            return new DefaultArtifact(groupId, artifactId, classifier, extension, version).setProperties(readMap());
+        }
+
+        private List<Exclusion> readExclusions() throws IOException {
+            int count = in.readInt();
+            ArrayList<Exclusion> result = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                result.add(new Exclusion(readString(), readString(), readString(), readString()));
+            }
+            return result;
+        }
+
+        private Map<String, String> readMap() throws IOException {
+            int count = in.readInt();
+            if (count < 0) {
+                return null;
+            }
+            LinkedHashMap<String, String> result = new LinkedHashMap<>();
+            for (int i = 0; i < count; i++) {
+                result.put(readString(), readString());
+            }
+            return result;
+        }
+
+        private Boolean readBoolean() throws IOException {
+            byte value = in.readByte();
+            return value == 0 ? null : value == 1;
+        }
+
+        private String readString() throws IOException {
+            int idx = in.readInt();
+            if (idx == STRING_NULL) {
+                return null;
+            } else if (idx == STRING_NEW) {
+                String value = in.readUTF();
+                strings.add(value);
+                return value;
+            } else {
+                return strings.get(idx);
+            }
+        }
+    }
+}
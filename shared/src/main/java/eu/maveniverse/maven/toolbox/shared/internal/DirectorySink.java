@@ -13,26 +13,66 @@ import eu.maveniverse.maven.toolbox.shared.ArtifactMatcher;
 import eu.maveniverse.maven.toolbox.shared.ArtifactNameMapper;
 import eu.maveniverse.maven.toolbox.shared.output.Output;
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystemException;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.util.artifact.ArtifactIdUtils;
 
 /**
  * Construction to accept collection of artifacts, for example like a filesystem directory.
  */
 public final class DirectorySink implements Artifacts.Sink {
+    /**
+     * Session config property to set the writing mode of directory sinks ({@code copy}, {@code link} or
+     * {@code symlink}).
+     */
+    public static final String CONFIG_PROP_MODE = "toolbox.sink.directory.mode";
+
+    /**
+     * Session config property to set the count of parallel writers of directory sinks. Falls back to
+     * {@link ParallelExecutor#CONFIG_PROP_PARALLELISM}.
+     */
+    public static final String CONFIG_PROP_PARALLELISM = "toolbox.sink.directory.parallelism";
+
     /**
      * Creates plain "flat" directory sink, that accepts all artifacts and copies them out having filenames according
      * to supplied {@link ArtifactNameMapper} and prevents overwrite (what you usually want).
      */
     public static DirectorySink flat(Output output, Path path, ArtifactNameMapper artifactNameMapper, boolean dryRun)
             throws IOException {
+        return flat(output, path, artifactNameMapper, Mode.COPY, 1, dryRun);
+    }
+
+    /**
+     * Creates plain "flat" directory sink as {@link #flat(Output, Path, ArtifactNameMapper, boolean)} does, but using
+     * given mode and count of parallel writers.
+     */
+    public static DirectorySink flat(
+            Output output,
+            Path path,
+            ArtifactNameMapper artifactNameMapper,
+            Mode mode,
+            int parallelism,
+            boolean dryRun)
+            throws IOException {
         return new DirectorySink(
-                output, path, Mode.COPY, ArtifactMatcher.unique(), false, artifactNameMapper, false, dryRun);
+                output, path, mode, ArtifactMatcher.unique(), false, artifactNameMapper, false, parallelism, dryRun);
     }
 
     /**
@@ -44,14 +84,24 @@ public final class DirectorySink implements Artifacts.Sink {
      * created).
      */
     public static DirectorySink repository(Output output, Path path, boolean dryRun) throws IOException {
+        return repository(output, path, Mode.COPY, 1, dryRun);
+    }
+
+    /**
+     * Creates "repository" directory sink as {@link #repository(Output, Path, boolean)} does, but using given mode
+     * and count of parallel writers.
+     */
+    public static DirectorySink repository(Output output, Path path, Mode mode, int parallelism, boolean dryRun)
+            throws IOException {
         return new DirectorySink(
                 output,
                 path,
-                Mode.COPY,
+                mode,
                 ArtifactMatcher.and(ArtifactMatcher.not(ArtifactMatcher.snapshot()), ArtifactMatcher.unique()),
                 true,
                 ArtifactNameMapper.repositoryDefault(),
                 false,
+                parallelism,
                 dryRun);
     }
 
@@ -59,8 +109,17 @@ public final class DirectorySink implements Artifacts.Sink {
      * Writing mode.
      */
     public enum Mode {
+        /**
+         * Copies files (the JDK uses in-kernel copy where file system supports it).
+         */
         COPY,
+        /**
+         * Hard links files, and falls back to copy where linking is not possible (like across file systems).
+         */
         LINK,
+        /**
+         * Symbolically links files.
+         */
         SYMLINK
     }
 
@@ -73,9 +132,17 @@ public final class DirectorySink implements Artifacts.Sink {
     private final Function<Artifact, String> artifactNameMapper;
     private final boolean allowOverwrite;
     private final HashSet<Path> writtenPaths;
+    private final Set<Path> createdPaths;
     private final Path indexFile;
+    private final Set<String> existingIndexLines;
     private final IndexFileWriter indexFileWriter;
     private final StandardCopyOption[] copyFlags;
+    private final ParallelExecutor writers;
+    private final ArrayList<Future<?>> pending;
+    private final AtomicInteger copied;
+    private final AtomicInteger linked;
+    private final AtomicInteger skipped;
+    private final long started;
     private final boolean dryRun;
 
     /**
@@ -88,6 +155,7 @@ public final class DirectorySink implements Artifacts.Sink {
      * @param artifactNameMapper The artifact name mapper, that decides what file name will be of the artifact.
      * @param allowOverwrite Does sink allow overwrites. Tip: you usually do not want to allow, as that means you have
      *                       some mismatch in name mapping or alike.
+     * @param parallelism The count of parallel writers.
      * @throws IOException In case of IO problem.
      */
     private DirectorySink(
@@ -98,6 +166,7 @@ public final class DirectorySink implements Artifacts.Sink {
             boolean failIfUnmatched,
             Function<Artifact, String> artifactNameMapper,
             boolean allowOverwrite,
+            int parallelism,
             boolean dryRun)
             throws IOException {
         this.output = requireNonNull(output, "output");
@@ -118,11 +187,21 @@ public final class DirectorySink implements Artifacts.Sink {
         this.artifactNameMapper = requireNonNull(artifactNameMapper, "artifactNameMapper");
         this.allowOverwrite = allowOverwrite;
         this.writtenPaths = new HashSet<>();
+        this.createdPaths = ConcurrentHashMap.newKeySet();
         this.indexFile = directory.resolve(".index");
+        this.existingIndexLines = !directoryCreated && Files.isRegularFile(indexFile)
+                ? new HashSet<>(Files.readAllLines(indexFile, StandardCharsets.UTF_8))
+                : Set.of();
         this.indexFileWriter = new IndexFileWriter(indexFile, !directoryCreated, dryRun);
         this.copyFlags = allowOverwrite
                 ? new StandardCopyOption[] {StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES}
                 : new StandardCopyOption[] {StandardCopyOption.COPY_ATTRIBUTES};
+        this.writers = new ParallelExecutor("directory-sink", parallelism);
+        this.pending = new ArrayList<>();
+        this.copied = new AtomicInteger();
+        this.linked = new AtomicInteger();
+        this.skipped = new AtomicInteger();
+        this.started = System.nanoTime();
         this.dryRun = dryRun;
     }
 
@@ -134,6 +213,10 @@ public final class DirectorySink implements Artifacts.Sink {
         return indexFile;
     }
 
+    /**
+     * Accepts artifact: validates and records it right away, while the file is written by one of the writers. Writing
+     * is skipped, if target already exists and is identical to artifact file.
+     */
     @Override
     public void accept(Artifact artifact) throws IOException {
         requireNonNull(artifact, "artifact");
@@ -147,26 +230,18 @@ public final class DirectorySink implements Artifacts.Sink {
                 throw new IOException("Overwrite prevented; check mappings");
             }
             output.chatter("Accepting artifact {} -> ", artifact, target);
-            indexFileWriter.write(artifact, name);
+            String indexLine = ArtifactIdUtils.toId(artifact) + " >> " + name;
+            boolean indexed = existingIndexLines.contains(indexLine);
+            if (!indexed) {
+                indexFileWriter.write(artifact, name);
+            }
             Files.createDirectories(target.getParent());
-            switch (mode) {
-                case COPY:
-                    if (!dryRun) {
-                        Files.copy(artifact.getFile().toPath(), target, copyFlags);
-                    }
-                    break;
-                case LINK:
-                    if (!dryRun) {
-                        Files.createLink(target, artifact.getFile().toPath());
-                    }
-                    break;
-                case SYMLINK:
-                    if (!dryRun) {
-                        Files.createSymbolicLink(target, artifact.getFile().toPath());
-                    }
-                    break;
-                default:
-                    throw new IllegalArgumentException("unknown mode");
+            if (!dryRun) {
+                Path source = artifact.getFile().toPath();
+                pending.add(writers.submit(() -> {
+                    write(source, target, indexed);
+                    return null;
+                }));
             }
         } else {
             if (failIfUnmatched) {
@@ -175,13 +250,117 @@ public final class DirectorySink implements Artifacts.Sink {
         }
     }
 
+    @Override
+    public void accept(Collection<Artifact> artifacts) throws IOException {
+        requireNonNull(artifacts, "artifacts");
+        try {
+            for (Artifact artifact : artifacts) {
+                accept(artifact);
+            }
+            await();
+        } catch (IOException e) {
+            cleanup(e);
+            throw e;
+        }
+    }
+
+    private void write(Path source, Path target, boolean indexed) throws IOException {
+        if (Files.exists(target, LinkOption.NOFOLLOW_LINKS)) {
+            if (identical(source, target, indexed)) {
+                output.chatter("Skipping {}: identical file exists", target);
+                skipped.incrementAndGet();
+                return;
+            } else if (!allowOverwrite) {
+                throw new IOException("Overwrite prevented; different file exists: " + target);
+            }
+            Files.delete(target);
+        }
+        switch (mode) {
+            case COPY:
+                Files.copy(source, target, copyFlags);
+                copied.incrementAndGet();
+                break;
+            case LINK:
+                try {
+                    Files.createLink(target, source);
+                    linked.incrementAndGet();
+                } catch (FileSystemException | UnsupportedOperationException e) {
+                    output.chatter("Could not link {}, copying it instead", target);
+                    Files.copy(source, target, copyFlags);
+                    copied.incrementAndGet();
+                }
+                break;
+            case SYMLINK:
+                Files.createSymbolicLink(target, source);
+                linked.incrementAndGet();
+                break;
+            default:
+                throw new IllegalArgumentException("unknown mode");
+        }
+        createdPaths.add(target);
+    }
+
+    /**
+     * Tells is existing target identical to source: it is, if it is same file (is a link to it), or has same size and
+     * either was written by this sink before (is indexed) and has same modification time, or has same SHA-1.
+     */
+    private boolean identical(Path source, Path target, boolean indexed) throws IOException {
+        if (mode == Mode.SYMLINK) {
+            return Files.isSymbolicLink(target) && source.equals(Files.readSymbolicLink(target));
+        }
+        if (Files.isSymbolicLink(target)) {
+            return false;
+        }
+        if (Files.isSameFile(source, target)) {
+            return true;
+        }
+        if (Files.size(source) != Files.size(target)) {
+            return false;
+        }
+        if (indexed && Files.getLastModifiedTime(source).equals(Files.getLastModifiedTime(target))) {
+            return true;
+        }
+        return ToolboxCommandoImpl.sha1(source).equals(ToolboxCommandoImpl.sha1(target));
+    }
+
+    /**
+     * Waits for all pending writes, and throws the first failure, if any.
+     */
+    private void await() throws IOException {
+        IOException failure = null;
+        for (Future<?> future : pending) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                IOException ex = e.getCause() instanceof IOException io ? io : new IOException(e.getCause());
+                if (failure == null) {
+                    failure = ex;
+                } else {
+                    failure.addSuppressed(ex);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for writes");
+            }
+        }
+        pending.clear();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
     @Override
     public void cleanup(Exception e) {
         indexFileWriter.fail();
         if (dryRun) {
             return;
         }
-        writtenPaths.forEach(p -> {
+        try {
+            await();
+        } catch (IOException ex) {
+            // ignore
+        }
+        createdPaths.forEach(p -> {
             try {
                 Files.deleteIfExists(p);
             } catch (IOException ex) {
@@ -199,6 +378,28 @@ public final class DirectorySink implements Artifacts.Sink {
 
     @Override
     public void close() throws IOException {
-        indexFileWriter.close();
+        try {
+            try {
+                await();
+            } catch (IOException e) {
+                cleanup(e);
+                throw e;
+            }
+            if (!dryRun && !writtenPaths.isEmpty()) {
+                output.suggest(
+                        "Materialized {} files into {} ({} copied, {} linked, {} skipped as identical) in {} ms"
+                                + " using {} writers",
+                        writtenPaths.size(),
+                        directory,
+                        copied.get(),
+                        linked.get(),
+                        skipped.get(),
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started),
+                        writers.getParallelism());
+            }
+        } finally {
+            writers.close();
+            indexFileWriter.close();
+        }
     }
 }
@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.toolbox.shared.internal;
+
+import static java.util.Objects.requireNonNull;
+
+import eu.maveniverse.maven.toolbox.shared.internal.ModuleDescriptorExtractingSink.ModuleDescriptor;
+import eu.maveniverse.maven.toolbox.shared.output.Output;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.util.ConfigUtils;
+
+/**
+ * Persistent cache of file analysis results (checksums, module descriptors and bytecode versions, as produced by
+ * {@link JarAnalyzer}), keyed by absolute path of file. Cached results are used only if size and last modification
+ * time of file are unchanged, and if they contain all the requested checksums. The cache is a single gzipped file,
+ * and least recently used entries are evicted once cache grows over its limit.
+ */
+public final class FileAnalysisCache extends CacheSupport {
+    /**
+     * Session config property to enable or disable (bypass) the file analysis cache.
+     */
+    public static final String CONFIG_PROP_ENABLED = "toolbox.cache.analysis.enabled";
+
+    /**
+     * Session config property to set the maximum count of file analysis results cached.
+     */
+    public static final String CONFIG_PROP_MAX_ENTRIES = "toolbox.cache.analysis.maxEntries";
+
+    public static final int DEFAULT_MAX_ENTRIES = 100000;
+
+    private static final String FILE_NAME = "file-analysis.bin";
+
+    private static final int FORMAT_VERSION = 1;
+
+    private record Entry(long size, long lastModified, JarAnalyzer.Analysis analysis) {}
+
+    /**
+     * Creates file analysis cache configured from session, using passed in cache basedir. If disabled in session,
+     * returned cache is a no-op one.
+     */
+    public static FileAnalysisCache create(Output output, RepositorySystemSession session, Path cacheBasedir) {
+        int maxEntries = ConfigUtils.getInteger(session, DEFAULT_MAX_ENTRIES, CONFIG_PROP_MAX_ENTRIES);
+        return new FileAnalysisCache(
+                output, location(session, cacheBasedir, CONFIG_PROP_ENABLED, FILE_NAME, maxEntries > 0), maxEntries);
+    }
+
+    private final int maxEntries;
+    private final LinkedHashMap<String, Entry> entries;
+    private boolean loaded;
+    private boolean dirty;
+
+    public FileAnalysisCache(Output output, Path file, int maxEntries) {
+        super(output, file);
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > FileAnalysisCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached analysis of given file, if present, file is unchanged, and cached analysis has all the
+     * requested checksums (and was analyzed as JAR, if requested).
+     */
+    public Optional<JarAnalyzer.Analysis> get(
+            Path path, long size, long lastModified, Collection<String> checksums, boolean jar) {
+        requireNonNull(path, "path");
+        requireNonNull(checksums, "checksums");
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+        Entry entry;
+        synchronized (this) {
+            load();
+            entry = entries.get(key(path));
+        }
+        if (entry == null
+                || entry.size() != size
+                || entry.lastModified() != lastModified
+                || !entry.analysis().checksums().keySet().containsAll(checksums)
+                || (jar && entry.analysis().module() == null)) {
+            miss();
+            return Optional.empty();
+        }
+        hit();
+        return Optional.of(entry.analysis());
+    }
+
+    /**
+     * Records the analysis of given file. Changes are persisted on {@link #save()}.
+     */
+    public void put(Path path, long size, long lastModified, JarAnalyzer.Analysis analysis) {
+        requireNonNull(path, "path");
+        requireNonNull(analysis, "analysis");
+        if (!isEnabled()) {
+            return;
+        }
+        synchronized (this) {
+            load();
+            entries.put(key(path), new Entry(size, lastModified, analysis));
+            dirty = true;
+        }
+        store();
+    }
+
+    /**
+     * Persists the cache, if it was modified. Entries stored meanwhile by other processes are merged in.
+     */
+    public synchronized void save() {
+        if (!isEnabled() || !dirty) {
+            return;
+        }
+        try {
+            LinkedHashMap<String, Entry> merged = merge(read(), entries, maxEntries);
+            write(location, os -> {
+                try (DataOutputStream out =
+                        new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(os)))) {
+                    out.writeInt(FORMAT_VERSION);
+                    out.writeInt(merged.size());
+                    for (Map.Entry<String, Entry> entry : merged.entrySet()) {
+                        out.writeUTF(entry.getKey());
+                        write(out, entry.getValue());
+                    }
+                }
+            });
+            dirty = false;
+        } catch (IOException e) {
+            output.chatter("Could not save file analysis cache {}", location, e);
+        }
+    }
+
+    private static String key(Path path) {
+        return path.toAbsolutePath().normalize().toString();
+    }
+
+    private void load() {
+        if (!loaded) {
+            loaded = true;
+            try {
+                entries.putAll(read());
+            } catch (IOException | RuntimeException e) {
+                output.chatter("Could not load file analysis cache {}", location, e);
+            }
+        }
+    }
+
+    private LinkedHashMap<String, Entry> read() throws IOException {
+        LinkedHashMap<String, Entry> result = new LinkedHashMap<>();
+        if (Files.isRegularFile(location)) {
+            try (DataInputStream in = new DataInputStream(
+                    new BufferedInputStream(new GZIPInputStream(Files.newInputStream(location))))) {
+                if (in.readInt() != FORMAT_VERSION) {
+                    return result;
+                }
+                int count = in.readInt();
+                for (int i = 0; i < count; i++) {
+                    result.put(in.readUTF(), read(in));
+                }
+            }
+        }
+        return result;
+    }
+
+    private static void write(DataOutputStream out, Entry entry) throws IOException {
+        JarAnalyzer.Analysis analysis = entry.analysis();
+        out.writeLong(entry.size());
+        out.writeLong(entry.lastModified());
+        out.writeLong(analysis.size());
+        out.writeInt(analysis.checksums().size());
+        for (Map.Entry<String, String> checksum : analysis.checksums().entrySet()) {
+            out.writeUTF(checksum.getKey());
+            out.writeUTF(checksum.getValue());
+        }
+        ModuleDescriptor module = analysis.module();
+        out.writeBoolean(module != null);
+        if (module != null) {
+            out.writeBoolean(module.available());
+            out.writeUTF(module.name());
+            out.writeBoolean(module.automatic());
+            out.writeUTF(module.moduleNameSource());
+        }
+        out.writeInt(analysis.bytecode().size());
+        for (Map.Entry<Integer, Map<Integer, Integer>> release : analysis.bytecode().entrySet()) {
+            out.writeInt(release.getKey());
+            out.writeInt(release.getValue().size());
+            for (Map.Entry<Integer, Integer> major : release.getValue().entrySet()) {
+                out.writeInt(major.getKey());
+                out.writeInt(major.getValue());
+            }
+        }
+    }
+
+    private static Entry read(DataInputStream in) throws IOException {
+        long size = in.readLong();
+        long lastModified = in.readLong();
+        long analyzedSize = in.readLong();
+        LinkedHashMap<String, String> checksums = new LinkedHashMap<>();
+        int checksumCount = in.readInt();
+        for (int i = 0; i < checksumCount; i++) {
+            checksums.put(in.readUTF(), in.readUTF());
+        }
+        ModuleDescriptor module = null;
+        if (in.readBoolean()) {
+            boolean available = in.readBoolean();
+            String name = in.readUTF();
+            boolean automatic = in.readBoolean();
+            String moduleNameSource = in.readUTF();
+            module = ModuleDescriptorExtractingSink.moduleDescriptor(
+                    available ? name : null, automatic, moduleNameSource);
+        }
+        TreeMap<Integer, Map<Integer, Integer>> bytecode = new TreeMap<>();
+        int releaseCount = in.readInt();
+        for (int i = 0; i < releaseCount; i++) {
+            int release = in.readInt();
+            TreeMap<Integer, Integer> histogram = new TreeMap<>();
+            int majorCount = in.readInt();
+            for (int j = 0; j < majorCount; j++) {
+                histogram.put(in.readInt(), in.readInt());
+            }
+            bytecode.put(release, Collections.unmodifiableMap(histogram));
+        }
+        return new Entry(
+                size,
+                lastModified,
+                new JarAnalyzer.Analysis(
+                        analyzedSize,
+                        Collections.unmodifiableMap(checksums),
+                        module,
+                        Collections.unmodifiableMap(bytecode)));
+    }
+}
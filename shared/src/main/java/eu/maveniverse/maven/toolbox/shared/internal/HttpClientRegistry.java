@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.toolbox.shared.internal;
+
+import static java.util.Objects.requireNonNull;
+
+import java.net.http.HttpClient;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.repository.Authentication;
+import org.eclipse.aether.repository.Proxy;
+import org.eclipse.aether.repository.RemoteRepository;
+
+/**
+ * Registry of {@link HttpClient} instances, shared by all search backends. Clients are keyed by repository id, URL,
+ * authentication and proxy, so backends (and commands) targeting same repository reuse the same client, along with
+ * its connection pool (keep-alive connections and HTTP/2 multiplexing). All clients use one executor, that is shut
+ * down when registry is closed. Registry also holds the {@link RequestScheduler}, so per-host limits apply to all
+ * backends using it.
+ */
+public final class HttpClientRegistry implements AutoCloseable {
+    private record Key(String id, String url, Authentication authentication, Proxy proxy) {}
+
+    private final ConcurrentHashMap<Key, HttpClient> clients;
+    private final ExecutorService executor;
+    private final RequestScheduler requestScheduler;
+    private volatile boolean closed;
+
+    public HttpClientRegistry() {
+        this.clients = new ConcurrentHashMap<>();
+        AtomicInteger counter = new AtomicInteger(0);
+        this.executor = Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "toolbox-http-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.requestScheduler = new RequestScheduler();
+    }
+
+    public RequestScheduler getRequestScheduler() {
+        return requestScheduler;
+    }
+
+    /**
+     * Returns the client for given repository, creating it if needed.
+     */
+    public HttpClient get(RepositorySystemSession session, RemoteRepository repository) {
+        requireNonNull(session, "session");
+        requireNonNull(repository, "repository");
+        if (closed) {
+            throw new IllegalStateException("HttpClientRegistry is closed");
+        }
+        Key key = new Key(
+                repository.getId(), repository.getUrl(), repository.getAuthentication(), repository.getProxy());
+        return clients.computeIfAbsent(
+                key, k -> Java11HttpClientFactory.buildHttpClient(session, repository, executor));
+    }
+
+    /**
+     * Returns the count of clients created so far.
+     */
+    public int size() {
+        return clients.size();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        clients.clear();
+        executor.shutdownNow();
+    }
+}
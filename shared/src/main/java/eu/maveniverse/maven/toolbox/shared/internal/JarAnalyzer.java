@@ -0,0 +1,318 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.toolbox.shared.internal;
+
+import static java.util.Objects.requireNonNull;
+
+import eu.maveniverse.maven.toolbox.shared.internal.ModuleDescriptorExtractingSink.ModuleDescriptor;
+import eu.maveniverse.maven.toolbox.shared.output.Output;
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.module.InvalidModuleDescriptorException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipInputStream;
+import org.eclipse.aether.spi.connector.checksum.ChecksumAlgorithm;
+import org.eclipse.aether.spi.connector.checksum.ChecksumAlgorithmFactory;
+
+/**
+ * Analyzes files in a single pass: file is read once as a stream, and read bytes are fed to all checksum algorithms
+ * while (if file is a JAR) its entries are parsed at the same time. Gathers the size, checksums, and for JARs the
+ * module descriptor (same as {@link java.lang.module.ModuleFinder} would derive it) and a bytecode version histogram.
+ * Results are looked up in and recorded to passed in {@link FileAnalysisCache}, so unchanged files are not even opened.
+ */
+public final class JarAnalyzer {
+    private static final String VERSIONS = "META-INF/versions/";
+
+    private static final String MODULE_INFO = "module-info.class";
+
+    /**
+     * Size of read buffers: {@link ZipInputStream} reads in small chunks, that should not hit the file (nor the
+     * checksum algorithms) one by one.
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final Pattern DASH_VERSION = Pattern.compile("-(\\d+(\\.|$))");
+
+    /**
+     * Result of analysis.
+     *
+     * @param size The size of file in bytes.
+     * @param checksums The checksums of file, keyed by algorithm name.
+     * @param module The module descriptor, or {@code null} if file was not analyzed as JAR.
+     * @param bytecode The bytecode version histogram: Java release (where {@code 0} stands for unversioned classes,
+     *                 others for versioned classes of multi-release JARs) to class file major version to class count.
+     */
+    public record Analysis(
+            long size,
+            Map<String, String> checksums,
+            ModuleDescriptor module,
+            Map<Integer, Map<Integer, Integer>> bytecode) {
+        /**
+         * Returns {@code true} if JAR has versioned classes.
+         */
+        public boolean multiRelease() {
+            return bytecode.keySet().stream().anyMatch(r -> r != 0);
+        }
+    }
+
+    private final Output output;
+    private final List<ChecksumAlgorithmFactory> algorithmFactories;
+    private final FileAnalysisCache cache;
+
+    public JarAnalyzer(Output output, List<ChecksumAlgorithmFactory> algorithmFactories, FileAnalysisCache cache) {
+        this.output = requireNonNull(output, "output");
+        this.algorithmFactories = requireNonNull(algorithmFactories, "algorithmFactories");
+        this.cache = requireNonNull(cache, "cache");
+    }
+
+    /**
+     * Analyzes given file. If {@code jar} is {@code true}, file is parsed as JAR as well.
+     */
+    public Analysis analyze(Path file, boolean jar) throws IOException {
+        requireNonNull(file, "file");
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        long size = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        List<String> names = algorithmFactories.stream()
+                .map(ChecksumAlgorithmFactory::getName)
+                .collect(Collectors.toList());
+        Optional<Analysis> cached = cache.get(file, size, lastModified, names, jar);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        Analysis analysis = read(file, jar);
+        if (analysis.size() == size) {
+            cache.put(file, size, lastModified, analysis);
+        }
+        return analysis;
+    }
+
+    private Analysis read(Path file, boolean jar) throws IOException {
+        LinkedHashMap<String, ChecksumAlgorithm> algorithms = new LinkedHashMap<>();
+        for (ChecksumAlgorithmFactory factory : algorithmFactories) {
+            algorithms.put(factory.getName(), factory.getAlgorithm());
+        }
+        // buffered on both sides: digesting stream is fed in big chunks, and so are the algorithms
+        try (DigestingInputStream digesting = new DigestingInputStream(
+                        new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE), algorithms.values());
+                InputStream input = new BufferedInputStream(digesting, BUFFER_SIZE)) {
+            ModuleDescriptor module = null;
+            TreeMap<Integer, Map<Integer, Integer>> bytecode = new TreeMap<>();
+            if (jar) {
+                module = analyzeJar(file, input, bytecode);
+            }
+            input.transferTo(OutputStream.nullOutputStream());
+
+            LinkedHashMap<String, String> checksums = new LinkedHashMap<>();
+            algorithms.forEach((name, algorithm) -> checksums.put(name, algorithm.checksum()));
+            return new Analysis(
+                    digesting.count,
+                    Collections.unmodifiableMap(checksums),
+                    module,
+                    Collections.unmodifiableMap(bytecode));
+        }
+    }
+
+    private ModuleDescriptor analyzeJar(Path file, InputStream input, TreeMap<Integer, Map<Integer, Integer>> bytecode)
+            throws IOException {
+        Manifest manifest = null;
+        byte[] moduleInfo = null;
+        TreeMap<Integer, byte[]> versionedModuleInfos = new TreeMap<>();
+        boolean topLevelClass = false;
+        // not closed: closing would close the underlying stream that still needs to be drained
+        ZipInputStream zip = new ZipInputStream(input);
+        try {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                String name = entry.getName();
+                if (entry.isDirectory()) {
+                    continue;
+                }
+                if (JarFile.MANIFEST_NAME.equalsIgnoreCase(name)) {
+                    manifest = new Manifest(zip);
+                    continue;
+                }
+                if (!name.endsWith(".class")) {
+                    continue;
+                }
+                int release = 0;
+                String className = name;
+                if (name.startsWith(VERSIONS)) {
+                    int slash = name.indexOf('/', VERSIONS.length());
+                    if (slash < 0) {
+                        continue;
+                    }
+                    try {
+                        release = Integer.parseInt(name.substring(VERSIONS.length(), slash));
+                    } catch (NumberFormatException e) {
+                        continue;
+                    }
+                    className = name.substring(slash + 1);
+                } else if (name.startsWith("META-INF/")) {
+                    continue;
+                }
+                if (MODULE_INFO.equals(className)) {
+                    if (release == 0) {
+                        moduleInfo = zip.readAllBytes();
+                    } else {
+                        versionedModuleInfos.put(release, zip.readAllBytes());
+                    }
+                    continue;
+                }
+                if (release == 0 && className.indexOf('/') < 0) {
+                    topLevelClass = true;
+                }
+                byte[] header = zip.readNBytes(8);
+                if (header.length == 8
+                        && (header[0] & 0xFF) == 0xCA
+                        && (header[1] & 0xFF) == 0xFE
+                        && (header[2] & 0xFF) == 0xBA
+                        && (header[3] & 0xFF) == 0xBE) {
+                    int major = ((header[6] & 0xFF) << 8) | (header[7] & 0xFF);
+                    bytecode.computeIfAbsent(release, k -> new TreeMap<>()).merge(major, 1, Integer::sum);
+                }
+            }
+        } catch (ZipException e) {
+            output.warn("Could not fully analyze {}:", file.getFileName(), e);
+        }
+
+        if (manifest != null && Boolean.parseBoolean(manifest.getMainAttributes().getValue("Multi-Release"))) {
+            Map.Entry<Integer, byte[]> versioned = versionedModuleInfos.floorEntry(Runtime.version().feature());
+            if (versioned != null) {
+                moduleInfo = versioned.getValue();
+            }
+        }
+        return moduleDescriptor(file, manifest, moduleInfo, topLevelClass);
+    }
+
+    private ModuleDescriptor moduleDescriptor(Path file, Manifest manifest, byte[] moduleInfo, boolean topLevelClass) {
+        try {
+            if (moduleInfo != null) {
+                java.lang.module.ModuleDescriptor descriptor =
+                        java.lang.module.ModuleDescriptor.read(ByteBuffer.wrap(moduleInfo));
+                return ModuleDescriptorExtractingSink.moduleDescriptor(descriptor.name(), false, "");
+            }
+            if (topLevelClass) {
+                throw new InvalidModuleDescriptorException("class found in top-level directory");
+            }
+            String name = null;
+            String moduleNameSource = "MANIFEST";
+            if (manifest != null) {
+                name = manifest.getMainAttributes().getValue("Automatic-Module-Name");
+            }
+            if (name == null) {
+                name = automaticModuleName(file.getFileName().toString());
+                moduleNameSource = "FILENAME";
+            }
+            java.lang.module.ModuleDescriptor.newAutomaticModule(name);
+            return ModuleDescriptorExtractingSink.moduleDescriptor(name, true, moduleNameSource);
+        } catch (InvalidModuleDescriptorException | IllegalArgumentException e) {
+            output.warn("Can't extract module name from {}:", file.getFileName(), e);
+            return ModuleDescriptorExtractingSink.moduleDescriptor(null, false, "");
+        }
+    }
+
+    /**
+     * Derives the automatic module name from JAR file name, same as {@link java.lang.module.ModuleFinder} does.
+     */
+    static String automaticModuleName(String fileName) {
+        String name = fileName.endsWith(".jar") ? fileName.substring(0, fileName.length() - 4) : fileName;
+        Matcher matcher = DASH_VERSION.matcher(name);
+        if (matcher.find()) {
+            name = name.substring(0, matcher.start());
+        }
+        name = name.replaceAll("[^A-Za-z0-9]", ".");
+        name = name.replaceAll("(\\.)(\\1)+", ".");
+        name = name.replaceAll("^\\.+", "");
+        name = name.replaceAll("\\.+$", "");
+        return name;
+    }
+
+    /**
+     * Formats the bytecode histogram of one release as {@code "61 (Java 17) = 12 class"} items.
+     */
+    static String formatBytecode(Map<Integer, Integer> histogram) {
+        ArrayList<String> items = new ArrayList<>();
+        histogram.forEach((major, count) -> items.add(major + " (Java "
+                + (major >= 49 ? String.valueOf(major - 44) : "1." + (major - 44)) + ") = " + count + " class"));
+        return String.join(" ", items);
+    }
+
+    /**
+     * Stream that feeds all bytes read through it to checksum algorithms, and counts them. Skipping is implemented
+     * by reading, so no byte escapes the algorithms.
+     */
+    private static final class DigestingInputStream extends FilterInputStream {
+        private final List<ChecksumAlgorithm> algorithms;
+        private final byte[] single = new byte[1];
+        private long count;
+
+        private DigestingInputStream(InputStream in, Collection<ChecksumAlgorithm> algorithms) {
+            super(in);
+            this.algorithms = new ArrayList<>(algorithms);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int n = read(single, 0, 1);
+            return n == -1 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = in.read(b, off, len);
+            if (n > 0) {
+                for (ChecksumAlgorithm algorithm : algorithms) {
+                    algorithm.update(ByteBuffer.wrap(b, off, n));
+                }
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            byte[] buffer = new byte[(int) Math.min(8192, Math.max(0, n))];
+            long skipped = 0;
+            while (skipped < n) {
+                int r = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+                if (r < 0) {
+                    break;
+                }
+                skipped += r;
+            }
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+}
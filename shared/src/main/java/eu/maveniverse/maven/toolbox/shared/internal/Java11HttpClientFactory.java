@@ -14,6 +14,7 @@ import java.net.ProxySelector;
 import java.net.http.HttpClient;
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.concurrent.Executor;
 import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.repository.AuthenticationContext;
 import org.eclipse.aether.repository.RemoteRepository;
@@ -25,14 +26,27 @@ public final class Java11HttpClientFactory {
     public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(10L);
 
     public static HttpClient buildHttpClient(RepositorySystemSession session, RemoteRepository repository) {
-        return buildHttpClient(DEFAULT_TIMEOUT, session, repository);
+        return buildHttpClient(DEFAULT_TIMEOUT, session, repository, null);
+    }
+
+    /**
+     * Builds HTTP client that uses given executor, see {@link HttpClient.Builder#executor(Executor)}.
+     */
+    public static HttpClient buildHttpClient(
+            RepositorySystemSession session, RemoteRepository repository, Executor executor) {
+        return buildHttpClient(DEFAULT_TIMEOUT, session, repository, executor);
     }
 
     private static HttpClient buildHttpClient(
-            Duration timeout, RepositorySystemSession session, RemoteRepository repository) {
+            Duration timeout, RepositorySystemSession session, RemoteRepository repository, Executor executor) {
 
-        HttpClient.Builder builder =
-                HttpClient.newBuilder().connectTimeout(timeout).followRedirects(HttpClient.Redirect.NEVER);
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(timeout)
+                .followRedirects(HttpClient.Redirect.NEVER);
+        if (executor != null) {
+            builder.executor(executor);
+        }
 
         HashMap<Authenticator.RequestorType, PasswordAuthentication> authentications = new HashMap<>();
         try (AuthenticationContext repoAuthContext = AuthenticationContext.forRepository(session, repository)) {
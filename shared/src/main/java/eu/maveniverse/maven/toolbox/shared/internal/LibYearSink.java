@@ -12,7 +12,6 @@ import static java.util.Objects.requireNonNull;
 import eu.maveniverse.maven.mima.context.Context;
 import eu.maveniverse.maven.toolbox.shared.output.Output;
 import java.io.IOException;
-import java.io.UncheckedIOException;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
@@ -20,14 +19,19 @@ import java.time.temporal.ChronoUnit;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import org.apache.maven.search.api.SearchBackend;
@@ -40,11 +44,18 @@ import org.eclipse.aether.util.artifact.ArtifactIdUtils;
 import org.eclipse.aether.version.Version;
 
 /**
- * Construction to calculate "libyear".
+ * Construction to calculate "libyear". Accepted artifacts are collected, and their newer versions and publish dates
+ * are looked up concurrently when sink is closed.
  *
  * @see <a href="https://libyear.com/">libyear</a>
  */
 public final class LibYearSink implements Artifacts.Sink {
+    /**
+     * Session config property to set the parallelism of libYear lookups. Falls back to
+     * {@link ParallelExecutor#CONFIG_PROP_PARALLELISM}.
+     */
+    public static final String CONFIG_PROP_LIBYEAR_PARALLELISM = "toolbox.libyear.parallelism";
+
     public static final class LibYear {
         public static final float UNKNOWN_AGE = -1f;
 
@@ -105,7 +116,9 @@ public final class LibYearSink implements Artifacts.Sink {
             boolean upToDate,
             Predicate<Version> versionFilter,
             BiFunction<Artifact, List<Version>, String> versionSelector,
-            List<SearchBackend> searchBackends) {
+            List<SearchBackend> searchBackends,
+            PublishDateCache publishDateCache,
+            int parallelism) {
         return new LibYearSink(
                 output,
                 subject,
@@ -115,7 +128,9 @@ public final class LibYearSink implements Artifacts.Sink {
                 upToDate,
                 versionFilter,
                 versionSelector,
-                searchBackends);
+                searchBackends,
+                publishDateCache,
+                parallelism);
     }
 
     private final Output output;
@@ -131,6 +146,8 @@ public final class LibYearSink implements Artifacts.Sink {
     private final DoubleAdder totalLibyearAdder;
 
     private final List<SearchBackend> searchBackends;
+    private final PublishDateCache publishDateCache;
+    private final int parallelism;
 
     private LibYearSink(
             Output output,
@@ -141,7 +158,9 @@ public final class LibYearSink implements Artifacts.Sink {
             boolean upToDate,
             Predicate<Version> versionFilter,
             BiFunction<Artifact, List<Version>, String> versionSelector,
-            List<SearchBackend> searchBackends) {
+            List<SearchBackend> searchBackends,
+            PublishDateCache publishDateCache,
+            int parallelism) {
         this.output = requireNonNull(output, "logger");
         this.subject = requireNonNull(subject, "subject");
         this.context = requireNonNull(context, "context");
@@ -154,6 +173,8 @@ public final class LibYearSink implements Artifacts.Sink {
         this.artifacts = new CopyOnWriteArraySet<>();
         this.totalLibyearAdder = new DoubleAdder();
         this.searchBackends = requireNonNull(searchBackends);
+        this.publishDateCache = requireNonNull(publishDateCache, "publishDateCache");
+        this.parallelism = parallelism;
     }
 
     public float getTotalLibyear() {
@@ -174,33 +195,79 @@ public final class LibYearSink implements Artifacts.Sink {
     @Override
     public void accept(Artifact artifact) throws IOException {
         requireNonNull(artifact, "artifact");
-        getLibYear().computeIfAbsent(artifact, a -> {
-            output.chatter("Accepted and calculating libYear for {}", artifact);
-            String currentVersion = artifact.getVersion();
-            Instant currentVersionInstant = null;
-            List<Version> allVersions = null;
-            String latestVersion = currentVersion;
-            Instant latestVersionInstant = null;
-            try {
-                currentVersionInstant = artifactPublishDate(artifact);
-                allVersions = toolboxResolver.findNewerVersions(artifact, versionFilter);
-                latestVersion = versionSelector.apply(artifact, allVersions);
-                latestVersionInstant = Objects.equals(currentVersion, latestVersion)
-                        ? currentVersionInstant
-                        : artifactPublishDate(artifact.setVersion(latestVersion));
-            } catch (VersionRangeResolutionException e) {
-                // ignore
-            } catch (IOException e) {
-                throw new UncheckedIOException(e);
-            }
-            return new LibYear(currentVersion, currentVersionInstant, allVersions, latestVersion, latestVersionInstant);
-        });
+        output.chatter("Accepted libYear calculation for {}", artifact);
         artifacts.add(artifact);
     }
 
+    /**
+     * Calculates libYear of all accepted artifacts not calculated yet in this session. Newer versions are discovered
+     * in one batch, while publish dates not present in cache are looked up concurrently.
+     */
+    private void calculate() throws Exception {
+        ConcurrentMap<Artifact, LibYear> libYears = getLibYear();
+        List<Artifact> pending = artifacts.stream().filter(a -> !libYears.containsKey(a)).toList();
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        long started = System.nanoTime();
+        Map<Artifact, List<Version>> newerVersions;
+        try {
+            newerVersions = toolboxResolver.findNewerVersions(pending, versionFilter);
+        } catch (VersionRangeResolutionException e) {
+            output.warn("Could not discover newer versions", e);
+            newerVersions = Collections.emptyMap();
+        }
+        Map<Artifact, List<Version>> allVersions = newerVersions;
+        LongAdder lookups = new LongAdder();
+        LongAdder latencyNanos = new LongAdder();
+        LongAccumulator maxLatencyNanos = new LongAccumulator(Math::max, 0);
+        try (ParallelExecutor executor = new ParallelExecutor("libyear", parallelism)) {
+            executor.map(pending, artifact -> {
+                long lookupStarted = System.nanoTime();
+                String currentVersion = artifact.getVersion();
+                List<Version> versions = allVersions.getOrDefault(artifact, List.of());
+                Instant currentVersionInstant = artifactPublishDate(artifact, lookups);
+                String latestVersion = versionSelector.apply(artifact, versions);
+                Instant latestVersionInstant = currentVersionInstant;
+                if (!Objects.equals(currentVersion, latestVersion)) {
+                    latestVersionInstant = artifactPublishDate(artifact.setVersion(latestVersion), lookups);
+                }
+                libYears.putIfAbsent(
+                        artifact,
+                        new LibYear(
+                                currentVersion, currentVersionInstant, versions, latestVersion, latestVersionInstant));
+                long latency = System.nanoTime() - lookupStarted;
+                latencyNanos.add(latency);
+                maxLatencyNanos.accumulate(latency);
+                return null;
+            });
+        }
+        long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        output.suggest(
+                "Calculated libYear of {} artifacts ({} remote lookups) in {} ms with {} threads: {}/s,"
+                        + " latency avg {} ms, max {} ms",
+                pending.size(),
+                lookups.sum(),
+                elapsedMillis,
+                parallelism,
+                "%.1f".formatted(pending.size() * 1000d / elapsedMillis),
+                TimeUnit.NANOSECONDS.toMillis(latencyNanos.sum() / pending.size()),
+                TimeUnit.NANOSECONDS.toMillis(maxLatencyNanos.get()));
+    }
+
     @Override
     public void close() throws DeploymentException {
         try {
+            try {
+                calculate();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new DeploymentException("Could not calculate libYear for " + subject, e);
+            } finally {
+                publishDateCache.save();
+            }
             TreeMap<Float, List<String>> outdatedWithLibyear = new TreeMap<>(Collections.reverseOrder());
             TreeSet<String> outdatedWithoutLibyear = new TreeSet<>();
             TreeSet<String> upToDateByAge = new TreeSet<>();
@@ -312,14 +379,21 @@ public final class LibYearSink implements Artifacts.Sink {
         }
     }
 
-    private Instant artifactPublishDate(Artifact artifact) throws IOException {
+    private Instant artifactPublishDate(Artifact artifact, LongAdder lookups) throws IOException {
+        Optional<Instant> cached = publishDateCache.get(artifact);
+        if (cached.isPresent()) {
+            return cached.orElseThrow();
+        }
+        lookups.increment();
         for (SearchBackend backend : searchBackends) {
             SearchRequest searchRequest = new SearchRequest(toolboxSearchApi.toRrQuery(artifact));
             SearchResponse searchResponse = backend.search(searchRequest);
             if (searchResponse.getCurrentHits() > 0) {
                 Long lastUpdated = searchResponse.getPage().get(0).getLastUpdated();
                 if (lastUpdated != null) {
-                    return Instant.ofEpochMilli(lastUpdated);
+                    Instant publishDate = Instant.ofEpochMilli(lastUpdated);
+                    publishDateCache.put(artifact, publishDate);
+                    return publishDate;
                 }
             }
         }
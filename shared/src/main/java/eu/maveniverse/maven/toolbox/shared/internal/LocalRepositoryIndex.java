@@ -0,0 +1,333 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.toolbox.shared.internal;
+
+import static java.util.Objects.requireNonNull;
+
+import eu.maveniverse.maven.toolbox.shared.output.Output;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compact on-disk index of a local repository: for each artifact file it records GAV, classifier, extension, SHA-1
+ * and modification time. Index is refreshed incrementally: version directories whose modification time did not change
+ * since last refresh are not even listed, and SHA-1 of unchanged files is not recalculated. Where present, the SHA-1
+ * is read from checksum file laying next to artifact. In memory, entries are kept looked up by SHA-1, by group ID
+ * and by group and artifact ID.
+ */
+public final class LocalRepositoryIndex {
+    /**
+     * An indexed artifact file.
+     */
+    public record Entry(
+            String groupId,
+            String artifactId,
+            String version,
+            String classifier,
+            String extension,
+            String sha1,
+            long lastModified) {}
+
+    private record Directory(long lastModified, List<Entry> entries) {}
+
+    private static final int FORMAT_VERSION = 1;
+
+    private static final List<String> IGNORED_EXTENSIONS =
+            List.of(".sha1", ".md5", ".sha256", ".sha512", ".lastUpdated", ".part", ".lock", ".repositories");
+
+    private final Output output;
+    private final Path basedir;
+    private final Path indexFile;
+    private TreeMap<String, Directory> directories;
+    private boolean refreshed;
+    private List<Entry> entries;
+    private Map<String, List<Entry>> bySha1;
+    private Map<String, List<Entry>> byGroupId;
+    private Map<String, List<Entry>> byGroupArtifactId;
+
+    public LocalRepositoryIndex(Output output, Path basedir, Path indexFile) {
+        this.output = requireNonNull(output, "output");
+        this.basedir = requireNonNull(basedir, "basedir");
+        this.indexFile = requireNonNull(indexFile, "indexFile");
+        this.directories = new TreeMap<>();
+        lookups();
+    }
+
+    public Path getBasedir() {
+        return basedir;
+    }
+
+    /**
+     * Returns all indexed entries, ordered by their directory path. Returned list is unmodifiable.
+     */
+    public synchronized List<Entry> entries() {
+        return entries;
+    }
+
+    /**
+     * Returns entries having given SHA-1, ordered by their directory path.
+     */
+    public synchronized List<Entry> bySha1(String sha1) {
+        return bySha1.getOrDefault(sha1.toLowerCase(Locale.ENGLISH), List.of());
+    }
+
+    /**
+     * Returns entries having given group ID, ordered by their directory path.
+     */
+    public synchronized List<Entry> byGroupId(String groupId) {
+        return byGroupId.getOrDefault(groupId.toLowerCase(Locale.ENGLISH), List.of());
+    }
+
+    /**
+     * Returns entries having given group and artifact ID, ordered by their directory path.
+     */
+    public synchronized List<Entry> byGroupArtifactId(String groupId, String artifactId) {
+        return byGroupArtifactId.getOrDefault((groupId + ":" + artifactId).toLowerCase(Locale.ENGLISH), List.of());
+    }
+
+    /**
+     * Refreshes index, unless it was already refreshed by this instance.
+     */
+    public synchronized void refreshOnce() throws IOException {
+        if (!refreshed) {
+            refresh();
+        }
+    }
+
+    /**
+     * Loads index from disk (if exists), refreshes it against local repository and persists it if changed.
+     */
+    public synchronized void refresh() throws IOException {
+        if (directories.isEmpty()) {
+            load();
+        }
+        TreeMap<String, Directory> previous = directories;
+        TreeMap<String, Directory> current = new TreeMap<>();
+        int[] rescanned = new int[1];
+        if (Files.isDirectory(basedir)) {
+            Files.walkFileTree(basedir, new SimpleFileVisitor<>() {
+                private final ArrayDeque<List<Path>> files = new ArrayDeque<>();
+
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                    if (!dir.equals(basedir) && dir.getFileName().toString().startsWith(".")) {
+                        return FileVisitResult.SKIP_SUBTREE;
+                    }
+                    String path = path(dir);
+                    Directory known = previous.get(path);
+                    if (known != null
+                            && known.lastModified() == attrs.lastModifiedTime().toMillis()) {
+                        current.put(path, known);
+                        return FileVisitResult.SKIP_SUBTREE;
+                    }
+                    files.push(new ArrayList<>());
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    if (attrs.isRegularFile()) {
+                        files.element().add(file);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
+                    List<Path> dirFiles = files.pop();
+                    String path = path(dir);
+                    List<Entry> entries = scan(path, dirFiles, previous.get(path));
+                    if (!entries.isEmpty()) {
+                        current.put(path, new Directory(Files.getLastModifiedTime(dir).toMillis(), entries));
+                        rescanned[0]++;
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        }
+        boolean changed = rescanned[0] > 0 || !current.keySet().equals(previous.keySet());
+        directories = current;
+        refreshed = true;
+        lookups();
+        output.chatter(
+                "Local repository index of {}: {} directories, {} rescanned", basedir, current.size(), rescanned[0]);
+        if (changed) {
+            save();
+        }
+    }
+
+    private void lookups() {
+        ArrayList<Entry> all = new ArrayList<>();
+        HashMap<String, List<Entry>> sha1s = new HashMap<>();
+        HashMap<String, List<Entry>> groupIds = new HashMap<>();
+        HashMap<String, List<Entry>> groupArtifactIds = new HashMap<>();
+        for (Directory directory : directories.values()) {
+            for (Entry entry : directory.entries()) {
+                all.add(entry);
+                sha1s.computeIfAbsent(entry.sha1().toLowerCase(Locale.ENGLISH), k -> new ArrayList<>())
+                        .add(entry);
+                groupIds.computeIfAbsent(entry.groupId().toLowerCase(Locale.ENGLISH), k -> new ArrayList<>())
+                        .add(entry);
+                groupArtifactIds
+                        .computeIfAbsent(
+                                (entry.groupId() + ":" + entry.artifactId()).toLowerCase(Locale.ENGLISH),
+                                k -> new ArrayList<>())
+                        .add(entry);
+            }
+        }
+        entries = Collections.unmodifiableList(all);
+        bySha1 = sha1s;
+        byGroupId = groupIds;
+        byGroupArtifactId = groupArtifactIds;
+    }
+
+    private String path(Path dir) {
+        return basedir.relativize(dir).toString().replace('\\', '/');
+    }
+
+    /**
+     * Scans version directory files: directory path is expected to be {@code groupId/artifactId/version} and files
+     * named as {@code artifactId-version[-classifier].extension}.
+     */
+    private List<Entry> scan(String path, List<Path> files, Directory known) throws IOException {
+        String[] segments = path.split("/");
+        if (files.isEmpty() || segments.length < 3) {
+            return List.of();
+        }
+        String version = segments[segments.length - 1];
+        String artifactId = segments[segments.length - 2];
+        String groupId = String.join(".", List.of(segments).subList(0, segments.length - 2));
+        String prefix = artifactId + "-" + version;
+        HashMap<String, Entry> knownEntries = new HashMap<>();
+        if (known != null) {
+            known.entries().forEach(e -> knownEntries.put(e.classifier() + ":" + e.extension(), e));
+        }
+
+        ArrayList<Entry> result = new ArrayList<>();
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            if (!name.startsWith(prefix) || IGNORED_EXTENSIONS.stream().anyMatch(name::endsWith)) {
+                continue;
+            }
+            String rest = name.substring(prefix.length());
+            String classifier;
+            String extension;
+            if (rest.startsWith("-") && rest.indexOf('.') > 1) {
+                classifier = rest.substring(1, rest.indexOf('.'));
+                extension = rest.substring(rest.indexOf('.') + 1);
+            } else if (rest.startsWith(".") && rest.length() > 1) {
+                classifier = "";
+                extension = rest.substring(1);
+            } else {
+                continue;
+            }
+            long lastModified = Files.getLastModifiedTime(file).toMillis();
+            Entry knownEntry = knownEntries.get(classifier + ":" + extension);
+            String sha1 = knownEntry != null && knownEntry.lastModified() == lastModified
+                    ? knownEntry.sha1()
+                    : sha1(file);
+            result.add(new Entry(groupId, artifactId, version, classifier, extension, sha1, lastModified));
+        }
+        result.sort(Comparator.comparing(Entry::classifier).thenComparing(Entry::extension));
+        return result;
+    }
+
+    private static String sha1(Path file) throws IOException {
+        Path checksum = file.resolveSibling(file.getFileName() + ".sha1");
+        if (Files.isRegularFile(checksum)) {
+            String content = Files.readString(checksum, StandardCharsets.UTF_8).trim();
+            if (content.length() >= 40 && content.substring(0, 40).matches("[0-9a-fA-F]{40}")) {
+                return content.substring(0, 40).toLowerCase();
+            }
+        }
+        return ToolboxCommandoImpl.sha1(file);
+    }
+
+    private void load() {
+        if (!Files.isRegularFile(indexFile)) {
+            return;
+        }
+        try (DataInputStream in =
+                new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(indexFile))))) {
+            if (in.readInt() != FORMAT_VERSION) {
+                return;
+            }
+            TreeMap<String, Directory> result = new TreeMap<>();
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String path = in.readUTF();
+                long lastModified = in.readLong();
+                String[] segments = path.split("/");
+                String version = segments[segments.length - 1];
+                String artifactId = segments[segments.length - 2];
+                String groupId = String.join(".", List.of(segments).subList(0, segments.length - 2));
+                int entries = in.readInt();
+                ArrayList<Entry> list = new ArrayList<>(entries);
+                for (int j = 0; j < entries; j++) {
+                    list.add(new Entry(
+                            groupId, artifactId, version, in.readUTF(), in.readUTF(), in.readUTF(), in.readLong()));
+                }
+                result.put(path, new Directory(lastModified, list));
+            }
+            directories = result;
+        } catch (IOException | RuntimeException e) {
+            output.chatter("Could not load local repository index {}", indexFile, e);
+        }
+    }
+
+    private void save() {
+        try {
+            Files.createDirectories(indexFile.getParent());
+            Path tmp = Files.createTempFile(indexFile.getParent(), indexFile.getFileName().toString(), ".tmp");
+            try {
+                try (DataOutputStream out = new DataOutputStream(
+                        new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(tmp))))) {
+                    out.writeInt(FORMAT_VERSION);
+                    out.writeInt(directories.size());
+                    for (Map.Entry<String, Directory> directory : directories.entrySet()) {
+                        out.writeUTF(directory.getKey());
+                        out.writeLong(directory.getValue().lastModified());
+                        out.writeInt(directory.getValue().entries().size());
+                        for (Entry entry : directory.getValue().entries()) {
+                            out.writeUTF(entry.classifier());
+                            out.writeUTF(entry.extension());
+                            out.writeUTF(entry.sha1());
+                            out.writeLong(entry.lastModified());
+                        }
+                    }
+                }
+                Files.move(tmp, indexFile, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException e) {
+            output.chatter("Could not save local repository index {}", indexFile, e);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.toolbox.shared.internal;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import org.apache.maven.search.api.MAVEN;
+import org.apache.maven.search.api.Record;
+import org.apache.maven.search.api.SearchBackend;
+import org.apache.maven.search.api.SearchRequest;
+import org.apache.maven.search.api.SearchResponse;
+import org.apache.maven.search.api.request.BooleanQuery;
+import org.apache.maven.search.api.request.Field;
+import org.apache.maven.search.api.request.FieldQuery;
+import org.apache.maven.search.api.request.Query;
+
+/**
+ * Search backend answering queries from a {@link LocalRepositoryIndex}, hence offline. Supports conjunction of
+ * field queries (exact match) and free text queries (all terms must be contained in artifact coordinates). Responses
+ * mimic remote repository backend:
+ * <ul>
+ *     <li>if query has artifact ID but no version (nor anything more specific), records are versions</li>
+ *     <li>if query has only group ID, records are artifact IDs</li>
+ *     <li>otherwise records are artifact files; if no classifier was queried, only main artifacts are matched,
+ *     unless query is by SHA-1 or free text</li>
+ * </ul>
+ */
+public final class LocalRepositorySearchBackend implements SearchBackend {
+    private final String backendId;
+    private final String repositoryId;
+    private final LocalRepositoryIndex index;
+
+    public LocalRepositorySearchBackend(String backendId, String repositoryId, LocalRepositoryIndex index) {
+        this.backendId = requireNonNull(backendId, "backendId");
+        this.repositoryId = requireNonNull(repositoryId, "repositoryId");
+        this.index = requireNonNull(index, "index");
+    }
+
+    @Override
+    public String getBackendId() {
+        return backendId;
+    }
+
+    @Override
+    public String getRepositoryId() {
+        return repositoryId;
+    }
+
+    @Override
+    public SearchResponse search(SearchRequest searchRequest) {
+        HashMap<String, String> fields = new HashMap<>();
+        ArrayList<String> terms = new ArrayList<>();
+        collect(searchRequest.getQuery(), fields, terms);
+
+        boolean fileLevel = !terms.isEmpty()
+                || fields.containsKey(MAVEN.VERSION.getFieldName())
+                || fields.containsKey(MAVEN.CLASSIFIER.getFieldName())
+                || fields.containsKey(MAVEN.FILE_EXTENSION.getFieldName())
+                || fields.containsKey(MAVEN.PACKAGING.getFieldName())
+                || fields.containsKey(MAVEN.SHA1.getFieldName());
+        boolean mainOnly = fileLevel
+                && terms.isEmpty()
+                && !fields.containsKey(MAVEN.CLASSIFIER.getFieldName())
+                && !fields.containsKey(MAVEN.SHA1.getFieldName());
+        boolean versionLevel = !fileLevel && fields.containsKey(MAVEN.ARTIFACT_ID.getFieldName());
+        Function<LocalRepositoryIndex.Entry, String> key;
+        if (fileLevel) {
+            key = e -> e.groupId() + ":" + e.artifactId() + ":" + e.version() + ":" + e.classifier() + ":"
+                    + e.extension();
+        } else if (versionLevel) {
+            key = e -> e.groupId() + ":" + e.artifactId() + ":" + e.version();
+        } else {
+            key = e -> e.groupId() + ":" + e.artifactId();
+        }
+
+        LinkedHashMap<String, LocalRepositoryIndex.Entry> hits = new LinkedHashMap<>();
+        for (LocalRepositoryIndex.Entry entry : candidates(fields)) {
+            if ((!mainOnly || entry.classifier().isEmpty()) && matches(entry, fields, terms)) {
+                hits.putIfAbsent(key.apply(entry), entry);
+            }
+        }
+
+        int pageSize = searchRequest.getPaging().getPageSize();
+        int from = Math.min(hits.size(), pageSize * searchRequest.getPaging().getPageOffset());
+        int to = Math.min(hits.size(), from + pageSize);
+        ArrayList<Record> page = new ArrayList<>(to - from);
+        List<Map.Entry<String, LocalRepositoryIndex.Entry>> list = new ArrayList<>(hits.entrySet());
+        for (Map.Entry<String, LocalRepositoryIndex.Entry> hit : list.subList(from, to)) {
+            page.add(toRecord(hit.getKey(), hit.getValue(), fileLevel, fileLevel || versionLevel));
+        }
+        return new LocalSearchResponse(searchRequest, hits.size(), page);
+    }
+
+    @Override
+    public void close() {}
+
+    /**
+     * Narrows down the entries to match against, using the index lookups by most selective field queried.
+     */
+    private List<LocalRepositoryIndex.Entry> candidates(Map<String, String> fields) {
+        String sha1 = fields.get(MAVEN.SHA1.getFieldName());
+        String groupId = fields.get(MAVEN.GROUP_ID.getFieldName());
+        String artifactId = fields.get(MAVEN.ARTIFACT_ID.getFieldName());
+        if (sha1 != null) {
+            return index.bySha1(sha1);
+        } else if (groupId != null && artifactId != null) {
+            return index.byGroupArtifactId(groupId, artifactId);
+        } else if (groupId != null) {
+            return index.byGroupId(groupId);
+        }
+        return index.entries();
+    }
+
+    private static void collect(Query query, Map<String, String> fields, List<String> terms) {
+        if (query instanceof BooleanQuery booleanQuery) {
+            collect(booleanQuery.getLeft(), fields, terms);
+            collect(booleanQuery.getRight(), fields, terms);
+        } else if (query instanceof FieldQuery fieldQuery) {
+            fields.put(fieldQuery.getField().getFieldName(), fieldQuery.getValue());
+        } else if (query != null) {
+            for (String term : query.getValue().trim().split("\\s+")) {
+                if (!term.isEmpty()) {
+                    terms.add(term.toLowerCase(Locale.ENGLISH));
+                }
+            }
+        }
+    }
+
+    private static boolean matches(LocalRepositoryIndex.Entry entry, Map<String, String> fields, List<String> terms) {
+        for (Map.Entry<String, String> field : fields.entrySet()) {
+            String value = value(entry, field.getKey());
+            if (value == null || !value.equalsIgnoreCase(field.getValue())) {
+                return false;
+            }
+        }
+        if (!terms.isEmpty()) {
+            String coordinates = (entry.groupId() + ":" + entry.artifactId() + ":" + entry.version() + ":"
+                            + entry.classifier() + ":" + entry.extension())
+                    .toLowerCase(Locale.ENGLISH);
+            return new LinkedHashSet<>(terms).stream().allMatch(coordinates::contains);
+        }
+        return true;
+    }
+
+    private static String value(LocalRepositoryIndex.Entry entry, String fieldName) {
+        if (MAVEN.GROUP_ID.getFieldName().equals(fieldName)) {
+            return entry.groupId();
+        } else if (MAVEN.ARTIFACT_ID.getFieldName().equals(fieldName)) {
+            return entry.artifactId();
+        } else if (MAVEN.VERSION.getFieldName().equals(fieldName)) {
+            return entry.version();
+        } else if (MAVEN.CLASSIFIER.getFieldName().equals(fieldName)) {
+            return entry.classifier();
+        } else if (MAVEN.FILE_EXTENSION.getFieldName().equals(fieldName)
+                || MAVEN.PACKAGING.getFieldName().equals(fieldName)) {
+            return entry.extension();
+        } else if (MAVEN.SHA1.getFieldName().equals(fieldName)) {
+            return entry.sha1();
+        }
+        return null; // unsupported field: no match
+    }
+
+    private Record toRecord(String uid, LocalRepositoryIndex.Entry entry, boolean fileLevel, boolean withVersion) {
+        LinkedHashMap<Field, Object> fields = new LinkedHashMap<>();
+        fields.put(MAVEN.GROUP_ID, entry.groupId());
+        fields.put(MAVEN.ARTIFACT_ID, entry.artifactId());
+        if (withVersion) {
+            fields.put(MAVEN.VERSION, entry.version());
+        }
+        if (fileLevel) {
+            if (!entry.classifier().isEmpty()) {
+                fields.put(MAVEN.CLASSIFIER, entry.classifier());
+            }
+            fields.put(MAVEN.FILE_EXTENSION, entry.extension());
+            fields.put(MAVEN.SHA1, entry.sha1());
+        }
+        return new Record(backendId, repositoryId, uid, fileLevel ? entry.lastModified() : null, fields);
+    }
+
+    private static final class LocalSearchResponse implements SearchResponse {
+        private final SearchRequest searchRequest;
+        private final int totalHits;
+        private final List<Record> page;
+
+        private LocalSearchResponse(SearchRequest searchRequest, int totalHits, List<Record> page) {
+            this.searchRequest = searchRequest;
+            this.totalHits = totalHits;
+            this.page = page;
+        }
+
+        @Override
+        public SearchRequest getSearchRequest() {
+            return searchRequest;
+        }
+
+        @Override
+        public int getTotalHits() {
+            return totalHits;
+        }
+
+        @Override
+        public int getCurrentHits() {
+            return page.size();
+        }
+
+        @Override
+        public List<Record> getPage() {
+            return page;
+        }
+    }
+}
@@ -29,7 +29,8 @@ import org.eclipse.aether.graph.DependencyNode;
 import org.eclipse.aether.graph.DependencyVisitor;
 
 /**
- * Sink that extracts module descriptors from artifacts.
+ * Sink that extracts module descriptors from artifacts. If created with file analysis cache, JAR files are analyzed
+ * by {@link JarAnalyzer} (sharing cached analysis with other sinks), otherwise by {@link ModuleFinder}.
  */
 public final class ModuleDescriptorExtractingSink implements Artifacts.Sink, DependencyVisitor {
     public interface ModuleDescriptor {
@@ -57,10 +58,20 @@ public final class ModuleDescriptorExtractingSink implements Artifacts.Sink, Dep
     }
 
     private final Output output;
+    private final FileAnalysisCache fileAnalysisCache; // nullable
+    private final JarAnalyzer jarAnalyzer; // nullable
     private final ConcurrentMap<Artifact, ModuleDescriptor> moduleDescriptors;
 
     public ModuleDescriptorExtractingSink(Output output) {
+        this(output, null);
+    }
+
+    public ModuleDescriptorExtractingSink(Output output, FileAnalysisCache fileAnalysisCache) {
         this.output = requireNonNull(output, "output");
+        this.fileAnalysisCache = fileAnalysisCache;
+        this.jarAnalyzer = fileAnalysisCache != null
+                ? new JarAnalyzer(output, ArtifactSinks.defaultChecksumAlgorithmFactories(), fileAnalysisCache)
+                : null;
         this.moduleDescriptors = new ConcurrentHashMap<>();
     }
 
@@ -72,7 +83,14 @@ public final class ModuleDescriptorExtractingSink implements Artifacts.Sink, Dep
         }
     }
 
-    public String formatString(ModuleDescriptor moduleDescriptor) {
+    @Override
+    public void close() {
+        if (fileAnalysisCache != null) {
+            fileAnalysisCache.save();
+        }
+    }
+
+    public static String formatString(ModuleDescriptor moduleDescriptor) {
         String moduleInfo;
         if (moduleDescriptor == null || !moduleDescriptor.available()) {
             moduleInfo = "n/a";
@@ -97,7 +115,24 @@ public final class ModuleDescriptorExtractingSink implements Artifacts.Sink, Dep
         return Collections.unmodifiableMap(moduleDescriptors);
     }
 
+    /**
+     * Creates module descriptor out of passed in values. If name is {@code null}, descriptor is not available.
+     */
+    static ModuleDescriptor moduleDescriptor(String name, boolean automatic, String moduleNameSource) {
+        return name == null ? NOT_AVAILABLE : new ModuleDescriptorImpl(name, automatic, moduleNameSource);
+    }
+
     private ModuleDescriptor getModuleDescriptor(Path artifactPath) {
+        if (jarAnalyzer != null
+                && Files.isRegularFile(artifactPath)
+                && artifactPath.getFileName().toString().endsWith(".jar")) {
+            try {
+                return jarAnalyzer.analyze(artifactPath, true).module();
+            } catch (IOException e) {
+                output.warn("IO problem: ", e);
+                return NOT_AVAILABLE;
+            }
+        }
         ModuleDescriptor moduleDescriptor = NOT_AVAILABLE;
         try {
             ModuleFinder moduleFinder = ModuleFinder.of(artifactPath);
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.toolbox.shared.internal;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.util.ConfigUtils;
+
+/**
+ * Bounded executor to run independent units of work (like resolution of distinct roots) concurrently. Results are
+ * always returned in the order of input, so callers can process (and output) them deterministically. If parallelism
+ * is {@code 1} or less, all work is executed on the caller thread.
+ */
+public final class ParallelExecutor implements AutoCloseable {
+    /**
+     * Session config property to set the parallelism of Toolbox operations.
+     */
+    public static final String CONFIG_PROP_PARALLELISM = "toolbox.parallelism";
+
+    /**
+     * The default parallelism.
+     */
+    public static final int DEFAULT_PARALLELISM = Math.max(1, Runtime.getRuntime().availableProcessors());
+
+    /**
+     * A unit of work that may throw.
+     */
+    @FunctionalInterface
+    public interface Task<T, R> {
+        R apply(T item) throws Exception;
+    }
+
+    /**
+     * Returns the parallelism configured in session. The passed in keys are checked first, and
+     * {@link #CONFIG_PROP_PARALLELISM} last.
+     */
+    public static int parallelism(RepositorySystemSession session, String... keys) {
+        requireNonNull(session, "session");
+        String[] allKeys = new String[keys.length + 1];
+        System.arraycopy(keys, 0, allKeys, 0, keys.length);
+        allKeys[keys.length] = CONFIG_PROP_PARALLELISM;
+        return ConfigUtils.getInteger(session, DEFAULT_PARALLELISM, allKeys);
+    }
+
+    private final int parallelism;
+    private final ExecutorService executor; // nullable
+
+    public ParallelExecutor(String name, int parallelism) {
+        requireNonNull(name, "name");
+        this.parallelism = Math.max(1, parallelism);
+        if (this.parallelism > 1) {
+            AtomicInteger counter = new AtomicInteger(0);
+            this.executor = Executors.newFixedThreadPool(this.parallelism, r -> {
+                Thread thread = new Thread(r, name + "-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            this.executor = null;
+        }
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Applies task to all items, and returns results in same order as items were. All tasks are waited for to
+     * finish, and if any of them failed, the first failure is thrown (others are added as suppressed).
+     */
+    public <T, R> List<R> map(Collection<T> items, Task<? super T, ? extends R> task) throws Exception {
+        requireNonNull(items, "items");
+        requireNonNull(task, "task");
+        ArrayList<R> result = new ArrayList<>(items.size());
+        if (executor == null || items.size() < 2) {
+            for (T item : items) {
+                result.add(task.apply(item));
+            }
+            return result;
+        }
+
+        ArrayList<Future<? extends R>> futures = new ArrayList<>(items.size());
+        for (T item : items) {
+            futures.add(executor.submit(() -> task.apply(item)));
+        }
+        Exception failure = null;
+        for (Future<? extends R> future : futures) {
+            try {
+                result.add(future.get());
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof Error error) {
+                    futures.forEach(f -> f.cancel(true));
+                    throw error;
+                }
+                if (failure == null) {
+                    failure = (Exception) cause;
+                } else {
+                    failure.addSuppressed(cause);
+                }
+                result.add(null);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(f -> f.cancel(true));
+                throw new InterruptedIOException("Interrupted while waiting for tasks");
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return result;
+    }
+
+    /**
+     * Submits a single unit of work, to be executed concurrently. If parallelism is {@code 1}, work is executed right
+     * away on the caller thread, and returned future is already done.
+     */
+    public <R> Future<R> submit(Callable<R> task) {
+        requireNonNull(task, "task");
+        if (executor == null) {
+            FutureTask<R> future = new FutureTask<>(task);
+            future.run();
+            return future;
+        }
+        return executor.submit(task);
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
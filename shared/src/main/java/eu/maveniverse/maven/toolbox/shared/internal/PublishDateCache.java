@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.toolbox.shared.internal;
+
+import static java.util.Objects.requireNonNull;
+
+import eu.maveniverse.maven.toolbox.shared.output.Output;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.util.ConfigUtils;
+import org.eclipse.aether.util.artifact.ArtifactIdUtils;
+
+/**
+ * Persistent cache of artifact publish dates (as reported by search backends). Publish date of a released artifact
+ * never changes, hence only those are cached; snapshots and unknown dates are never stored. The cache is a single
+ * text file holding one {@code id millis} line per artifact, ordered from least to most recently used, and least
+ * recently used entries are evicted once cache grows over its limit.
+ */
+public final class PublishDateCache extends CacheSupport {
+    /**
+     * Session config property to enable or disable (bypass) the publish date cache.
+     */
+    public static final String CONFIG_PROP_ENABLED = "toolbox.cache.publishDates.enabled";
+
+    /**
+     * Session config property to set the maximum count of publish dates cached.
+     */
+    public static final String CONFIG_PROP_MAX_ENTRIES = "toolbox.cache.publishDates.maxEntries";
+
+    public static final int DEFAULT_MAX_ENTRIES = 50000;
+
+    private static final String FILE_NAME = "publish-dates.txt";
+
+    /**
+     * Creates publish date cache configured from session, using passed in cache basedir. If disabled in session,
+     * returned cache is a no-op one.
+     */
+    public static PublishDateCache create(Output output, RepositorySystemSession session, Path cacheBasedir) {
+        int maxEntries = ConfigUtils.getInteger(session, DEFAULT_MAX_ENTRIES, CONFIG_PROP_MAX_ENTRIES);
+        return new PublishDateCache(
+                output, location(session, cacheBasedir, CONFIG_PROP_ENABLED, FILE_NAME, maxEntries > 0), maxEntries);
+    }
+
+    private final int maxEntries;
+    private final LinkedHashMap<String, Long> entries;
+    private boolean loaded;
+    private boolean dirty;
+
+    public PublishDateCache(Output output, Path file, int maxEntries) {
+        super(output, file);
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > PublishDateCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached publish date of given artifact, if present.
+     */
+    public Optional<Instant> get(Artifact artifact) {
+        requireNonNull(artifact, "artifact");
+        if (!isEnabled() || artifact.isSnapshot()) {
+            return Optional.empty();
+        }
+        Long millis;
+        synchronized (this) {
+            load();
+            millis = entries.get(ArtifactIdUtils.toId(artifact));
+        }
+        if (millis == null) {
+            miss();
+            return Optional.empty();
+        }
+        hit();
+        return Optional.of(Instant.ofEpochMilli(millis));
+    }
+
+    /**
+     * Records the publish date of given artifact, if it is a release. Changes are persisted on {@link #save()}.
+     */
+    public void put(Artifact artifact, Instant publishDate) {
+        requireNonNull(artifact, "artifact");
+        if (!isEnabled() || artifact.isSnapshot() || publishDate == null) {
+            return;
+        }
+        synchronized (this) {
+            load();
+            entries.put(ArtifactIdUtils.toId(artifact), publishDate.toEpochMilli());
+            dirty = true;
+        }
+        store();
+    }
+
+    /**
+     * Persists the cache, if it was modified. Entries stored meanwhile by other processes are merged in.
+     */
+    public synchronized void save() {
+        if (!isEnabled() || !dirty) {
+            return;
+        }
+        try {
+            LinkedHashMap<String, Long> merged = merge(read(), entries, maxEntries);
+            write(location, out -> {
+                try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8))) {
+                    for (Map.Entry<String, Long> entry : merged.entrySet()) {
+                        writer.write(entry.getKey() + " " + entry.getValue());
+                        writer.newLine();
+                    }
+                }
+            });
+            dirty = false;
+        } catch (IOException e) {
+            output.chatter("Could not save publish date cache {}", location, e);
+        }
+    }
+
+    private void load() {
+        if (!loaded) {
+            loaded = true;
+            try {
+                entries.putAll(read());
+            } catch (IOException e) {
+                output.chatter("Could not load publish date cache {}", location, e);
+            }
+        }
+    }
+
+    private LinkedHashMap<String, Long> read() throws IOException {
+        LinkedHashMap<String, Long> result = new LinkedHashMap<>();
+        if (Files.isRegularFile(location)) {
+            try (BufferedReader reader = Files.newBufferedReader(location, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    int space = line.lastIndexOf(' ');
+                    if (space > 0) {
+                        try {
+                            result.put(line.substring(0, space), Long.parseLong(line.substring(space + 1)));
+                        } catch (NumberFormatException e) {
+                            // skip corrupt line
+                        }
+                    }
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -7,6 +7,7 @@
  */
 package eu.maveniverse.maven.toolbox.shared.internal;
 
+import static eu.maveniverse.maven.toolbox.shared.internal.ToolboxCommandoImpl.humanReadableByteCountBin;
 import static java.util.Objects.requireNonNull;
 
 import eu.maveniverse.maven.toolbox.shared.ArtifactMatcher;
@@ -17,15 +18,21 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import org.eclipse.aether.RepositorySystem;
 import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.artifact.Artifact;
@@ -34,8 +41,16 @@ import org.eclipse.aether.repository.RemoteRepository;
 
 /**
  * Construction to accept collection of artifacts and purge them from local repository.
+ * <p>
+ * Accepted artifacts are grouped by the directory they reside in, and directories are purged concurrently, each
+ * directory processed once (hence {@code _remote.repositories} is rewritten at most once per directory).
  */
 public final class PurgingSink implements Artifacts.Sink {
+    /**
+     * Session config property to set the count of directories purged concurrently.
+     */
+    public static final String CONFIG_PROP_PARALLELISM = "toolbox.sink.purge.parallelism";
+
     /**
      * Creates purging sink treats artifacts as "whole", purges whole GAVs from passed in session local repository.
      * Artifacts this sink accepts MUST NOT BE resolved from the same local repository this purging sink is about to
@@ -99,6 +114,7 @@ public final class PurgingSink implements Artifacts.Sink {
     private final ArrayList<Artifact> artifacts;
     private final Predicate<Artifact> artifactMatcher;
     private final AtomicInteger purgedArtifacts;
+    private final int parallelism;
 
     private PurgingSink(
             Output output,
@@ -118,6 +134,7 @@ public final class PurgingSink implements Artifacts.Sink {
         this.dryRun = dryRun;
         this.artifacts = new ArrayList<>();
         this.purgedArtifacts = new AtomicInteger(-1);
+        this.parallelism = ParallelExecutor.parallelism(session, CONFIG_PROP_PARALLELISM);
 
         // Note: delimiters, while MAY look superfluous, are actually required differentiate a.b:c.d and a.b.c:d
         switch (mode) {
@@ -162,14 +179,40 @@ public final class PurgingSink implements Artifacts.Sink {
     public void close() throws IOException {
         if (perform.get()) {
             output.suggest("Performing purge");
+            long start = System.nanoTime();
+            Collection<DirectoryPurge> directories = plan();
+            List<DirectoryResult> results;
+            try (ParallelExecutor executor = new ParallelExecutor("purge", parallelism)) {
+                results = executor.map(directories, this::purgeDirectory);
+            } catch (IOException | RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IOException("Purge failed", e);
+            }
+            HashSet<Artifact> purged = new HashSet<>();
+            long bytes = 0;
+            int files = 0;
+            for (DirectoryResult result : results) {
+                purged.addAll(result.purged());
+                bytes += result.bytes();
+                files += result.files();
+            }
             int artifactCount = 0;
-            boolean purged;
             for (Artifact artifact : artifacts) {
-                purged = purgeArtifact(artifact);
-                output.chatter("Purge of {}: {}", artifact, purged ? "DONE" : "NOT DONE");
-                artifactCount += purged ? 1 : 0;
+                boolean done = dryRun || purged.contains(artifact);
+                output.chatter("Purge of {}: {}", artifact, done ? "DONE" : "NOT DONE");
+                artifactCount += done ? 1 : 0;
             }
             purgedArtifacts.set(artifactCount);
+            if (!dryRun) {
+                output.suggest(
+                        "Purged {} artifacts from {} directories: deleted {} files, reclaimed {} in {} ms",
+                        artifactCount,
+                        directories.size(),
+                        files,
+                        humanReadableByteCountBin(bytes),
+                        Duration.ofNanos(System.nanoTime() - start).toMillis());
+            }
         }
     }
 
@@ -177,94 +220,141 @@ public final class PurgingSink implements Artifacts.Sink {
         return purgedArtifacts.get();
     }
 
-    private boolean purgeArtifact(Artifact artifact) throws IOException {
+    /**
+     * A file to be purged in a directory: the name it is registered under in {@code _remote.repositories}, and the
+     * file to be deleted (with its sub-files).
+     */
+    private record Target(Artifact artifact, String registeredName, Path file) {}
+
+    /**
+     * All purge work to be done in one (version) directory.
+     */
+    private record DirectoryPurge(Path directory, List<Target> targets, boolean local) {}
+
+    private record DirectoryResult(Set<Artifact> purged, int files, long bytes) {}
+
+    /**
+     * Groups accepted artifacts by (version) directory, so each directory is processed once.
+     */
+    private Collection<DirectoryPurge> plan() {
+        Path basedir = session.getLocalRepository().getBasedir().toPath();
+        LinkedHashMap<Path, List<Target>> targets = new LinkedHashMap<>();
+        LinkedHashMap<Path, Boolean> locals = new LinkedHashMap<>();
+        for (Artifact artifact : artifacts) {
+            Path path = basedir.resolve(session.getLocalRepositoryManager().getPathForLocalArtifact(artifact));
+            boolean local = artifact.isSnapshot() && Objects.equals(artifact.getVersion(), artifact.getBaseVersion());
+            ArrayList<Path> registered = new ArrayList<>();
+            registered.add(path);
+            if (mode == Mode.EXACT) {
+                for (RemoteRepository repository : remoteRepositories) {
+                    registered.add(basedir.resolve(
+                            session.getLocalRepositoryManager().getPathForRemoteArtifact(artifact, repository, null)));
+                }
+            }
+            for (Path r : registered) {
+                targets.computeIfAbsent(r.getParent(), k -> new ArrayList<>())
+                        .add(new Target(artifact, r.getFileName().toString(), path));
+                locals.merge(r.getParent(), local, Boolean::logicalOr);
+            }
+        }
+        ArrayList<DirectoryPurge> result = new ArrayList<>(targets.size());
+        targets.forEach((directory, t) -> result.add(new DirectoryPurge(directory, t, locals.get(directory))));
+        return result;
+    }
+
+    private DirectoryResult purgeDirectory(DirectoryPurge purge) throws IOException {
+        if (dryRun) {
+            return new DirectoryResult(Set.of(), 0, 0);
+        }
+        Deleted deleted = new Deleted();
         switch (mode) {
             case EXACT:
-                return purgeExact(artifact);
+                purgeExact(purge, deleted);
+                break;
             case WHOLE:
-                return purgeGAV(artifact);
+                // purge artifact GAV directory (but watch out for subdirectories)
+                // no need to maintain anything as whole directory is gone
+                deleteDirectory(purge.directory(), deleted);
+                if (deleted.files != 0) {
+                    purge.targets().forEach(t -> deleted.purged.add(t.artifact()));
+                }
+                break;
             default:
                 throw new IllegalArgumentException();
         }
+        return new DirectoryResult(deleted.purged, deleted.files, deleted.bytes);
     }
 
-    private boolean purgeExact(Artifact artifact) throws IOException {
+    private void purgeExact(DirectoryPurge purge, Deleted deleted) throws IOException {
         // maintain repository state
-        // purge artifact file and additional sub-files (hashes, signatures, lastUpdated...)
-        if (dryRun) {
-            return true;
-        }
-        int deleted = 0;
-        Path path = session.getLocalRepository()
-                .getBasedir()
-                .toPath()
-                .resolve(session.getLocalRepositoryManager().getPathForLocalArtifact(artifact));
-        if (Files.isDirectory(path.getParent())) {
-            unregisterArtifact(path);
-            resetMetadata(
-                    path.getParent(),
-                    artifact.isSnapshot() && Objects.equals(artifact.getVersion(), artifact.getBaseVersion()));
-            deleted = deleteFileAndSubs(session.getLocalRepository()
-                    .getBasedir()
-                    .toPath()
-                    .resolve(session.getLocalRepositoryManager().getPathForLocalArtifact(artifact)));
-        }
-        for (RemoteRepository repository : remoteRepositories) {
-            path = session.getLocalRepository()
-                    .getBasedir()
-                    .toPath()
-                    .resolve(session.getLocalRepositoryManager().getPathForRemoteArtifact(artifact, repository, null));
-            if (Files.isDirectory(path.getParent())) {
-                unregisterArtifact(path);
-                resetMetadata(
-                        path.getParent(),
-                        artifact.isSnapshot() && Objects.equals(artifact.getVersion(), artifact.getBaseVersion()));
-                deleted += deleteFileAndSubs(session.getLocalRepository()
-                        .getBasedir()
-                        .toPath()
-                        .resolve(session.getLocalRepositoryManager().getPathForLocalArtifact(artifact)));
+        // purge artifact files and additional sub-files (hashes, signatures, lastUpdated...)
+        if (Files.isDirectory(purge.directory())) {
+            unregisterArtifacts(
+                    purge.directory(),
+                    purge.targets().stream().map(Target::registeredName).collect(Collectors.toSet()));
+            resetMetadata(purge.directory(), purge.local(), deleted);
+            for (Target target : purge.targets()) {
+                if (deleteFileAndSubs(target.file(), deleted) != 0) {
+                    deleted.purged.add(target.artifact());
+                }
             }
         }
-        return deleted != 0;
     }
 
-    private boolean purgeGAV(Artifact artifact) throws IOException {
-        // purge artifact GAV directory (but watch out for subdirectories)
-        // no need to maintain anything as whole directory is gone
-        if (dryRun) {
-            return true;
+    /**
+     * Accumulates what was deleted while purging one directory.
+     */
+    private static final class Deleted {
+        private final HashSet<Artifact> purged = new HashSet<>();
+        private int files;
+        private long bytes;
+
+        private boolean delete(Path file) throws IOException {
+            long size;
+            try {
+                size = Files.size(file);
+            } catch (NoSuchFileException e) {
+                return false;
+            }
+            if (Files.deleteIfExists(file)) {
+                files++;
+                bytes += size;
+                return true;
+            }
+            return false;
         }
-        return deleteDirectory(session.getLocalRepository()
-                        .getBasedir()
-                        .toPath()
-                        .resolve(session.getLocalRepositoryManager().getPathForLocalArtifact(artifact))
-                        .getParent())
-                != 0;
     }
 
-    private void unregisterArtifact(Path artifactPath) throws IOException {
+    /**
+     * Unregisters all passed in file names at once: {@code _remote.repositories} is read and written only once.
+     */
+    private void unregisterArtifacts(Path directory, Set<String> fileNames) throws IOException {
         // unregister
-        Path registrarPath = artifactPath.getParent().resolve("_remote.repositories");
+        Path registrarPath = directory.resolve("_remote.repositories");
         if (Files.isRegularFile(registrarPath)) {
-            String keyPrefix = artifactPath.getFileName().toString() + ">";
             Properties registrar = new Properties();
             try (InputStream input = Files.newInputStream(registrarPath)) {
                 registrar.load(input);
             }
+            boolean modified = false;
             for (String key : new HashSet<>(registrar.stringPropertyNames())) {
-                if (key.startsWith(keyPrefix)) {
+                int separator = key.indexOf('>');
+                if (separator > 0 && fileNames.contains(key.substring(0, separator))) {
                     registrar.remove(key);
+                    modified = true;
                 }
             }
-            try (OutputStream output = Files.newOutputStream(registrarPath)) {
-                registrar.store(
-                        output,
-                        "#NOTE: This is a Maven Resolver internal implementation file, its format can be changed without prior notice.");
+            if (modified) {
+                try (OutputStream output = Files.newOutputStream(registrarPath)) {
+                    registrar.store(
+                            output,
+                            "#NOTE: This is a Maven Resolver internal implementation file, its format can be changed without prior notice.");
+                }
             }
         }
     }
 
-    private void resetMetadata(Path directory, boolean local) throws IOException {
+    private void resetMetadata(Path directory, boolean local, Deleted deleted) throws IOException {
         // delete all "maven-metadata-*.xml" except "maven-metadata-local.xml" if local == false
         try (DirectoryStream<Path> toBeDeleted = Files.newDirectoryStream(
                 directory,
@@ -276,45 +366,44 @@ public final class PurgingSink implements Artifacts.Sink {
                 if (!local && "maven-metadata-local.xml".equals(p.getFileName().toString())) {
                     continue;
                 }
-                Files.delete(p);
+                deleted.delete(p);
             }
         }
 
         // delete "resolver-status.properties"
-        Files.deleteIfExists(directory.resolve("resolver-status.properties"));
+        deleted.delete(directory.resolve("resolver-status.properties"));
     }
 
-    private int deleteFileAndSubs(Path path) throws IOException {
-        int deleted = 0;
+    private int deleteFileAndSubs(Path path, Deleted deleted) throws IOException {
+        int count = 0;
         if (Files.isDirectory(path.getParent())) {
             try (DirectoryStream<Path> toBeDeleted = Files.newDirectoryStream(
                     path.getParent(), p -> Files.exists(p) && !Files.isDirectory(p) && p.startsWith(path))) {
                 for (Path p : toBeDeleted) {
-                    Files.delete(p);
-                    deleted++;
+                    if (deleted.delete(p)) {
+                        count++;
+                    }
                 }
             }
         }
-        return deleted;
+        return count;
     }
 
-    private int deleteDirectory(Path directory) throws IOException {
+    private void deleteDirectory(Path directory, Deleted deleted) throws IOException {
         int found = 0;
-        int deleted = 0;
+        int count = 0;
         if (Files.isDirectory(directory)) {
             try (DirectoryStream<Path> toBeDeleted = Files.newDirectoryStream(directory)) {
                 for (Path p : toBeDeleted) {
                     found++;
-                    if (!Files.isDirectory(p)) {
-                        Files.delete(p);
-                        deleted++;
+                    if (!Files.isDirectory(p) && deleted.delete(p)) {
+                        count++;
                     }
                 }
             }
-            if (found == deleted) {
+            if (found == count) {
                 Files.delete(directory);
             }
         }
-        return deleted;
     }
 }
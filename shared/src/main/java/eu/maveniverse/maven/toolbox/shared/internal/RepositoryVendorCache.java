@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.toolbox.shared.internal;
+
+import static java.util.Objects.requireNonNull;
+
+import eu.maveniverse.maven.toolbox.shared.output.Output;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.util.ConfigUtils;
+
+/**
+ * Persistent cache of repository vendors (as detected by probing), keyed by repository URL. The cache is a single
+ * text file holding one {@code url vendor millis [guess]} line per repository. Entries expire, as repository managers
+ * may be migrated. Outcomes not confirmed by probing (guessed by heuristics, or {@link #UNKNOWN}) are cached as well,
+ * but expire sooner.
+ */
+public final class RepositoryVendorCache extends CacheSupport {
+    /**
+     * Session config property to enable or disable (bypass) the repository vendor cache.
+     */
+    public static final String CONFIG_PROP_ENABLED = "toolbox.cache.vendors.enabled";
+
+    /**
+     * Session config property to set the time-to-live (in seconds) of detected repository vendors.
+     */
+    public static final String CONFIG_PROP_TTL = "toolbox.cache.vendors.ttl";
+
+    public static final long DEFAULT_TTL = TimeUnit.DAYS.toSeconds(30);
+
+    /**
+     * Session config property to set the time-to-live (in seconds) of guessed or unknown repository vendors.
+     */
+    public static final String CONFIG_PROP_GUESS_TTL = "toolbox.cache.vendors.guessTtl";
+
+    public static final long DEFAULT_GUESS_TTL = TimeUnit.DAYS.toSeconds(1);
+
+    /**
+     * The vendor cached when it could not be detected.
+     */
+    public static final String UNKNOWN = "unknown";
+
+    private static final String GUESS = "guess";
+
+    private static final String FILE_NAME = "repository-vendors.txt";
+
+    private record Entry(String vendor, long timestamp, boolean guess) {}
+
+    /**
+     * Creates repository vendor cache configured from session, using passed in cache basedir. If disabled in
+     * session, returned cache is a no-op one.
+     */
+    public static RepositoryVendorCache create(Output output, RepositorySystemSession session, Path cacheBasedir) {
+        long ttl = ConfigUtils.getLong(session, DEFAULT_TTL, CONFIG_PROP_TTL);
+        long guessTtl = ConfigUtils.getLong(session, DEFAULT_GUESS_TTL, CONFIG_PROP_GUESS_TTL);
+        return new RepositoryVendorCache(
+                output,
+                location(session, cacheBasedir, CONFIG_PROP_ENABLED, FILE_NAME, ttl > 0),
+                TimeUnit.SECONDS.toMillis(ttl),
+                TimeUnit.SECONDS.toMillis(guessTtl));
+    }
+
+    private final long ttlMillis;
+    private final long guessTtlMillis;
+    private final TreeMap<String, Entry> entries;
+    private boolean loaded;
+
+    public RepositoryVendorCache(Output output, Path file, long ttlMillis, long guessTtlMillis) {
+        super(output, file);
+        this.ttlMillis = ttlMillis;
+        this.guessTtlMillis = guessTtlMillis;
+        this.entries = new TreeMap<>();
+    }
+
+    /**
+     * Returns the cached vendor of repository with given URL, if present and not expired. The vendor may be
+     * {@link #UNKNOWN}.
+     */
+    public synchronized Optional<String> get(String url) {
+        requireNonNull(url, "url");
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+        load();
+        Entry entry = entries.get(url);
+        if (entry == null
+                || entry.timestamp() + (entry.guess() ? guessTtlMillis : ttlMillis) < System.currentTimeMillis()) {
+            miss();
+            return Optional.empty();
+        }
+        hit();
+        return Optional.of(entry.vendor());
+    }
+
+    /**
+     * Caches vendor (detected by probing) of repository with given URL, and persists the cache right away.
+     */
+    public void put(String url, String vendor) {
+        requireNonNull(url, "url");
+        requireNonNull(vendor, "vendor");
+        put(url, new Entry(vendor, System.currentTimeMillis(), false));
+    }
+
+    /**
+     * Caches guessed vendor of repository with given URL, or {@link #UNKNOWN} if vendor is {@code null}, and persists
+     * the cache right away.
+     */
+    public void putGuess(String url, String vendor) {
+        requireNonNull(url, "url");
+        put(url, new Entry(vendor == null ? UNKNOWN : vendor, System.currentTimeMillis(), true));
+    }
+
+    private synchronized void put(String url, Entry entry) {
+        if (!isEnabled()) {
+            return;
+        }
+        loaded = false; // merge with entries other processes may have stored meanwhile
+        load();
+        entries.put(url, entry);
+        store();
+        save();
+    }
+
+    private void load() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+        if (Files.isRegularFile(location)) {
+            try (BufferedReader reader = Files.newBufferedReader(location, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String[] parts = line.trim().split(" ");
+                    if (parts.length == 3 || (parts.length == 4 && GUESS.equals(parts[3]))) {
+                        try {
+                            entries.merge(
+                                    parts[0],
+                                    new Entry(parts[1], Long.parseLong(parts[2]), parts.length == 4),
+                                    (a, b) -> a.timestamp() >= b.timestamp() ? a : b);
+                        } catch (NumberFormatException e) {
+                            // skip
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                output.chatter("Could not load repository vendor cache {}", location, e);
+            }
+        }
+    }
+
+    private void save() {
+        try {
+            write(location, out -> {
+                try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8))) {
+                    for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+                        writer.write(entry.getKey() + " " + entry.getValue().vendor() + " "
+                                + entry.getValue().timestamp() + (entry.getValue().guess() ? " " + GUESS : ""));
+                        writer.newLine();
+                    }
+                }
+            });
+        } catch (IOException e) {
+            output.chatter("Could not save repository vendor cache {}", location, e);
+        }
+    }
+}
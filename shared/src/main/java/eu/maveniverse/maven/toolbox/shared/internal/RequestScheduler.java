@@ -0,0 +1,369 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.toolbox.shared.internal;
+
+import static java.util.Objects.requireNonNull;
+
+import eu.maveniverse.maven.toolbox.shared.output.Output;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.maven.search.api.transport.Transport;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.util.ConfigUtils;
+
+/**
+ * Schedules search HTTP requests per remote host: caps the count of concurrent requests with a window that adapts to
+ * observed latency (grows additively while latency is near the best seen, shrinks multiplicatively when latency
+ * degrades or server throttles), honours {@code 429}/{@code 503} with {@code Retry-After} by pausing all requests to
+ * the host, and retries idempotent requests (all search requests are {@code GET} or {@code HEAD}) with jittered
+ * exponential backoff. Transports are wrapped with {@link #decorate(RepositorySystemSession, Transport)}.
+ */
+public final class RequestScheduler {
+    /**
+     * Session config property to set the maximum count of concurrent requests per host.
+     */
+    public static final String CONFIG_PROP_MAX_CONCURRENCY = "toolbox.search.http.maxConcurrency";
+
+    public static final int DEFAULT_MAX_CONCURRENCY = 8;
+
+    /**
+     * Session config property to set the maximum count of retries of a failed or throttled request.
+     */
+    public static final String CONFIG_PROP_MAX_RETRIES = "toolbox.search.http.maxRetries";
+
+    public static final int DEFAULT_MAX_RETRIES = 3;
+
+    /**
+     * Session config property to set the base delay (in milliseconds) of exponential backoff between retries.
+     */
+    public static final String CONFIG_PROP_BACKOFF = "toolbox.search.http.backoff";
+
+    public static final long DEFAULT_BACKOFF = 250L;
+
+    /**
+     * Session config property to set the maximum delay (in milliseconds) that is waited for on a retry, even if
+     * server asks for more.
+     */
+    public static final String CONFIG_PROP_MAX_DELAY = "toolbox.search.http.maxDelay";
+
+    public static final long DEFAULT_MAX_DELAY = TimeUnit.SECONDS.toMillis(60);
+
+    /**
+     * Statistics of one host.
+     */
+    public record HostStats(
+            String host,
+            double window,
+            int inFlight,
+            long requests,
+            long retries,
+            long throttled,
+            long failures,
+            long averageLatencyMillis,
+            long maxLatencyMillis,
+            long totalLatencyMillis) {
+        /**
+         * Returns statistics of requests made since given baseline (of same host) was taken. The window, in-flight
+         * requests and maximum latency are current ones.
+         */
+        public HostStats since(HostStats baseline) {
+            if (baseline == null) {
+                return this;
+            }
+            long deltaRequests = requests - baseline.requests();
+            long deltaLatency = totalLatencyMillis - baseline.totalLatencyMillis();
+            return new HostStats(
+                    host,
+                    window,
+                    inFlight,
+                    deltaRequests,
+                    retries - baseline.retries(),
+                    throttled - baseline.throttled(),
+                    failures - baseline.failures(),
+                    deltaRequests == 0 ? 0 : deltaLatency / deltaRequests,
+                    maxLatencyMillis,
+                    deltaLatency);
+        }
+    }
+
+    private final ConcurrentHashMap<String, Host> hosts = new ConcurrentHashMap<>();
+
+    /**
+     * Decorates transport with this scheduler, configured from session.
+     */
+    public Transport decorate(RepositorySystemSession session, Transport transport) {
+        requireNonNull(session, "session");
+        requireNonNull(transport, "transport");
+        return new SchedulingTransport(
+                transport,
+                Math.max(1, ConfigUtils.getInteger(session, DEFAULT_MAX_CONCURRENCY, CONFIG_PROP_MAX_CONCURRENCY)),
+                Math.max(0, ConfigUtils.getInteger(session, DEFAULT_MAX_RETRIES, CONFIG_PROP_MAX_RETRIES)),
+                Math.max(1L, ConfigUtils.getLong(session, DEFAULT_BACKOFF, CONFIG_PROP_BACKOFF)),
+                Math.max(0L, ConfigUtils.getLong(session, DEFAULT_MAX_DELAY, CONFIG_PROP_MAX_DELAY)));
+    }
+
+    /**
+     * Returns statistics of all hosts requests were sent to, ordered by host.
+     */
+    public List<HostStats> stats() {
+        ArrayList<HostStats> result = new ArrayList<>();
+        hosts.values().forEach(h -> result.add(h.stats()));
+        result.sort(Comparator.comparing(HostStats::host));
+        return result;
+    }
+
+    /**
+     * Reports statistics of hosts requests were sent to since passed in baseline (as returned by {@link #stats()})
+     * was taken. As scheduler may be shared, this reports only requests made by the owner of baseline.
+     */
+    public void report(Output output, List<HostStats> baseline) {
+        requireNonNull(output, "output");
+        requireNonNull(baseline, "baseline");
+        Map<String, HostStats> baselines =
+                baseline.stream().collect(Collectors.toMap(HostStats::host, Function.identity()));
+        for (HostStats current : stats()) {
+            HostStats stats = current.since(baselines.get(current.host()));
+            if (stats.requests() == 0) {
+                continue;
+            }
+            output.chatter(
+                    "Search requests to {}: {} requests ({} retries, {} throttled, {} failed); latency avg {} ms;"
+                            + " window {}",
+                    stats.host(),
+                    stats.requests(),
+                    stats.retries(),
+                    stats.throttled(),
+                    stats.failures(),
+                    stats.averageLatencyMillis(),
+                    String.format("%.1f", stats.window()));
+        }
+    }
+
+    Host host(String serviceUri) {
+        URI uri = URI.create(serviceUri);
+        String host = uri.getHost() == null ? String.valueOf(uri.getScheme()) : uri.getHost();
+        if (uri.getPort() != -1) {
+            host = host + ":" + uri.getPort();
+        }
+        return hosts.computeIfAbsent(host, Host::new);
+    }
+
+    /**
+     * State of one host: the adaptive concurrency window and statistics.
+     */
+    static final class Host {
+        private final String name;
+        private double window = -1; // set on first acquire
+        private int inFlight;
+        private long pausedUntil; // nanoTime
+        private long bestLatency; // nanos, slowly decaying minimum
+        private long requests;
+        private long retries;
+        private long throttled;
+        private long failures;
+        private long totalLatency;
+        private long maxLatency;
+
+        private Host(String name) {
+            this.name = name;
+        }
+
+        synchronized void acquire(int maxConcurrency) throws InterruptedException {
+            if (window < 0) {
+                window = maxConcurrency;
+            }
+            while (true) {
+                long pause = pausedUntil - System.nanoTime();
+                if (pause > 0) {
+                    TimeUnit.NANOSECONDS.timedWait(this, pause);
+                } else if (inFlight >= Math.max(1, (int) Math.min(window, maxConcurrency))) {
+                    wait();
+                } else {
+                    break;
+                }
+            }
+            inFlight++;
+            requests++;
+        }
+
+        synchronized void release(int maxConcurrency, long latencyNanos, boolean throttled, boolean failed) {
+            inFlight--;
+            totalLatency += latencyNanos;
+            maxLatency = Math.max(maxLatency, latencyNanos);
+            if (failed) {
+                failures++;
+            }
+            if (throttled) {
+                this.throttled++;
+                window = Math.max(1, window / 2);
+            } else if (!failed) {
+                bestLatency = bestLatency == 0 ? latencyNanos : Math.min(latencyNanos, bestLatency + bestLatency / 100);
+                if (latencyNanos > 2 * bestLatency) {
+                    window = Math.max(1, window * 0.9);
+                } else {
+                    window = Math.min(maxConcurrency, window + 1 / window);
+                }
+            }
+            notifyAll();
+        }
+
+        synchronized void retried() {
+            retries++;
+        }
+
+        synchronized void pause(long delayNanos) {
+            pausedUntil = Math.max(pausedUntil, System.nanoTime() + delayNanos);
+        }
+
+        synchronized HostStats stats() {
+            return new HostStats(
+                    name,
+                    Math.max(0, window),
+                    inFlight,
+                    requests,
+                    retries,
+                    throttled,
+                    failures,
+                    requests == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalLatency / requests),
+                    TimeUnit.NANOSECONDS.toMillis(maxLatency),
+                    TimeUnit.NANOSECONDS.toMillis(totalLatency));
+        }
+    }
+
+    @FunctionalInterface
+    private interface Call {
+        Transport.Response execute() throws IOException;
+    }
+
+    private final class SchedulingTransport implements Transport {
+        private final Transport delegate;
+        private final int maxConcurrency;
+        private final int maxRetries;
+        private final long backoffMillis;
+        private final long maxDelayMillis;
+
+        private SchedulingTransport(
+                Transport delegate, int maxConcurrency, int maxRetries, long backoffMillis, long maxDelayMillis) {
+            this.delegate = delegate;
+            this.maxConcurrency = maxConcurrency;
+            this.maxRetries = maxRetries;
+            this.backoffMillis = backoffMillis;
+            this.maxDelayMillis = maxDelayMillis;
+        }
+
+        @Override
+        public Response get(String serviceUri, Map<String, String> headers) throws IOException {
+            return schedule(serviceUri, () -> delegate.get(serviceUri, headers));
+        }
+
+        @Override
+        public Response head(String serviceUri, Map<String, String> headers) throws IOException {
+            return schedule(serviceUri, () -> delegate.head(serviceUri, headers));
+        }
+
+        private Response schedule(String serviceUri, Call call) throws IOException {
+            Host host = host(serviceUri);
+            for (int attempt = 0; ; attempt++) {
+                try {
+                    host.acquire(maxConcurrency);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for " + serviceUri);
+                }
+                long start = System.nanoTime();
+                Response response;
+                try {
+                    response = call.execute();
+                } catch (InterruptedIOException e) {
+                    host.release(maxConcurrency, System.nanoTime() - start, false, true);
+                    throw e;
+                } catch (IOException e) {
+                    host.release(maxConcurrency, System.nanoTime() - start, false, true);
+                    if (attempt >= maxRetries) {
+                        throw e;
+                    }
+                    backoff(host, attempt, -1);
+                    continue;
+                }
+                int code = response.getCode();
+                boolean throttled = code == 429 || code == 503;
+                boolean retryable = throttled || code == 502 || code == 504;
+                host.release(maxConcurrency, System.nanoTime() - start, throttled, retryable && !throttled);
+                if (!retryable || attempt >= maxRetries) {
+                    return response;
+                }
+                long retryAfter = retryAfter(response.getHeaders());
+                response.close();
+                if (throttled && retryAfter >= 0) {
+                    host.pause(TimeUnit.MILLISECONDS.toNanos(Math.min(retryAfter, maxDelayMillis)));
+                }
+                backoff(host, attempt, retryAfter);
+            }
+        }
+
+        /**
+         * Sleeps before a retry: for the delay server asked for, or a "full jitter" exponential backoff.
+         */
+        private void backoff(Host host, int attempt, long retryAfterMillis) throws IOException {
+            host.retried();
+            long delay = retryAfterMillis >= 0
+                    ? retryAfterMillis
+                    : ThreadLocalRandom.current().nextLong(backoffMillis << Math.min(attempt, 16));
+            try {
+                Thread.sleep(Math.min(delay, maxDelayMillis));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while backing off");
+            }
+        }
+    }
+
+    /**
+     * Returns the delay in milliseconds asked by {@code Retry-After} header, or {@code -1} if not present or not
+     * parseable.
+     */
+    static long retryAfter(Map<String, String> headers) {
+        if (headers == null) {
+            return -1;
+        }
+        String value = null;
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            if ("Retry-After".equalsIgnoreCase(header.getKey())) {
+                value = header.getValue();
+                break;
+            }
+        }
+        if (value == null || value.isBlank()) {
+            return -1;
+        }
+        value = value.trim();
+        try {
+            return TimeUnit.SECONDS.toMillis(Math.max(0, Long.parseLong(value)));
+        } catch (NumberFormatException e) {
+            try {
+                ZonedDateTime date = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+                return Math.max(0, date.toInstant().toEpochMilli() - System.currentTimeMillis());
+            } catch (DateTimeParseException ex) {
+                return -1;
+            }
+        }
+    }
+}
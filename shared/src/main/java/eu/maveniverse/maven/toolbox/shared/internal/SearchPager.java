@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.toolbox.shared.internal;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.apache.maven.search.api.SearchBackend;
+import org.apache.maven.search.api.SearchRequest;
+import org.apache.maven.search.api.SearchResponse;
+
+/**
+ * Iterates over pages of a search, prefetching next pages while current one is being consumed. First page is fetched
+ * alone, to learn total hits, and after that up to {@code prefetch} pages are kept "in flight" (but never more than
+ * there are pages). With prefetch {@code 0} pages are fetched one by one on caller thread. Iteration stops at first
+ * empty page. Pager must be closed, to cancel any outstanding prefetch.
+ */
+public final class SearchPager implements Iterator<SearchResponse>, AutoCloseable {
+    private final SearchBackend backend;
+    private final int prefetch;
+    private final ExecutorService executor; // nullable
+    private final ArrayDeque<Future<SearchResponse>> pending;
+    private SearchRequest nextRequest;
+    private int scheduled;
+    private int pageLimit;
+    private SearchResponse next;
+    private boolean done;
+
+    public SearchPager(SearchBackend backend, SearchRequest searchRequest, int prefetch) {
+        this.backend = requireNonNull(backend, "backend");
+        this.prefetch = Math.max(0, prefetch);
+        if (this.prefetch > 0) {
+            AtomicInteger counter = new AtomicInteger(0);
+            this.executor = Executors.newFixedThreadPool(this.prefetch, r -> {
+                Thread thread = new Thread(r, "search-prefetch-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            this.executor = null;
+        }
+        this.pending = new ArrayDeque<>();
+        this.nextRequest = requireNonNull(searchRequest, "searchRequest");
+        this.pageLimit = 1; // until first page tells total hits
+        schedule(1);
+    }
+
+    /**
+     * Returns stream of pages, that closes this pager when closed.
+     */
+    public Stream<SearchResponse> stream() {
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(this::close);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next != null) {
+            return true;
+        }
+        if (done || pending.isEmpty()) {
+            return false;
+        }
+        SearchResponse response = await(pending.remove());
+        if (scheduled == 1) {
+            int totalHits = response.getTotalHits();
+            int pageSize = response.getSearchRequest().getPaging().getPageSize();
+            pageLimit = totalHits >= 0 && pageSize > 0 ? (totalHits + pageSize - 1) / pageSize : Integer.MAX_VALUE;
+        }
+        if (response.getCurrentHits() == 0) {
+            close();
+            return false;
+        }
+        next = response;
+        schedule(prefetch + 1);
+        return true;
+    }
+
+    @Override
+    public SearchResponse next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        SearchResponse result = next;
+        next = null;
+        return result;
+    }
+
+    @Override
+    public void close() {
+        done = true;
+        pending.forEach(f -> f.cancel(true));
+        pending.clear();
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void schedule(int count) {
+        while (!done && pending.size() < count && scheduled < pageLimit) {
+            SearchRequest request = nextRequest;
+            FutureTask<SearchResponse> task = new FutureTask<>(() -> backend.search(request));
+            if (executor != null) {
+                executor.execute(task);
+            } else {
+                task.run();
+            }
+            pending.add(task);
+            nextRequest = request.nextPage();
+            scheduled++;
+        }
+    }
+
+    private SearchResponse await(Future<SearchResponse> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            close();
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw new UncheckedIOException(ioException);
+            } else if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new UncheckedIOException(new InterruptedIOException("Interrupted while waiting for search"));
+        }
+    }
+}
@@ -0,0 +1,369 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.toolbox.shared.internal;
+
+import static java.util.Objects.requireNonNull;
+
+import eu.maveniverse.maven.toolbox.shared.output.Output;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.apache.maven.search.api.MAVEN;
+import org.apache.maven.search.api.Record;
+import org.apache.maven.search.api.SearchBackend;
+import org.apache.maven.search.api.SearchRequest;
+import org.apache.maven.search.api.SearchResponse;
+import org.apache.maven.search.api.request.BooleanQuery;
+import org.apache.maven.search.api.request.Field;
+import org.apache.maven.search.api.request.FieldQuery;
+import org.apache.maven.search.api.request.Query;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.util.ChecksumUtils;
+import org.eclipse.aether.util.ConfigUtils;
+
+/**
+ * Persistent cache of {@link SearchResponse}s, keyed by backend id, repository id, backend URL, query and page.
+ * Entries have time-to-live depending on the kind of query: responses that hit by SHA-1 or by a released GAV are
+ * immutable facts and are kept forever, while anything else (like version listings) is kept for a short period only.
+ * Misses have their own time-to-live, by default they are not cached at all, as they are expected to change (ie. by a
+ * deploy). Cache is bounded: least recently used entries are evicted once cache grows over its limit. Backends are
+ * wrapped with {@link #decorate(SearchBackend, String)}.
+ */
+public final class SearchResponseCache extends CacheSupport {
+    /**
+     * Session config property to enable or disable (bypass) the search response cache.
+     */
+    public static final String CONFIG_PROP_ENABLED = "toolbox.cache.search.enabled";
+
+    /**
+     * Session config property to set the time-to-live (in seconds) of mutable search responses.
+     */
+    public static final String CONFIG_PROP_TTL = "toolbox.cache.search.ttl";
+
+    public static final long DEFAULT_TTL = TimeUnit.HOURS.toSeconds(1);
+
+    /**
+     * Session config property to set the time-to-live (in seconds) of search responses without hits.
+     */
+    public static final String CONFIG_PROP_MISS_TTL = "toolbox.cache.search.missTtl";
+
+    public static final long DEFAULT_MISS_TTL = 0;
+
+    /**
+     * Session config property to set the maximum count of cached search responses.
+     */
+    public static final String CONFIG_PROP_MAX_ENTRIES = "toolbox.cache.search.maxEntries";
+
+    public static final int DEFAULT_MAX_ENTRIES = 10000;
+
+    private static final int FORMAT_VERSION = 2;
+
+    private static final String EXT = ".response";
+
+    private static final long FOREVER = Long.MAX_VALUE;
+
+    private static final Map<String, Field> FIELDS = fields();
+
+    /**
+     * Creates search response cache configured from session, using passed in cache basedir. If disabled in session,
+     * returned cache is a no-op one.
+     */
+    public static SearchResponseCache create(Output output, RepositorySystemSession session, Path cacheBasedir) {
+        long ttl = ConfigUtils.getLong(session, DEFAULT_TTL, CONFIG_PROP_TTL);
+        long missTtl = ConfigUtils.getLong(session, DEFAULT_MISS_TTL, CONFIG_PROP_MISS_TTL);
+        int maxEntries = ConfigUtils.getInteger(session, DEFAULT_MAX_ENTRIES, CONFIG_PROP_MAX_ENTRIES);
+        return new SearchResponseCache(
+                output,
+                location(session, cacheBasedir, CONFIG_PROP_ENABLED, "search", maxEntries > 0),
+                TimeUnit.SECONDS.toMillis(ttl),
+                TimeUnit.SECONDS.toMillis(missTtl),
+                maxEntries);
+    }
+
+    private final long ttlMillis;
+    private final long missTtlMillis;
+    private final int maxEntries;
+
+    public SearchResponseCache(Output output, Path basedir, long ttlMillis, long missTtlMillis, int maxEntries) {
+        super(output, basedir);
+        this.ttlMillis = ttlMillis;
+        this.missTtlMillis = missTtlMillis;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Decorates passed in backend with this cache, if enabled. The URL is the base URL backend talks to, as backend
+     * and repository IDs alone (like "releases") are not unique across hosts.
+     */
+    public SearchBackend decorate(SearchBackend backend, String url) {
+        requireNonNull(backend, "backend");
+        requireNonNull(url, "url");
+        return isEnabled() ? new CachingSearchBackend(backend, url) : backend;
+    }
+
+    private final class CachingSearchBackend implements SearchBackend {
+        private final SearchBackend delegate;
+        private final String url;
+
+        private CachingSearchBackend(SearchBackend delegate, String url) {
+            this.delegate = delegate;
+            this.url = url;
+        }
+
+        @Override
+        public String getBackendId() {
+            return delegate.getBackendId();
+        }
+
+        @Override
+        public String getRepositoryId() {
+            return delegate.getRepositoryId();
+        }
+
+        @Override
+        public SearchResponse search(SearchRequest searchRequest) throws IOException {
+            String key = key(delegate, url, searchRequest);
+            Optional<SearchResponse> cached = get(key, searchRequest);
+            if (cached.isPresent()) {
+                return cached.orElseThrow();
+            }
+            SearchResponse searchResponse = delegate.search(searchRequest);
+            put(key, searchResponse);
+            return searchResponse;
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+
+    private static final class CachedSearchResponse implements SearchResponse {
+        private final SearchRequest searchRequest;
+        private final int totalHits;
+        private final List<Record> page;
+
+        private CachedSearchResponse(SearchRequest searchRequest, int totalHits, List<Record> page) {
+            this.searchRequest = searchRequest;
+            this.totalHits = totalHits;
+            this.page = page;
+        }
+
+        @Override
+        public SearchRequest getSearchRequest() {
+            return searchRequest;
+        }
+
+        @Override
+        public int getTotalHits() {
+            return totalHits;
+        }
+
+        @Override
+        public int getCurrentHits() {
+            return page.size();
+        }
+
+        @Override
+        public List<Record> getPage() {
+            return page;
+        }
+    }
+
+    private String key(SearchBackend backend, String url, SearchRequest searchRequest) {
+        String key = backend.getBackendId() + "|" + backend.getRepositoryId() + "|" + url + "|"
+                + searchRequest.getQuery() + "|" + searchRequest.getPaging().getPageSize() + "|"
+                + searchRequest.getPaging().getPageOffset();
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return ChecksumUtils.toHexString(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 MessageDigest unavailable", e);
+        }
+    }
+
+    /**
+     * Returns the time-to-live of given response: hits of pure field queries pinning SHA-1 or a released GAV never
+     * change, while misses may turn into hits any time. Free text queries are never considered immutable.
+     */
+    private long ttl(SearchResponse searchResponse) {
+        if (searchResponse.getCurrentHits() == 0) {
+            return missTtlMillis;
+        }
+        HashMap<String, String> fields = new HashMap<>();
+        if (collect(searchResponse.getSearchRequest().getQuery(), fields)) {
+            if (fields.containsKey(MAVEN.SHA1.getFieldName())) {
+                return FOREVER;
+            }
+            String version = fields.get(MAVEN.VERSION.getFieldName());
+            if (fields.containsKey(MAVEN.GROUP_ID.getFieldName())
+                    && fields.containsKey(MAVEN.ARTIFACT_ID.getFieldName())
+                    && version != null
+                    && !version.endsWith("-SNAPSHOT")) {
+                return FOREVER;
+            }
+        }
+        return ttlMillis;
+    }
+
+    /**
+     * Collects field queries of passed in query, returns {@code false} if query contains free text as well.
+     */
+    private static boolean collect(Query query, Map<String, String> fields) {
+        if (query instanceof BooleanQuery booleanQuery) {
+            return collect(booleanQuery.getLeft(), fields) && collect(booleanQuery.getRight(), fields);
+        } else if (query instanceof FieldQuery fieldQuery) {
+            fields.put(fieldQuery.getField().getFieldName(), fieldQuery.getValue());
+            return true;
+        }
+        return query == null;
+    }
+
+    private Optional<SearchResponse> get(String key, SearchRequest searchRequest) {
+        Path file = location.resolve(key + EXT);
+        if (Files.isRegularFile(file)) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+                if (in.readInt() == FORMAT_VERSION && in.readLong() > System.currentTimeMillis()) {
+                    int totalHits = in.readInt();
+                    int size = in.readInt();
+                    ArrayList<Record> page = new ArrayList<>(size);
+                    for (int i = 0; i < size; i++) {
+                        page.add(readRecord(in));
+                    }
+                    touch(file);
+                    hit();
+                    return Optional.of(new CachedSearchResponse(searchRequest, totalHits, page));
+                }
+                Files.deleteIfExists(file);
+            } catch (IOException | RuntimeException e) {
+                output.chatter("Could not read cached search response {}", file, e);
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException ex) {
+                    // ignore
+                }
+            }
+        }
+        miss();
+        return Optional.empty();
+    }
+
+    private void put(String key, SearchResponse searchResponse) {
+        long ttl = ttl(searchResponse);
+        if (ttl <= 0) {
+            return;
+        }
+        try {
+            write(location.resolve(key + EXT), os -> {
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(os))) {
+                    out.writeInt(FORMAT_VERSION);
+                    out.writeLong(ttl == FOREVER ? FOREVER : System.currentTimeMillis() + ttl);
+                    out.writeInt(searchResponse.getTotalHits());
+                    out.writeInt(searchResponse.getPage().size());
+                    for (Record record : searchResponse.getPage()) {
+                        writeRecord(out, record);
+                    }
+                }
+            });
+            store();
+            evict(location, EXT, maxEntries);
+        } catch (IOException e) {
+            output.chatter("Could not store search response {}", searchResponse.getSearchRequest(), e);
+        }
+    }
+
+    private static void writeRecord(DataOutputStream out, Record record) throws IOException {
+        writeString(out, record.getBackendId());
+        writeString(out, record.getRepositoryId());
+        writeString(out, record.getUid());
+        out.writeLong(record.getLastUpdated() == null ? -1L : record.getLastUpdated());
+        out.writeInt(record.getFields().size());
+        for (Map.Entry<Field, Object> entry : record.getFields().entrySet()) {
+            out.writeUTF(entry.getKey().getFieldName());
+            Object value = entry.getValue();
+            if (value instanceof Boolean b) {
+                out.writeByte('Z');
+                out.writeBoolean(b);
+            } else if (value instanceof Integer i) {
+                out.writeByte('I');
+                out.writeInt(i);
+            } else if (value instanceof Long l) {
+                out.writeByte('J');
+                out.writeLong(l);
+            } else {
+                out.writeByte('S');
+                writeString(out, value == null ? null : value.toString());
+            }
+        }
+    }
+
+    private static Record readRecord(DataInputStream in) throws IOException {
+        String backendId = readString(in);
+        String repositoryId = readString(in);
+        String uid = readString(in);
+        long lastUpdated = in.readLong();
+        int size = in.readInt();
+        LinkedHashMap<Field, Object> fields = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            String name = in.readUTF();
+            Field field = FIELDS.get(name);
+            if (field == null) {
+                throw new IOException("Unknown field " + name);
+            }
+            byte type = in.readByte();
+            switch (type) {
+                case 'Z' -> fields.put(field, in.readBoolean());
+                case 'I' -> fields.put(field, in.readInt());
+                case 'J' -> fields.put(field, in.readLong());
+                case 'S' -> fields.put(field, readString(in));
+                default -> throw new IOException("Unknown field type " + type);
+            }
+        }
+        return new Record(backendId, repositoryId, uid, lastUpdated == -1L ? null : lastUpdated, fields);
+    }
+
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        out.writeBoolean(string != null);
+        if (string != null) {
+            out.writeUTF(string);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static Map<String, Field> fields() {
+        HashMap<String, Field> result = new HashMap<>();
+        for (java.lang.reflect.Field constant : MAVEN.class.getFields()) {
+            if (Field.class.isAssignableFrom(constant.getType())) {
+                try {
+                    Field field = (Field) constant.get(null);
+                    result.put(field.getFieldName(), field);
+                } catch (IllegalAccessException e) {
+                    // skip
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -55,16 +55,23 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.StandardOpenOption;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.text.CharacterIterator;
 import java.text.StringCharacterIterator;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -78,12 +85,12 @@ import java.util.Properties;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.apache.maven.model.DependencyManagement;
 import org.apache.maven.model.InputLocation;
 import org.apache.maven.model.InputSource;
@@ -106,6 +113,7 @@ import org.eclipse.aether.graph.Dependency;
 import org.eclipse.aether.graph.DependencyFilter;
 import org.eclipse.aether.graph.DependencyNode;
 import org.eclipse.aether.graph.DependencyVisitor;
+import org.eclipse.aether.graph.Exclusion;
 import org.eclipse.aether.metadata.Metadata;
 import org.eclipse.aether.repository.ArtifactRepository;
 import org.eclipse.aether.repository.RemoteRepository;
@@ -118,6 +126,7 @@ import org.eclipse.aether.spi.connector.layout.RepositoryLayout;
 import org.eclipse.aether.spi.connector.layout.RepositoryLayoutProvider;
 import org.eclipse.aether.transfer.NoRepositoryLayoutException;
 import org.eclipse.aether.util.ChecksumUtils;
+import org.eclipse.aether.util.ConfigUtils;
 import org.eclipse.aether.util.artifact.ArtifactIdUtils;
 import org.eclipse.aether.util.artifact.JavaScopes;
 import org.eclipse.aether.util.artifact.SubArtifact;
@@ -133,37 +142,90 @@ import org.eclipse.aether.version.VersionConstraint;
 import org.eclipse.aether.version.VersionScheme;
 
 public class ToolboxCommandoImpl implements ToolboxCommando {
+    /**
+     * Session config property to set the base directory of Toolbox persistent caches.
+     */
+    public static final String CONFIG_PROP_CACHE_BASEDIR = "toolbox.cache.basedir";
+
+    /**
+     * Session config property to set the parallelism of project dependency graph expansion. Defaults to 1 (serial).
+     */
+    public static final String CONFIG_PROP_GRAPH_PARALLELISM = "toolbox.graph.parallelism";
+
     protected final Output output;
     protected final Context context;
     protected final RepositorySystemSession session;
     protected final VersionScheme versionScheme;
+    protected final HttpClientRegistry httpClientRegistry;
+    protected final boolean closeHttpClientRegistry;
+    protected final List<RequestScheduler.HostStats> requestStatsBaseline;
     protected final ToolboxSearchApiImpl toolboxSearchApi;
     protected final ArtifactRecorderImpl artifactRecorder;
+    protected final Path cacheBasedir;
+    protected final DependencyGraphCache dependencyGraphCache;
+    protected final PublishDateCache publishDateCache;
+    protected final SearchResponseCache searchResponseCache;
+    protected final FileAnalysisCache fileAnalysisCache;
     protected final ToolboxResolverImpl toolboxResolver;
     protected final ToolboxGraph toolboxGraph; // nullable
 
     protected final Map<String, RemoteRepository> knownSearchRemoteRepositories;
 
     public ToolboxCommandoImpl(Output output, Context context) {
+        this(output, context, new HttpClientRegistry(), true);
+    }
+
+    /**
+     * Creates instance using passed in HTTP client registry, that is NOT closed when this instance is closed. Useful
+     * for long-running processes, to share HTTP clients among commands.
+     */
+    public ToolboxCommandoImpl(Output output, Context context, HttpClientRegistry httpClientRegistry) {
+        this(output, context, httpClientRegistry, false);
+    }
+
+    private ToolboxCommandoImpl(
+            Output output, Context context, HttpClientRegistry httpClientRegistry, boolean closeHttpClientRegistry) {
         this.output = requireNonNull(output, "output");
         this.context = requireNonNull(context, "context");
         this.versionScheme = new GenericVersionScheme();
-        this.toolboxSearchApi = new ToolboxSearchApiImpl(output);
+        this.httpClientRegistry = requireNonNull(httpClientRegistry, "httpClientRegistry");
+        this.closeHttpClientRegistry = closeHttpClientRegistry;
+        this.requestStatsBaseline = httpClientRegistry.getRequestScheduler().stats();
         this.artifactRecorder = new ArtifactRecorderImpl();
         DefaultRepositorySystemSession session = new DefaultRepositorySystemSession(context.repositorySystemSession());
         session.setRepositoryListener(
                 ChainedRepositoryListener.newInstance(session.getRepositoryListener(), artifactRecorder));
         this.session = session;
+        this.cacheBasedir = Path.of(ConfigUtils.getString(
+                session,
+                context.mavenUserHome()
+                        .basedir()
+                        .resolve("toolbox")
+                        .resolve("cache")
+                        .toString(),
+                CONFIG_PROP_CACHE_BASEDIR));
+        this.dependencyGraphCache = DependencyGraphCache.create(output, session, versionScheme, cacheBasedir);
+        this.publishDateCache = PublishDateCache.create(output, session, cacheBasedir);
+        this.searchResponseCache = SearchResponseCache.create(output, session, cacheBasedir);
+        this.fileAnalysisCache = FileAnalysisCache.create(output, session, cacheBasedir);
+        this.toolboxSearchApi = new ToolboxSearchApiImpl(
+                output,
+                httpClientRegistry,
+                searchResponseCache,
+                RepositoryVendorCache.create(output, session, cacheBasedir),
+                cacheBasedir.resolve("local-index"));
         this.toolboxResolver = new ToolboxResolverImpl(
                 output,
                 context.repositorySystem(),
                 session,
                 new MavenModelReader(context),
                 context.remoteRepositories(),
-                versionScheme);
+                versionScheme,
+                dependencyGraphCache);
 
         // Graphviz is optional
-        this.toolboxGraph = ToolboxGraph.create(output).orElse(null);
+        int graphParallelism = ConfigUtils.getInteger(session, 1, CONFIG_PROP_GRAPH_PARALLELISM);
+        this.toolboxGraph = ToolboxGraph.create(output, graphParallelism).orElse(null);
         this.knownSearchRemoteRepositories = Collections.unmodifiableMap(createKnownSearchRemoteRepositories());
     }
 
@@ -196,6 +258,13 @@ public class ToolboxCommandoImpl implements ToolboxCommando {
         return artifactRecorder;
     }
 
+    /**
+     * Creates a {@link ParallelExecutor} with parallelism configured in session. Caller must close it.
+     */
+    protected ParallelExecutor parallelExecutor(String name) {
+        return new ParallelExecutor(name, ParallelExecutor.parallelism(session));
+    }
+
     protected Map<String, RemoteRepository> createKnownSearchRemoteRepositories() {
         Map<String, RemoteRepository> rr = new HashMap<>();
         rr.put(
@@ -233,12 +302,19 @@ public class ToolboxCommandoImpl implements ToolboxCommando {
 
     @Override
     public ToolboxCommando withContextOverrides(ContextOverrides overrides) {
-        return new ToolboxCommandoImpl(output, context.customize(overrides));
+        return new ToolboxCommandoImpl(output, context.customize(overrides), httpClientRegistry);
     }
 
     @Override
     public void close() {
-        context.close();
+        try {
+            httpClientRegistry.getRequestScheduler().report(output, requestStatsBaseline);
+            if (closeHttpClientRegistry) {
+                httpClientRegistry.close();
+            }
+        } finally {
+            context.close();
+        }
     }
 
     @Override
@@ -271,6 +347,43 @@ public class ToolboxCommandoImpl implements ToolboxCommando {
         output.tell("  settings-security.xml {}", mavenUserHome.settingsSecurityXml());
         output.tell("       local repository {}", mavenUserHome.localRepository());
 
+        output.tell("");
+        output.tell("                 CACHES {}", cacheBasedir);
+        output.tell(
+                "            graph cache {} (hits: {} misses: {} stores: {})",
+                dependencyGraphCache.isEnabled() ? "enabled" : "disabled",
+                dependencyGraphCache.getHits(),
+                dependencyGraphCache.getMisses(),
+                dependencyGraphCache.getStores());
+        output.tell(
+                "     publish date cache {} (hits: {} misses: {} stores: {})",
+                publishDateCache.isEnabled() ? "enabled" : "disabled",
+                publishDateCache.getHits(),
+                publishDateCache.getMisses(),
+                publishDateCache.getStores());
+        output.tell(
+                "           search cache {} (hits: {} misses: {} stores: {})",
+                searchResponseCache.isEnabled() ? "enabled" : "disabled",
+                searchResponseCache.getHits(),
+                searchResponseCache.getMisses(),
+                searchResponseCache.getStores());
+        output.tell(
+                "         analysis cache {} (hits: {} misses: {} stores: {})",
+                fileAnalysisCache.isEnabled() ? "enabled" : "disabled",
+                fileAnalysisCache.getHits(),
+                fileAnalysisCache.getMisses(),
+                fileAnalysisCache.getStores());
+        for (RequestScheduler.HostStats stats : httpClientRegistry.getRequestScheduler().stats()) {
+            output.tell(
+                    "        search requests {} (requests: {} retries: {} throttled: {} failures: {} window: {})",
+                    stats.host(),
+                    stats.requests(),
+                    stats.retries(),
+                    stats.throttled(),
+                    stats.failures(),
+                    String.format("%.1f", stats.window()));
+        }
+
         output.tell("");
         output.tell("               PROFILES");
         output.tell("                 Active {}", context.contextOverrides().getActiveProfileIds());
@@ -348,6 +461,7 @@ public class ToolboxCommandoImpl implements ToolboxCommando {
         result.put(
                 "user.settingsSecurity", String.valueOf(context.mavenUserHome().settingsSecurityXml()));
         result.put("user.repository", String.valueOf(context.mavenUserHome().localRepository()));
+        result.put("toolbox.cache.basedir", String.valueOf(cacheBasedir));
 
         result.put(
                 "profiles.active", String.join(",", context.contextOverrides().getActiveProfileIds()));
@@ -739,17 +853,17 @@ public class ToolboxCommandoImpl implements ToolboxCommando {
     public Result<List<Artifact>> copyTransitive(
             ResolutionScope resolutionScope, Collection<ResolutionRoot> resolutionRoots, Sink<Artifact> sink)
             throws Exception {
-        ArrayList<Artifact> artifactResults = new ArrayList<>();
-        for (ResolutionRoot resolutionRoot : resolutionRoots) {
-            output.suggest("Resolving {}", resolutionRoot.getArtifact());
-            resolutionRoot = toolboxResolver.loadRoot(resolutionRoot);
-            DependencyResult dependencyResult =
-                    toolboxResolver.resolve(resolutionScope, toolboxResolver.loadRoot(resolutionRoot));
-            artifactResults.addAll(dependencyResult.getArtifactResults().stream()
-                    .filter(ArtifactResult::isResolved)
-                    .map(r -> origin(r.getArtifact(), r.getRepository()))
-                    .toList());
+        List<List<Artifact>> rootResults;
+        try (ParallelExecutor executor = parallelExecutor("copy-transitive")) {
+            rootResults = executor.map(resolutionRoots, resolutionRoot -> {
+                output.suggest("Resolving {}", resolutionRoot.getArtifact());
+                DependencyResult dependencyResult =
+                        toolboxResolver.resolve(resolutionScope, toolboxResolver.loadRoot(resolutionRoot));
+                return resolvedArtifacts(dependencyResult);
+            });
         }
+        ArrayList<Artifact> artifactResults = new ArrayList<>();
+        rootResults.forEach(artifactResults::addAll);
         return copy(artifactResults::stream, sink);
     }
 
@@ -763,14 +877,25 @@ public class ToolboxCommandoImpl implements ToolboxCommando {
     public Result<Map<String, List<RemoteRepository>>> listRepositories(
             ResolutionScope resolutionScope, Map<String, ResolutionRoot> resolutionRoots) throws Exception {
         HashMap<String, List<RemoteRepository>> result = new HashMap<>();
-        for (Map.Entry<String, ResolutionRoot> entry : resolutionRoots.entrySet()) {
-            String contextName = entry.getKey();
-            ResolutionRoot resolutionRoot = entry.getValue();
-            output.chatter("Loading root of {} {}", contextName, resolutionRoot.getArtifact());
-            ResolutionRoot root = toolboxResolver.loadRoot(resolutionRoot);
-            output.chatter("Collecting graph of: {}", resolutionRoot.getArtifact());
-            CollectResult collectResult = toolboxResolver.collect(
-                    resolutionScope, root.getArtifact(), root.getDependencies(), root.getManagedDependencies(), false);
+        List<Map.Entry<String, ResolutionRoot>> entries = new ArrayList<>(resolutionRoots.entrySet());
+        List<CollectResult> collectResults;
+        try (ParallelExecutor executor = parallelExecutor("list-repositories")) {
+            collectResults = executor.map(entries, entry -> {
+                output.chatter("Loading root of {} {}", entry.getKey(), entry.getValue().getArtifact());
+                ResolutionRoot root = toolboxResolver.loadRoot(entry.getValue());
+                output.chatter("Collecting graph of: {}", entry.getValue().getArtifact());
+                return toolboxResolver.collect(
+                        resolutionScope,
+                        root.getArtifact(),
+                        root.getDependencies(),
+                        root.getManagedDependencies(),
+                        false);
+            });
+        }
+        for (int i = 0; i < entries.size(); i++) {
+            String contextName = entries.get(i).getKey();
+            ResolutionRoot resolutionRoot = entries.get(i).getValue();
+            CollectResult collectResult = collectResults.get(i);
             LinkedHashMap<RemoteRepository, Dependency> repositories = new LinkedHashMap<>();
             Dependency sentinel = new Dependency(new DefaultArtifact("sentinel:sentinel:sentinel"), "");
             remoteRepositories().forEach(r -> repositories.put(r, sentinel));
@@ -973,17 +1098,25 @@ public class ToolboxCommandoImpl implements ToolboxCommando {
             throws Exception {
         ArtifactSinks.StatArtifactSink stat = ArtifactSinks.statArtifactSink(0, false, false, output, this);
         try (Sink<Artifact> artifactSink = ArtifactSinks.teeArtifactSink(sink, stat)) {
-            for (ResolutionRoot resolutionRoot : resolutionRoots) {
-                doResolveTransitive(
-                        resolutionScope,
-                        resolutionRoot,
-                        poms,
-                        sources,
-                        javadoc,
-                        signature,
-                        ArtifactSinks.teeArtifactSink(
-                                ArtifactSinks.nonClosingArtifactSink(artifactSink),
-                                ArtifactSinks.statArtifactSink(1, true, true, output, this)));
+            List<ResolutionRoot> roots = new ArrayList<>(resolutionRoots);
+            List<List<Artifact>> rootResults;
+            try (ParallelExecutor executor = parallelExecutor("resolve-transitive")) {
+                rootResults = executor.map(
+                        roots,
+                        resolutionRoot -> doResolveTransitive(
+                                resolutionScope, resolutionRoot, poms, sources, javadoc, signature));
+            }
+            // sinks are fed in order of roots, to keep per-root output grouped and deterministic
+            for (int i = 0; i < roots.size(); i++) {
+                try (Sink<Artifact> rootSink = ArtifactSinks.teeArtifactSink(
+                        ArtifactSinks.nonClosingArtifactSink(artifactSink),
+                        ArtifactSinks.statArtifactSink(1, true, true, output, this))) {
+                    output.marker(Output.Verbosity.NORMAL)
+                            .emphasize("Resolving ")
+                            .outstanding(ArtifactIdUtils.toId(roots.get(i).getArtifact()))
+                            .say();
+                    rootSink.accept(rootResults.get(i));
+                }
             }
         }
         return stat.getSeenArtifacts().isEmpty()
@@ -991,61 +1124,59 @@ public class ToolboxCommandoImpl implements ToolboxCommando {
                 : Result.success(stat.getSeenArtifacts());
     }
 
-    protected void doResolveTransitive(
+    /**
+     * Resolves transitively given root and (best effort) requested sub-artifacts. Returns all the resolved artifacts.
+     */
+    protected List<Artifact> doResolveTransitive(
             ResolutionScope resolutionScope,
             ResolutionRoot resolutionRoot,
             boolean poms,
             boolean sources,
             boolean javadoc,
-            boolean signature,
-            Sink<Artifact> sink)
+            boolean signature)
             throws Exception {
-        try (Sink<Artifact> artifactSink = sink) {
-            output.marker(Output.Verbosity.NORMAL)
-                    .emphasize("Resolving ")
-                    .outstanding(ArtifactIdUtils.toId(resolutionRoot.getArtifact()))
-                    .say();
-            DependencyResult dependencyResult =
-                    toolboxResolver.resolve(resolutionScope, toolboxResolver.loadRoot(resolutionRoot));
-            artifactSink.accept(dependencyResult.getArtifactResults().stream()
-                    .map(r -> origin(r.getArtifact(), r.getRepository()))
-                    .collect(Collectors.toList()));
+        output.chatter("Resolving transitively {}", resolutionRoot.getArtifact());
+        DependencyResult dependencyResult =
+                toolboxResolver.resolve(resolutionScope, toolboxResolver.loadRoot(resolutionRoot));
+        List<Artifact> result = dependencyResult.getArtifactResults().stream()
+                .map(r -> origin(r.getArtifact(), r.getRepository()))
+                .collect(Collectors.toList());
 
-            if (poms || sources || javadoc || signature) {
-                HashSet<Artifact> subartifacts = new HashSet<>();
-                dependencyResult.getArtifactResults().stream()
-                        .map(r -> origin(r.getArtifact(), r.getRepository()))
-                        .forEach(a -> {
-                            if (poms && a.getClassifier().isEmpty()) {
-                                subartifacts.add(new SubArtifact(a, "", "pom"));
-                            }
-                            if (sources && a.getClassifier().isEmpty()) {
-                                subartifacts.add(new SubArtifact(a, "sources", "jar"));
-                            }
-                            if (javadoc && a.getClassifier().isEmpty()) {
-                                subartifacts.add(new SubArtifact(a, "javadoc", "jar"));
-                            }
-                            if (signature && !a.getExtension().endsWith(".asc")) {
-                                subartifacts.add(new SubArtifact(a, "*", "*.asc"));
-                            }
-                        });
-                if (!subartifacts.isEmpty()) {
-                    output.suggest("Resolving (best effort) {}", subartifacts);
-                    try {
-                        List<ArtifactResult> subartifactResults = toolboxResolver.resolveArtifacts(subartifacts);
-                        artifactSink.accept(subartifactResults.stream()
-                                .map(r -> origin(r.getArtifact(), r.getRepository()))
-                                .collect(Collectors.toList()));
-                    } catch (ArtifactResolutionException e) {
-                        // ignore, this is "best effort"
-                        artifactSink.accept(e.getResults().stream()
-                                .filter(ArtifactResult::isResolved)
-                                .map(r -> origin(r.getArtifact(), r.getRepository()))
-                                .collect(Collectors.toList()));
-                    }
+        if (poms || sources || javadoc || signature) {
+            HashSet<Artifact> subartifacts = new HashSet<>();
+            dependencyResult.getArtifactResults().stream()
+                    .map(r -> origin(r.getArtifact(), r.getRepository()))
+                    .forEach(a -> {
+                        if (poms && a.getClassifier().isEmpty()) {
+                            subartifacts.add(new SubArtifact(a, "", "pom"));
+                        }
+                        if (sources && a.getClassifier().isEmpty()) {
+                            subartifacts.add(new SubArtifact(a, "sources", "jar"));
+                        }
+                        if (javadoc && a.getClassifier().isEmpty()) {
+                            subartifacts.add(new SubArtifact(a, "javadoc", "jar"));
+                        }
+                        if (signature && !a.getExtension().endsWith(".asc")) {
+                            subartifacts.add(new SubArtifact(a, "*", "*.asc"));
+                        }
+                    });
+            if (!subartifacts.isEmpty()) {
+                output.suggest("Resolving (best effort) {}", subartifacts);
+                try {
+                    List<ArtifactResult> subartifactResults = toolboxResolver.resolveArtifacts(subartifacts);
+                    result.addAll(subartifactResults.stream()
+                            .map(r -> origin(r.getArtifact(), r.getRepository()))
+                            .toList());
+                } catch (ArtifactResolutionException e) {
+                    // ignore, this is "best effort"
+                    result.addAll(e.getResults().stream()
+                            .filter(ArtifactResult::isResolved)
+                            .map(r -> origin(r.getArtifact(), r.getRepository()))
+                            .toList());
                 }
             }
         }
+        return result;
     }
 
     @Override
@@ -1176,6 +1307,9 @@ public class ToolboxCommandoImpl implements ToolboxCommando {
         collectResult.getRoot().accept(pathRecordingDependencyVisitor);
         List<List<Artifact>> result = new ArrayList<>();
         if (!pathRecordingDependencyVisitor.getPaths().isEmpty()) {
+            Map<String, Optional<Dependency>> nodeManagement = showManagement
+                    ? doTreeFindManagement(resolutionRoot, pathRecordingDependencyVisitor.getPaths(), artifactMatcher)
+                    : Map.of();
             Dependency management = null;
             for (List<DependencyNode> path : pathRecordingDependencyVisitor.getPaths()) {
                 result.add(path.stream().map(DependencyNode::getArtifact).collect(Collectors.toList()));
@@ -1193,15 +1327,7 @@ public class ToolboxCommandoImpl implements ToolboxCommando {
                                     .findFirst()
                                     .orElse(null);
                         } else if (node.getArtifact() != null) {
-                            newManagement = toolboxResolver
-                                    .loadRoot(ResolutionRoot.ofLoaded(node.getArtifact())
-                                            .build())
-                                    .getManagedDependencies()
-                                    .stream()
-                                    .filter(d -> d.getArtifact() != null && artifactMatcher.test(d.getArtifact()))
-                                    .findFirst()
-                                    .orElse(null);
-                            ;
+                            newManagement = nodeManagement.get(ArtifactIdUtils.toId(node.getArtifact())).orElse(null);
                         }
                         if (management != null || newManagement != null) {
                             if (management == null) {
@@ -1225,6 +1351,238 @@ public class ToolboxCommandoImpl implements ToolboxCommando {
         return Result.success(result);
     }
 
+    /**
+     * Computes the management (first managed dependency matching the matcher) declared by every distinct node on
+     * given paths, except the root. Each descriptor is read only once (and concurrently), no matter how many paths
+     * share the node.
+     */
+    protected Map<String, Optional<Dependency>> doTreeFindManagement(
+            ResolutionRoot resolutionRoot, List<List<DependencyNode>> paths, ArtifactMatcher artifactMatcher)
+            throws Exception {
+        LinkedHashMap<String, Artifact> artifacts = new LinkedHashMap<>();
+        for (List<DependencyNode> path : paths) {
+            for (DependencyNode node : path) {
+                if (node.getArtifact() != null && !Objects.equals(node.getArtifact(), resolutionRoot.getArtifact())) {
+                    artifacts.putIfAbsent(ArtifactIdUtils.toId(node.getArtifact()), node.getArtifact());
+                }
+            }
+        }
+        List<Optional<Dependency>> managements;
+        try (ParallelExecutor executor = parallelExecutor("tree-find")) {
+            managements = executor.map(artifacts.values(), artifact -> toolboxResolver
+                    .loadRoot(ResolutionRoot.ofLoaded(artifact).build())
+                    .getManagedDependencies()
+                    .stream()
+                    .filter(d -> d.getArtifact() != null && artifactMatcher.test(d.getArtifact()))
+                    .findFirst());
+        }
+        HashMap<String, Optional<Dependency>> result = new HashMap<>();
+        int idx = 0;
+        for (String key : artifacts.keySet()) {
+            result.put(key, managements.get(idx++));
+        }
+        return result;
+    }
+
+    @Override
+    public Result<Map<Dependency, Map<Exclusion, List<List<Artifact>>>>> checkExclusions(
+            ResolutionScope resolutionScope, ResolutionRoot resolutionRoot, boolean verboseTree) throws Exception {
+        List<Dependency> dependencies = resolutionRoot.getDependencies().stream()
+                .filter(d -> !d.getExclusions().isEmpty())
+                .collect(Collectors.toList());
+        List<Map<Exclusion, List<List<DependencyNode>>>> paths;
+        try (ParallelExecutor executor = parallelExecutor("check-exclusions")) {
+            paths = executor.map(dependencies, d -> doCheckExclusions(resolutionScope, resolutionRoot, d, verboseTree));
+        }
+
+        LinkedHashMap<Dependency, Map<Exclusion, List<List<Artifact>>>> result = new LinkedHashMap<>();
+        for (int i = 0; i < dependencies.size(); i++) {
+            Dependency dependency = dependencies.get(i);
+            LinkedHashMap<Exclusion, List<List<Artifact>>> exclusions = new LinkedHashMap<>();
+            for (Map.Entry<Exclusion, List<List<DependencyNode>>> entry : paths.get(i).entrySet()) {
+                output.marker(Output.Verbosity.NORMAL)
+                        .normal("Checking dependency ")
+                        .emphasize(dependency.toString())
+                        .normal(" exclusion ")
+                        .emphasize(entry.getKey().toString())
+                        .normal(" paths")
+                        .say();
+                ArrayList<List<Artifact>> exclusionPaths = new ArrayList<>();
+                for (List<DependencyNode> path : entry.getValue()) {
+                    exclusionPaths.add(path.stream().map(DependencyNode::getArtifact).collect(Collectors.toList()));
+                    String indent = "";
+                    for (DependencyNode node : path) {
+                        output.tell(
+                                "{}-> {}",
+                                indent,
+                                node.getDependency() != null ? node.getDependency() : node.getArtifact());
+                        indent += "  ";
+                    }
+                }
+                if (exclusionPaths.isEmpty()) {
+                    output.marker(Output.Verbosity.NORMAL).scary("Is unused").say();
+                } else {
+                    output.marker(Output.Verbosity.NORMAL).outstanding("Is used").say();
+                }
+                output.doTell("");
+                exclusions.put(entry.getKey(), exclusionPaths);
+            }
+            result.put(dependency, exclusions);
+        }
+        return Result.success(result);
+    }
+
+    /**
+     * Collects the graph of given dependency of root with all exclusions removed, and records paths to artifacts
+     * matched by each exclusion in single traversal. As with {@link PathRecordingDependencyVisitor}, children of a
+     * match are not searched for further matches of same exclusion.
+     */
+    protected Map<Exclusion, List<List<DependencyNode>>> doCheckExclusions(
+            ResolutionScope resolutionScope, ResolutionRoot resolutionRoot, Dependency dependency, boolean verboseTree)
+            throws Exception {
+        ResolutionRoot root = toolboxResolver.loadRoot(ResolutionRoot.ofNotLoaded(resolutionRoot.getArtifact())
+                .withDependencies(List.of(dependency.setExclusions(null)))
+                .build());
+        output.chatter("Collecting graph of: {}", dependency);
+        CollectResult collectResult = toolboxResolver.collect(
+                resolutionScope,
+                root.getArtifact(),
+                root.getDependencies(),
+                root.getManagedDependencies(),
+                verboseTree);
+
+        List<Exclusion> exclusions = new ArrayList<>(dependency.getExclusions());
+        List<ArtifactMatcher> matchers = exclusions.stream()
+                .map(e -> exclusionArtifactMatcher(dependency.getArtifact(), e))
+                .collect(Collectors.toList());
+        LinkedHashMap<Exclusion, List<List<DependencyNode>>> result = new LinkedHashMap<>();
+        exclusions.forEach(e -> result.put(e, new ArrayList<>()));
+        int[] matchedAt = new int[exclusions.size()];
+        Arrays.fill(matchedAt, -1);
+        ArrayList<DependencyNode> path = new ArrayList<>();
+        ArrayDeque<Boolean> entered = new ArrayDeque<>();
+        collectResult.getRoot().accept(new DependencyVisitor() {
+            @Override
+            public boolean visitEnter(DependencyNode node) {
+                if (path.stream().anyMatch(n -> n == node)) {
+                    entered.push(false);
+                    return false; // cycle
+                }
+                entered.push(true);
+                path.add(node);
+                if (node.getArtifact() != null) {
+                    for (int i = 0; i < matchers.size(); i++) {
+                        if (matchedAt[i] < 0 && matchers.get(i).test(node.getArtifact())) {
+                            result.get(exclusions.get(i)).add(new ArrayList<>(path));
+                            matchedAt[i] = path.size();
+                        }
+                    }
+                }
+                return true;
+            }
+
+            @Override
+            public boolean visitLeave(DependencyNode node) {
+                if (entered.pop()) {
+                    for (int i = 0; i < matchedAt.length; i++) {
+                        if (matchedAt[i] == path.size()) {
+                            matchedAt[i] = -1;
+                        }
+                    }
+                    path.remove(path.size() - 1);
+                }
+                return true;
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Matcher of artifacts removed by given exclusion of given dependency: {@code not(dependency) && exclusion}.
+     */
+    protected ArtifactMatcher exclusionArtifactMatcher(Artifact dependency, Exclusion exclusion) {
+        return ArtifactMatcher.and(
+                ArtifactMatcher.not(ArtifactMatcher.artifact(dependency.toString())),
+                ArtifactMatcher.artifact(asteriskOrString(exclusion.getGroupId()) + ":"
+                        + asteriskOrString(exclusion.getArtifactId()) + ":"
+                        + asteriskOrString(exclusion.getClassifier())
+                        + ":" + asteriskOrString(exclusion.getExtension()) + ":*"));
+    }
+
+    private static String asteriskOrString(String str) {
+        if (str == null || str.trim().isEmpty()) {
+            return "*";
+        }
+        return str;
+    }
+
+    @Override
+    public Result<Map<String, List<String>>> affectedBy(
+            ResolutionScope resolutionScope,
+            Map<String, ResolutionRoot> resolutionRoots,
+            Map<String, ArtifactMatcher> artifactMatchers)
+            throws Exception {
+        ArrayList<Map.Entry<String, ResolutionRoot>> roots = new ArrayList<>(resolutionRoots.entrySet());
+        output.suggest("Collecting graphs of {} roots", roots.size());
+        List<Collection<Artifact>> reachedArtifacts;
+        try (ParallelExecutor executor = parallelExecutor("affected-by")) {
+            reachedArtifacts = executor.map(roots, e -> doReachedArtifacts(resolutionScope, e.getValue()));
+        }
+
+        // reverse index: artifact ID -> indices of roots reaching it
+        HashMap<String, Artifact> artifacts = new HashMap<>();
+        HashMap<String, BitSet> index = new HashMap<>();
+        for (int i = 0; i < roots.size(); i++) {
+            for (Artifact artifact : reachedArtifacts.get(i)) {
+                String id = ArtifactIdUtils.toId(artifact);
+                artifacts.putIfAbsent(id, artifact);
+                index.computeIfAbsent(id, k -> new BitSet(roots.size())).set(i);
+            }
+        }
+        output.suggest("Indexed {} distinct artifacts reached by {} roots", index.size(), roots.size());
+
+        LinkedHashMap<String, List<String>> result = new LinkedHashMap<>();
+        for (Map.Entry<String, ArtifactMatcher> query : artifactMatchers.entrySet()) {
+            BitSet affected = new BitSet(roots.size());
+            for (Map.Entry<String, BitSet> entry : index.entrySet()) {
+                if (query.getValue().test(artifacts.get(entry.getKey()))) {
+                    affected.or(entry.getValue());
+                }
+            }
+            result.put(
+                    query.getKey(),
+                    affected.stream().mapToObj(i -> roots.get(i).getKey()).collect(Collectors.toList()));
+        }
+        return Result.success(result);
+    }
+
+    /**
+     * Returns all the artifacts present in the tree of given root (including root itself), every artifact once.
+     */
+    protected Collection<Artifact> doReachedArtifacts(ResolutionScope resolutionScope, ResolutionRoot resolutionRoot)
+            throws Exception {
+        output.chatter("Collecting graph of: {}", resolutionRoot.getArtifact());
+        ResolutionRoot root = toolboxResolver.loadRoot(resolutionRoot);
+        CollectResult collectResult = toolboxResolver.collect(
+                resolutionScope, root.getArtifact(), root.getDependencies(), root.getManagedDependencies(), false);
+        LinkedHashMap<String, Artifact> result = new LinkedHashMap<>();
+        collectResult.getRoot().accept(new TreeDependencyVisitor(new DependencyVisitor() {
+            @Override
+            public boolean visitEnter(DependencyNode node) {
+                if (node.getArtifact() != null) {
+                    result.putIfAbsent(ArtifactIdUtils.toId(node.getArtifact()), node.getArtifact());
+                }
+                return true;
+            }
+
+            @Override
+            public boolean visitLeave(DependencyNode node) {
+                return true;
+            }
+        }));
+        return result.values();
+    }
+
     @Override
     public Result<List<Dependency>> dmList(ResolutionRoot resolutionRoot, boolean verboseList) throws Exception {
         AtomicInteger counter = new AtomicInteger(0);
@@ -1480,7 +1838,7 @@ public class ToolboxCommandoImpl implements ToolboxCommando {
     @Override
     public Result<Map<Artifact, Boolean>> exists(
             RemoteRepository remoteRepository,
-            String gav,
+            Collection<String> gavs,
             boolean pom,
             boolean sources,
             boolean javadoc,
@@ -1488,79 +1846,58 @@ public class ToolboxCommandoImpl implements ToolboxCommando {
             boolean allRequired,
             String repositoryVendor)
             throws IOException {
-        HashMap<Artifact, Boolean> result = new HashMap<>();
-        ArrayList<Artifact> missingOnes = new ArrayList<>();
-        ArrayList<Artifact> existingOnes = new ArrayList<>();
-        try (SearchBackend backend = toolboxSearchApi.getRemoteRepositoryBackend(
-                context.repositorySystemSession(), remoteRepository, repositoryVendor)) {
+        // artifact -> required
+        LinkedHashMap<Artifact, Boolean> checks = new LinkedHashMap<>();
+        for (String gav : gavs) {
             Artifact artifact = new DefaultArtifact(gav);
-            boolean exists = toolboxSearchApi.exists(backend, artifact);
-            result.put(artifact, exists);
-            if (!exists) {
-                missingOnes.add(artifact);
-            } else {
-                existingOnes.add(artifact);
+            checks.put(artifact, true);
+            if (pom && !"pom".equals(artifact.getExtension())) {
+                checks.putIfAbsent(new SubArtifact(artifact, null, "pom"), allRequired);
+            }
+            if (sources) {
+                checks.putIfAbsent(new SubArtifact(artifact, "sources", "jar"), allRequired);
+            }
+            if (javadoc) {
+                checks.putIfAbsent(new SubArtifact(artifact, "javadoc", "jar"), allRequired);
             }
+            if (signature) {
+                checks.putIfAbsent(new SubArtifact(artifact, null, artifact.getExtension() + ".asc"), allRequired);
+            }
+        }
 
-            BiConsumer<Artifact, Boolean> reporter = (a, e) -> {
-                if (e) {
+        LinkedHashMap<Artifact, Boolean> result = new LinkedHashMap<>();
+        ArrayList<Artifact> missingOnes = new ArrayList<>();
+        ArrayList<Artifact> existingOnes = new ArrayList<>();
+        try (SearchBackend backend = toolboxSearchApi.getRemoteRepositoryBackend(
+                        context.repositorySystemSession(), remoteRepository, repositoryVendor);
+                ParallelExecutor executor = parallelExecutor("exists")) {
+            List<Artifact> artifacts = new ArrayList<>(checks.keySet());
+            List<Boolean> existence = executor.map(artifacts, a -> toolboxSearchApi.exists(backend, a));
+            for (int i = 0; i < artifacts.size(); i++) {
+                Artifact artifact = artifacts.get(i);
+                boolean exists = existence.get(i);
+                result.put(artifact, exists);
+                if (!exists && checks.get(artifact)) {
+                    missingOnes.add(artifact);
+                } else if (checks.get(artifact)) {
+                    existingOnes.add(artifact);
+                }
+                if (exists) {
                     output.marker(Output.Verbosity.NORMAL)
                             .normal("Artifact {} ")
                             .outstanding("EXISTS")
-                            .say(a);
+                            .say(artifact);
                 } else {
                     output.marker(Output.Verbosity.NORMAL)
                             .normal("Artifact {} ")
                             .scary("NOT EXISTS")
-                            .say(a);
-                }
-            };
-
-            reporter.accept(artifact, exists);
-            if (pom && !"pom".equals(artifact.getExtension())) {
-                Artifact poma = new SubArtifact(artifact, null, "pom");
-                exists = toolboxSearchApi.exists(backend, poma);
-                result.put(poma, exists);
-                if (!exists && allRequired) {
-                    missingOnes.add(poma);
-                } else if (allRequired) {
-                    existingOnes.add(poma);
-                }
-                reporter.accept(poma, exists);
-            }
-            if (sources) {
-                Artifact sourcesa = new SubArtifact(artifact, "sources", "jar");
-                exists = toolboxSearchApi.exists(backend, sourcesa);
-                result.put(sourcesa, exists);
-                if (!exists && allRequired) {
-                    missingOnes.add(sourcesa);
-                } else if (allRequired) {
-                    existingOnes.add(sourcesa);
-                }
-                reporter.accept(sourcesa, exists);
-            }
-            if (javadoc) {
-                Artifact javadoca = new SubArtifact(artifact, "javadoc", "jar");
-                exists = toolboxSearchApi.exists(backend, javadoca);
-                result.put(javadoca, exists);
-                if (!exists && allRequired) {
-                    missingOnes.add(javadoca);
-                } else if (allRequired) {
-                    existingOnes.add(javadoca);
+                            .say(artifact);
                 }
-                reporter.accept(javadoca, exists);
-            }
-            if (signature) {
-                Artifact signaturea = new SubArtifact(artifact, null, artifact.getExtension() + ".asc");
-                exists = toolboxSearchApi.exists(backend, signaturea);
-                result.put(signaturea, exists);
-                if (!exists && allRequired) {
-                    missingOnes.add(signaturea);
-                } else if (allRequired) {
-                    existingOnes.add(signaturea);
-                }
-                reporter.accept(signaturea, exists);
             }
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("Could not check existence of artifacts", e);
         }
         output.tell("");
         output.marker(Output.Verbosity.TIGHT)
@@ -1572,30 +1909,27 @@ public class ToolboxCommandoImpl implements ToolboxCommando {
     @Override
     public Result<Map<String, Artifact>> identify(
             RemoteRepository remoteRepository, Collection<String> targets, boolean decorated) throws IOException {
-        HashMap<String, String> sha1s = new HashMap<>();
-        for (String target : targets) {
-            Path tgt = Path.of(target);
-            if (Files.exists(tgt)) {
-                try {
-                    output.tell("Calculating SHA1 of file {}", target);
-                    MessageDigest sha1md = MessageDigest.getInstance("SHA-1");
-                    byte[] buf = new byte[8192];
-                    int read;
-                    try (InputStream fis = Files.newInputStream(tgt)) {
-                        read = fis.read(buf);
-                        while (read != -1) {
-                            sha1md.update(buf, 0, read);
-                            read = fis.read(buf);
-                        }
-                    }
-                    sha1s.put(target, ChecksumUtils.toHexString(sha1md.digest()));
-                } catch (NoSuchAlgorithmException e) {
-                    throw new IllegalStateException("SHA1 MessageDigest unavailable", e);
-                }
+        LinkedHashMap<String, String> sha1s = new LinkedHashMap<>();
+        ArrayList<String> files = new ArrayList<>();
+        for (String target : expandIdentifyTargets(targets)) {
+            if (Files.isRegularFile(Path.of(target))) {
+                output.tell("Calculating SHA1 of file {}", target);
+                files.add(target);
+                sha1s.put(target, null);
             } else {
                 sha1s.put(target, target);
             }
         }
+        try (ParallelExecutor executor = parallelExecutor("identify-sha1")) {
+            List<String> hashes = executor.map(files, f -> sha1(Path.of(f)));
+            for (int i = 0; i < files.size(); i++) {
+                sha1s.put(files.get(i), hashes.get(i));
+            }
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("Could not calculate SHA1 of files", e);
+        }
 
         Map<String, Artifact> result;
         try (SearchBackend backend =
@@ -1622,6 +1956,67 @@ public class ToolboxCommandoImpl implements ToolboxCommando {
         return result.isEmpty() ? Result.failure("No matches") : Result.success(result);
     }
 
+    /**
+     * Expands identify targets: directories are expanded to all files they contain, while targets containing glob
+     * characters to all files matching the glob. Any other target is left as is.
+     */
+    protected List<String> expandIdentifyTargets(Collection<String> targets) throws IOException {
+        ArrayList<String> result = new ArrayList<>();
+        for (String target : targets) {
+            int glob = indexOfGlob(target);
+            Path base;
+            PathMatcher matcher;
+            if (glob >= 0) {
+                int sep = Math.max(target.lastIndexOf('/', glob), target.lastIndexOf(File.separatorChar, glob));
+                base = Path.of(sep < 0 ? "." : target.substring(0, sep + 1));
+                matcher = base.getFileSystem().getPathMatcher("glob:" + target.substring(sep + 1));
+            } else if (Files.isDirectory(Path.of(target))) {
+                base = Path.of(target);
+                matcher = p -> true;
+            } else {
+                result.add(target);
+                continue;
+            }
+            if (Files.isDirectory(base)) {
+                try (Stream<Path> stream = Files.walk(base)) {
+                    stream.filter(Files::isRegularFile)
+                            .filter(p -> matcher.matches(base.relativize(p)))
+                            .map(Path::toString)
+                            .sorted()
+                            .forEach(result::add);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static int indexOfGlob(String target) {
+        for (int i = 0; i < target.length(); i++) {
+            if ("*?[{".indexOf(target.charAt(i)) >= 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Calculates SHA-1 of given file, reading it through a {@link FileChannel}.
+     */
+    protected static String sha1(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MessageDigest sha1md = MessageDigest.getInstance("SHA-1");
+            ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                sha1md.update(buffer);
+                buffer.clear();
+            }
+            return ChecksumUtils.toHexString(sha1md.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA1 MessageDigest unavailable", e);
+        }
+    }
+
     @Override
     public Result<List<String>> list(RemoteRepository remoteRepository, String gavoid, String repositoryVendor)
             throws IOException {
@@ -1681,25 +2076,15 @@ public class ToolboxCommandoImpl implements ToolboxCommando {
             } catch (IllegalArgumentException e) {
                 query = query(expression);
             }
-            SearchRequest searchRequest = new SearchRequest(query);
-            SearchResponse searchResponse = backend.search(searchRequest);
-
-            Collection<Artifact> artifacts =
-                    toolboxSearchApi.renderArtifacts(session(), searchResponse.getPage(), null);
-            for (Artifact artifact : artifacts) {
-                result.add(artifact);
-                output.tell(artifact.toString());
-                output.suggest(artifact.getProperties().toString());
-            }
-            while (searchResponse.getCurrentHits() > 0) {
-                searchResponse =
-                        backend.search(searchResponse.getSearchRequest().nextPage());
-                artifacts = toolboxSearchApi.renderArtifacts(session(), searchResponse.getPage(), null);
-                for (Artifact artifact : artifacts) {
+            try (Stream<Artifact> artifacts =
+                    toolboxSearchApi.searchArtifacts(session(), backend, new SearchRequest(query))) {
+                artifacts.forEachOrdered(artifact -> {
                     result.add(artifact);
                     output.tell(artifact.toString());
                     output.suggest(artifact.getProperties().toString());
-                }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
             }
         }
         return Result.success(result);
@@ -1745,7 +2130,9 @@ public class ToolboxCommandoImpl implements ToolboxCommando {
                 upToDate,
                 versionPredicate,
                 artifactVersionSelector,
-                searchBackends);
+                searchBackends,
+                publishDateCache,
+                ParallelExecutor.parallelism(session, LibYearSink.CONFIG_PROP_LIBYEAR_PARALLELISM));
         try (sink) {
             try {
                 ArrayList<Artifact> artifacts = new ArrayList<>();
@@ -1792,13 +2179,12 @@ public class ToolboxCommandoImpl implements ToolboxCommando {
             BiFunction<Artifact, List<Version>, String> versionSelector)
             throws Exception {
         List<Artifact> artifacts = artifactSource.get().toList();
-        HashMap<Artifact, List<Version>> result = new HashMap<>();
         output.marker(Output.Verbosity.NORMAL)
                 .emphasize("Checking newest versions of {} ({})")
                 .say(context, artifacts.size());
+        Map<Artifact, List<Version>> result = toolboxResolver.findNewerVersions(artifacts, versionPredicate);
         for (Artifact artifact : artifacts) {
-            List<Version> newer = toolboxResolver.findNewerVersions(artifact, versionPredicate);
-            result.put(artifact, newer);
+            List<Version> newer = result.get(artifact);
             if (!newer.isEmpty()) {
                 String selected = versionSelector.apply(artifact, newer);
                 boolean changed = !Objects.equals(selected, artifact.getVersion());
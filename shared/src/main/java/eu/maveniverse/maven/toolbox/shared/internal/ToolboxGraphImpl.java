@@ -29,10 +29,12 @@ import guru.nidi.graphviz.model.MutableGraph;
 import guru.nidi.graphviz.model.MutableNode;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -47,9 +49,15 @@ import org.eclipse.aether.util.artifact.ArtifactIdUtils;
  */
 public class ToolboxGraphImpl implements ToolboxGraph {
     protected final Output output;
+    protected final int parallelism;
 
     public ToolboxGraphImpl(Output output) {
+        this(output, 1);
+    }
+
+    public ToolboxGraphImpl(Output output, int parallelism) {
         this.output = requireNonNull(output, "output");
+        this.parallelism = parallelism;
     }
 
     @Override
@@ -109,19 +117,17 @@ public class ToolboxGraphImpl implements ToolboxGraph {
                     excludeSubprojectsMatcher,
                     excludeDependencyMatcher,
                     reactorLocator,
-                    reactorLocator.getSelectedProject().orElseThrow());
+                    List.of(reactorLocator.getSelectedProject().orElseThrow()));
         } else {
-            for (ReactorLocator.ReactorProject project : reactorLocator.getAllProjects()) {
-                if (!excludeSubprojectsMatcher.test(project.artifact())) {
-                    doProjectDependencyGraph(
-                            result,
-                            showExternal,
-                            excludeSubprojectsMatcher,
-                            excludeDependencyMatcher,
-                            reactorLocator,
-                            project);
-                }
-            }
+            doProjectDependencyGraph(
+                    result,
+                    showExternal,
+                    excludeSubprojectsMatcher,
+                    excludeDependencyMatcher,
+                    reactorLocator,
+                    reactorLocator.getAllProjects().stream()
+                            .filter(p -> !excludeSubprojectsMatcher.test(p.artifact()))
+                            .collect(Collectors.toList()));
         }
         return result;
     }
@@ -183,35 +189,77 @@ public class ToolboxGraphImpl implements ToolboxGraph {
         return shortPrefix + value.substring(commonPrefix.length());
     }
 
+    /**
+     * Expands the graph from given projects. Every project is expanded only once (so diamond shaped inter-module
+     * dependencies are walked once), and independent projects of the same "level" are expanded concurrently, if
+     * parallelism allows.
+     */
     protected void doProjectDependencyGraph(
             HashMap<ReactorLocator.ReactorProject, Collection<Dependency>> result,
+            boolean showExternal,
+            ArtifactMatcher excludeSubprojectsMatcher,
+            DependencyMatcher excludeDependencyMatcher,
+            ReactorLocator reactorLocator,
+            Collection<ReactorLocator.ReactorProject> projects) {
+        HashSet<ReactorLocator.ReactorProject> expanded = new HashSet<>();
+        List<ReactorLocator.ReactorProject> level =
+                projects.stream().filter(expanded::add).collect(Collectors.toList());
+        try (ParallelExecutor executor = new ParallelExecutor("project-graph", parallelism)) {
+            while (!level.isEmpty()) {
+                List<Expansion> expansions = executor.map(
+                        level,
+                        p -> doExpandProject(
+                                showExternal, excludeSubprojectsMatcher, excludeDependencyMatcher, reactorLocator, p));
+                ArrayList<ReactorLocator.ReactorProject> nextLevel = new ArrayList<>();
+                for (int i = 0; i < level.size(); i++) {
+                    Expansion expansion = expansions.get(i);
+                    if (!expansion.dependencies().isEmpty()) {
+                        result.computeIfAbsent(level.get(i), p -> new HashSet<>())
+                                .addAll(expansion.dependencies());
+                    }
+                    for (ReactorLocator.ReactorProject child : expansion.children()) {
+                        if (expanded.add(child)) {
+                            nextLevel.add(child);
+                        }
+                    }
+                }
+                level = nextLevel;
+            }
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The outcome of expanding one project: the dependencies to record and the reactor projects to expand next.
+     */
+    protected record Expansion(List<Dependency> dependencies, List<ReactorLocator.ReactorProject> children) {}
+
+    protected Expansion doExpandProject(
             boolean showExternal,
             ArtifactMatcher excludeSubprojectsMatcher,
             DependencyMatcher excludeDependencyMatcher,
             ReactorLocator reactorLocator,
             ReactorLocator.ReactorProject project) {
+        ArrayList<Dependency> dependencies = new ArrayList<>();
+        ArrayList<ReactorLocator.ReactorProject> children = new ArrayList<>();
         for (Dependency dependency : project.dependencies()) {
             Optional<ReactorLocator.ReactorProject> rp = reactorLocator.locateProject(dependency.getArtifact());
             boolean isReactorMember = rp.isPresent();
             if (isReactorMember) {
                 if (!excludeSubprojectsMatcher.test(dependency.getArtifact())
                         && !excludeDependencyMatcher.test(dependency)) {
-                    result.computeIfAbsent(project, p -> new HashSet<>())
-                            .add(dependency.setArtifact(dependency.getArtifact()));
-                    doProjectDependencyGraph(
-                            result,
-                            showExternal,
-                            excludeSubprojectsMatcher,
-                            excludeDependencyMatcher,
-                            reactorLocator,
-                            rp.orElseThrow());
+                    dependencies.add(dependency.setArtifact(dependency.getArtifact()));
+                    children.add(rp.orElseThrow());
                 }
             } else {
                 if (showExternal && !excludeDependencyMatcher.test(dependency)) {
-                    result.computeIfAbsent(project, p -> new HashSet<>())
-                            .add(dependency.setArtifact(source(dependency.getArtifact(), true)));
+                    dependencies.add(dependency.setArtifact(source(dependency.getArtifact(), true)));
                 }
             }
         }
+        return new Expansion(dependencies, children);
     }
 }
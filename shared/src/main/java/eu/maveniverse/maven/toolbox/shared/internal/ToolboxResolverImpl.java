@@ -25,14 +25,17 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -81,6 +84,12 @@ import org.eclipse.aether.version.VersionConstraint;
 import org.eclipse.aether.version.VersionScheme;
 
 public class ToolboxResolverImpl implements ToolboxResolver {
+    /**
+     * Session config property to limit the count of concurrent plugin version lookups in
+     * {@link #listAvailablePlugins(Collection, BiFunction, Predicate)}. Defaults to Toolbox parallelism.
+     */
+    public static final String CONFIG_PROP_PLUGINS_PARALLELISM = "toolbox.plugins.parallelism";
+
     protected static final String CTX_TOOLBOX = "toolbox";
     protected final Output output;
     protected final RepositorySystem repositorySystem;
@@ -89,6 +98,8 @@ public class ToolboxResolverImpl implements ToolboxResolver {
     protected final ProjectLocator projectLocator;
     protected final List<RemoteRepository> remoteRepositories;
     protected final VersionScheme versionScheme;
+    protected final DependencyGraphCache dependencyGraphCache;
+    protected final ConcurrentHashMap<String, List<Dependency>> managedDependenciesCache = new ConcurrentHashMap<>();
 
     public ToolboxResolverImpl(
             Output output,
@@ -96,7 +107,8 @@ public class ToolboxResolverImpl implements ToolboxResolver {
             RepositorySystemSession session,
             MavenModelReader mavenModelReader,
             List<RemoteRepository> remoteRepositories,
-            VersionScheme versionScheme) {
+            VersionScheme versionScheme,
+            DependencyGraphCache dependencyGraphCache) {
         this.output = requireNonNull(output, "output");
         this.repositorySystem = requireNonNull(repositorySystem, "repositorySystem");
         this.session = requireNonNull(session, "session");
@@ -104,6 +116,7 @@ public class ToolboxResolverImpl implements ToolboxResolver {
         this.projectLocator = new ProjectLocatorImpl(session, mavenModelReader);
         this.remoteRepositories = requireNonNull(remoteRepositories, "remoteRepositories");
         this.versionScheme = requireNonNull(versionScheme, "versionScheme");
+        this.dependencyGraphCache = requireNonNull(dependencyGraphCache, "dependencyGraphCache");
     }
 
     @Override
@@ -591,8 +604,17 @@ public class ToolboxResolverImpl implements ToolboxResolver {
         collectRequest.setRequestContext(CTX_TOOLBOX);
         collectRequest.setTrace(RequestTrace.newChild(null, collectRequest));
 
-        output.chatter("Collecting {} @ {}", collectRequest, resolutionScope.name());
-        CollectResult result = repositorySystem.collectDependencies(session, collectRequest);
+        String cacheKey = dependencyGraphCache.key(
+                session, collectRequest, "collect", resolutionScope.name(), dirtyMaxLevel, verbose);
+        CollectResult result =
+                cacheKey != null ? dependencyGraphCache.get(cacheKey, collectRequest).orElse(null) : null;
+        if (result == null) {
+            output.chatter("Collecting {} @ {}", collectRequest, resolutionScope.name());
+            result = repositorySystem.collectDependencies(session, collectRequest);
+            if (cacheKey != null) {
+                dependencyGraphCache.put(cacheKey, result);
+            }
+        }
         if (!dirtyTree && !verbose && resolutionScope != ResolutionScope.TEST) {
             ArrayList<DependencyNode> childrenToRemove = new ArrayList<>();
             for (DependencyNode node : result.getRoot().getChildren()) {
@@ -648,8 +670,17 @@ public class ToolboxResolverImpl implements ToolboxResolver {
         collectRequest.setRequestContext(CTX_TOOLBOX);
         collectRequest.setTrace(RequestTrace.newChild(null, collectRequest));
 
-        output.chatter("Collecting {} @ {}", collectRequest, resolutionScope.name());
-        CollectResult result = repositorySystem.collectDependencies(session, collectRequest);
+        String cacheKey = dependencyGraphCache.key(
+                session, collectRequest, "collectDirty", resolutionScope.name(), dirtyLevelPast, conflictResolve);
+        CollectResult result =
+                cacheKey != null ? dependencyGraphCache.get(cacheKey, collectRequest).orElse(null) : null;
+        if (result == null) {
+            output.chatter("Collecting {} @ {}", collectRequest, resolutionScope.name());
+            result = repositorySystem.collectDependencies(session, collectRequest);
+            if (cacheKey != null) {
+                dependencyGraphCache.put(cacheKey, result);
+            }
+        }
         if (resolutionScope != ResolutionScope.TEST) {
             ArrayList<DependencyNode> childrenToRemove = new ArrayList<>();
             for (DependencyNode node : result.getRoot().getChildren()) {
@@ -693,7 +724,9 @@ public class ToolboxResolverImpl implements ToolboxResolver {
                 new DefaultDependencyNode(rootDependency != null ? rootDependency.getArtifact() : root);
         result.setRoot(rootNode);
         HashMap<String, LinkedHashSet<String>> encounters = new HashMap<>();
-        doCollectDmRecursive(rootNode, encounters);
+        try (ParallelExecutor executor = new ParallelExecutor("dm-import", ParallelExecutor.parallelism(session))) {
+            doCollectDmRecursive(rootNode, encounters, executor);
+        }
         Map<String, LinkedHashSet<String>> conflicts = encounters.entrySet().stream()
                 .filter(e -> e.getValue().size() > 1)
                 .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
@@ -711,12 +744,58 @@ public class ToolboxResolverImpl implements ToolboxResolver {
     }
 
     protected void doCollectDmRecursive(
-            DefaultDependencyNode currentRoot, Map<String, LinkedHashSet<String>> encounters)
+            DefaultDependencyNode currentRoot,
+            Map<String, LinkedHashSet<String>> encounters,
+            ParallelExecutor executor)
             throws ArtifactDescriptorException, ArtifactResolutionException, VersionResolutionException {
-        ModelResponse modelResponse = mavenModelReader.readModel(ModelRequest.builder()
-                .setArtifact(currentRoot.getArtifact())
-                .setRequestContext(CTX_TOOLBOX)
-                .build());
+        List<Dependency> managedDependencies = readManagedDependencies(currentRoot.getArtifact());
+
+        // warm up the cache with sibling imports concurrently; failures are reported by the recursion below
+        List<Artifact> imports = managedDependencies.stream()
+                .filter(d -> "import".equals(d.getScope()))
+                .map(Dependency::getArtifact)
+                .filter(a -> !managedDependenciesCache.containsKey(ArtifactIdUtils.toId(a)))
+                .distinct()
+                .collect(Collectors.toList());
+        if (imports.size() > 1) {
+            try {
+                executor.map(imports, a -> {
+                    try {
+                        return readManagedDependencies(a);
+                    } catch (Exception e) {
+                        return null;
+                    }
+                });
+            } catch (Exception e) {
+                // ignore
+            }
+        }
+
+        for (Dependency managedDependency : managedDependencies) {
+            DefaultDependencyNode child = new DefaultDependencyNode(managedDependency);
+            currentRoot.getChildren().add(child);
+            String key = ArtifactIdUtils.toVersionlessId(managedDependency.getArtifact());
+            encounters
+                    .computeIfAbsent(key, k -> new LinkedHashSet<>())
+                    .add(managedDependency.getArtifact().getVersion());
+            if ("import".equals(child.getDependency().getScope())) {
+                doCollectDmRecursive(child, encounters, executor);
+            }
+        }
+    }
+
+    /**
+     * Returns the managed dependencies of given artifact (a BOM) as declared in its lineage, uses a cache keyed by
+     * GAV, so BOMs imported by several other BOMs are built only once in this session.
+     */
+    protected List<Dependency> readManagedDependencies(Artifact artifact)
+            throws ArtifactDescriptorException, ArtifactResolutionException, VersionResolutionException {
+        String cacheKey = ArtifactIdUtils.toId(artifact);
+        List<Dependency> result = managedDependenciesCache.get(cacheKey);
+        if (result != null) {
+            return result;
+        }
+        ModelResponse modelResponse = readModel(artifact);
 
         Model rawModel = null;
         for (String lineage : modelResponse.getLineage()) {
@@ -733,19 +812,11 @@ public class ToolboxResolverImpl implements ToolboxResolver {
             }
         }
 
-        for (Dependency managedDependency : modelResponse
+        result = List.copyOf(modelResponse
                 .toArtifactDescriptorResult(modelResponse.interpolateModel(rawModel))
-                .getManagedDependencies()) {
-            DefaultDependencyNode child = new DefaultDependencyNode(managedDependency);
-            currentRoot.getChildren().add(child);
-            String key = ArtifactIdUtils.toVersionlessId(managedDependency.getArtifact());
-            encounters
-                    .computeIfAbsent(key, k -> new LinkedHashSet<>())
-                    .add(managedDependency.getArtifact().getVersion());
-            if ("import".equals(child.getDependency().getScope())) {
-                doCollectDmRecursive(child, encounters);
-            }
-        }
+                .getManagedDependencies());
+        List<Dependency> existing = managedDependenciesCache.putIfAbsent(cacheKey, result);
+        return existing != null ? existing : result;
     }
 
     protected DependencyResult doResolve(
@@ -872,6 +943,85 @@ public class ToolboxResolverImpl implements ToolboxResolver {
         return result.getVersions().stream().filter(filter).collect(Collectors.toList());
     }
 
+    @Override
+    public Map<Artifact, List<Version>> findNewerVersions(Collection<Artifact> artifacts, Predicate<Version> filter)
+            throws VersionRangeResolutionException {
+        RequestTrace trace = RequestTrace.newChild(null, this);
+        LinkedHashMap<String, List<MetadataRequest>> requests = new LinkedHashMap<>();
+        for (Artifact artifact : artifacts) {
+            requests.computeIfAbsent(artifact.getGroupId() + ":" + artifact.getArtifactId(), k -> {
+                org.eclipse.aether.metadata.Metadata metadata = new DefaultMetadata(
+                        artifact.getGroupId(),
+                        artifact.getArtifactId(),
+                        "maven-metadata.xml",
+                        DefaultMetadata.Nature.RELEASE_OR_SNAPSHOT);
+                ArrayList<MetadataRequest> gaRequests = new ArrayList<>();
+                gaRequests.add(new MetadataRequest(metadata, null, CTX_TOOLBOX).setTrace(trace));
+                for (RemoteRepository repository : remoteRepositories) {
+                    gaRequests.add(new MetadataRequest(metadata, repository, CTX_TOOLBOX)
+                            .setDeleteLocalCopyIfMissing(true)
+                            .setFavorLocalRepository(true)
+                            .setTrace(trace));
+                }
+                return gaRequests;
+            });
+        }
+
+        // one batch for all: resolver fetches metadata concurrently
+        List<MetadataResult> metadataResults = repositorySystem.resolveMetadata(
+                session, requests.values().stream().flatMap(List::stream).collect(Collectors.toList()));
+        HashMap<String, HashSet<String>> availableVersions = new HashMap<>();
+        for (MetadataResult metadataResult : metadataResults) {
+            org.eclipse.aether.metadata.Metadata metadata = metadataResult.getMetadata();
+            String ga = metadataResult.getRequest().getMetadata().getGroupId() + ":"
+                    + metadataResult.getRequest().getMetadata().getArtifactId();
+            HashSet<String> versions = availableVersions.computeIfAbsent(ga, k -> new HashSet<>());
+            if (metadata != null && metadata.getFile() != null && metadata.getFile().isFile()) {
+                try (InputStream inputStream = Files.newInputStream(metadata.getFile().toPath())) {
+                    org.apache.maven.artifact.repository.metadata.Metadata versionMetadata =
+                            new MetadataXpp3Reader().read(inputStream, false);
+                    if (versionMetadata.getVersioning() != null) {
+                        versions.addAll(versionMetadata.getVersioning().getVersions());
+                    }
+                } catch (Exception e) {
+                    output.chatter("Could not parse metadata {}", metadata.getFile(), e);
+                }
+            } else if (metadataResult.getException() != null) {
+                output.chatter(
+                        "Could not resolve metadata {}", metadataResult.getRequest(), metadataResult.getException());
+            }
+        }
+
+        LinkedHashMap<Artifact, List<Version>> result = new LinkedHashMap<>();
+        for (Artifact artifact : artifacts) {
+            String range =
+                    artifact.getVersion().contains(",") ? artifact.getVersion() : "(" + artifact.getVersion() + ",)";
+            try {
+                VersionConstraint versionConstraint = versionScheme.parseVersionConstraint(range);
+                HashSet<String> versions =
+                        new HashSet<>(availableVersions.get(artifact.getGroupId() + ":" + artifact.getArtifactId()));
+                if (session.getWorkspaceReader() != null) {
+                    versions.addAll(session.getWorkspaceReader().findVersions(artifact));
+                }
+                ArrayList<Version> newer = new ArrayList<>();
+                for (String version : versions) {
+                    Version v = versionScheme.parseVersion(version);
+                    if (versionConstraint.containsVersion(v) && filter.test(v)) {
+                        newer.add(v);
+                    }
+                }
+                Collections.sort(newer);
+                result.put(artifact, newer);
+            } catch (InvalidVersionSpecificationException e) {
+                VersionRangeRequest rangeRequest = new VersionRangeRequest(artifact, remoteRepositories, CTX_TOOLBOX);
+                VersionRangeResult rangeResult = new VersionRangeResult(rangeRequest);
+                rangeResult.addException(e);
+                throw new VersionRangeResolutionException(rangeResult);
+            }
+        }
+        return result;
+    }
+
     @Override
     public Map<Artifact, List<Version>> listAvailablePlugins(
             Collection<String> groupIds,
@@ -892,8 +1042,8 @@ public class ToolboxResolverImpl implements ToolboxResolver {
             }
         }
 
+        ArrayList<Artifact> blueprints = new ArrayList<>();
         HashSet<String> processedGAs = new HashSet<>();
-        TreeMap<Artifact, List<Version>> result = new TreeMap<>(Comparator.comparing(ArtifactIdUtils::toId));
         List<MetadataResult> results = repositorySystem.resolveMetadata(session, requests);
         for (MetadataResult res : results) {
             org.eclipse.aether.metadata.Metadata metadata = res.getMetadata();
@@ -908,27 +1058,34 @@ public class ToolboxResolverImpl implements ToolboxResolver {
                             pluginGroupMetadata.getPlugins();
                     for (org.apache.maven.artifact.repository.metadata.Plugin plugin : plugins) {
                         if (processedGAs.add(metadata.getGroupId() + ":" + plugin.getArtifactId())) {
-                            Artifact blueprint =
-                                    new DefaultArtifact(metadata.getGroupId(), plugin.getArtifactId(), "jar", "0");
-                            List<Version> newestVersions = findNewerVersions(blueprint, matcher);
-                            if (newestVersions != null && !newestVersions.isEmpty()) {
-                                result.put(
-                                        new DefaultArtifact(
-                                                blueprint.getGroupId(),
-                                                blueprint.getArtifactId(),
-                                                blueprint.getExtension(),
-                                                selector.apply(
-                                                        blueprint.setVersion(newestVersions
-                                                                .get(0)
-                                                                .toString()),
-                                                        newestVersions)),
-                                        newestVersions);
-                            }
+                            blueprints.add(
+                                    new DefaultArtifact(metadata.getGroupId(), plugin.getArtifactId(), "jar", "0"));
                         }
                     }
                 }
             }
         }
+
+        List<List<Version>> versions;
+        try (ParallelExecutor executor = new ParallelExecutor(
+                "list-plugins", ParallelExecutor.parallelism(session, CONFIG_PROP_PLUGINS_PARALLELISM))) {
+            versions = executor.map(blueprints, blueprint -> findNewerVersions(blueprint, matcher));
+        }
+        TreeMap<Artifact, List<Version>> result = new TreeMap<>(Comparator.comparing(ArtifactIdUtils::toId));
+        for (int i = 0; i < blueprints.size(); i++) {
+            Artifact blueprint = blueprints.get(i);
+            List<Version> newestVersions = versions.get(i);
+            if (newestVersions != null && !newestVersions.isEmpty()) {
+                result.put(
+                        new DefaultArtifact(
+                                blueprint.getGroupId(),
+                                blueprint.getArtifactId(),
+                                blueprint.getExtension(),
+                                selector.apply(
+                                        blueprint.setVersion(newestVersions.get(0).toString()), newestVersions)),
+                        newestVersions);
+            }
+        }
         return result;
     }
 }
@@ -15,19 +15,31 @@ import eu.maveniverse.maven.mima.context.ContextOverrides;
 import eu.maveniverse.maven.toolbox.shared.ToolboxSearchApi;
 import eu.maveniverse.maven.toolbox.shared.output.Output;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 import org.apache.maven.search.api.MAVEN;
 import org.apache.maven.search.api.Record;
 import org.apache.maven.search.api.SearchBackend;
 import org.apache.maven.search.api.SearchRequest;
 import org.apache.maven.search.api.SearchResponse;
 import org.apache.maven.search.api.request.Query;
+import org.apache.maven.search.api.transport.Transport;
 import org.apache.maven.search.api.transport.java11.Java11HttpClientTransport;
 import org.apache.maven.search.backend.remoterepository.RemoteRepositorySearchBackendFactory;
 import org.apache.maven.search.backend.remoterepository.ResponseExtractor;
@@ -39,13 +51,51 @@ import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.artifact.ArtifactType;
 import org.eclipse.aether.artifact.DefaultArtifact;
 import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.util.ChecksumUtils;
 import org.eclipse.aether.util.ConfigUtils;
 
 public class ToolboxSearchApiImpl implements ToolboxSearchApi {
+    /**
+     * Session config property to set the count of concurrent identify searches. Falls back to
+     * {@link ParallelExecutor#CONFIG_PROP_PARALLELISM}.
+     */
+    public static final String CONFIG_PROP_IDENTIFY_PARALLELISM = "toolbox.identify.parallelism";
+
+    /**
+     * Session config property to set the count of pages prefetched while search results are consumed.
+     */
+    public static final String CONFIG_PROP_SEARCH_PREFETCH = "toolbox.search.prefetch";
+
+    public static final int DEFAULT_SEARCH_PREFETCH = 2;
+
+    /**
+     * The repository vendor (and SMO backend) selecting offline search of local repository.
+     */
+    public static final String LOCAL = "local";
+
+    private static final int PROBE_LIMIT = 64 * 1024;
+
     protected final Output output;
+    protected final HttpClientRegistry httpClientRegistry;
+    protected final SearchResponseCache searchResponseCache;
+    protected final RepositoryVendorCache repositoryVendorCache;
+    protected final Path localIndexBasedir;
+    protected final ConcurrentHashMap<Path, LocalRepositoryIndex> localRepositoryIndexes;
+    protected final ConcurrentHashMap<String, Object> vendorDetectionLocks;
 
-    public ToolboxSearchApiImpl(Output output) {
+    public ToolboxSearchApiImpl(
+            Output output,
+            HttpClientRegistry httpClientRegistry,
+            SearchResponseCache searchResponseCache,
+            RepositoryVendorCache repositoryVendorCache,
+            Path localIndexBasedir) {
         this.output = requireNonNull(output, "output");
+        this.httpClientRegistry = requireNonNull(httpClientRegistry, "httpClientRegistry");
+        this.searchResponseCache = requireNonNull(searchResponseCache, "searchResponseCache");
+        this.repositoryVendorCache = requireNonNull(repositoryVendorCache, "repositoryVendorCache");
+        this.localIndexBasedir = requireNonNull(localIndexBasedir, "localIndexBasedir");
+        this.localRepositoryIndexes = new ConcurrentHashMap<>();
+        this.vendorDetectionLocks = new ConcurrentHashMap<>();
     }
 
     /**
@@ -54,7 +104,8 @@ public class ToolboxSearchApiImpl implements ToolboxSearchApi {
      *     <li>if {@code repositoryVendor} is non-{@code null}, use it</li>
      *     <li>check {@code toolbox.search.backend.type} session config property</li>
      *     <li>check {@link RemoteRepository#getContentType()}</li>
-     *     <li>finally, if none above, try some "heuristics"</li>
+     *     <li>finally, if none above, detect it: recognize well known repositories, or probe the repository (outcome
+     *     is cached per repository URL), or try some "heuristics"</li>
      * </ul>
      * This is all about the Search API RR backend extractor selection. Note: in some use cases "extractor" is not
      * used, so forcing any value in those cases is perfectly fine.
@@ -67,6 +118,20 @@ public class ToolboxSearchApiImpl implements ToolboxSearchApi {
     @Override
     public SearchBackend getRemoteRepositoryBackend(
             RepositorySystemSession session, RemoteRepository remoteRepository, String repositoryVendor) {
+        String vendor = repositoryVendor != null
+                ? repositoryVendor
+                : (String) session.getConfigProperties().get("toolbox.search.backend.type");
+        try {
+            if (remoteRepository.getUrl().toLowerCase(Locale.ENGLISH).startsWith("file:")) {
+                return getLocalRepositoryBackend(
+                        session, remoteRepository.getId(), Path.of(URI.create(remoteRepository.getUrl())));
+            } else if (LOCAL.equalsIgnoreCase(vendor)) {
+                return getLocalRepositoryBackend(
+                        session, remoteRepository.getId(), session.getLocalRepository().getBasedir().toPath());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
         if (!remoteRepository.getUrl().toLowerCase(Locale.ENGLISH).startsWith("https://")
                 && !remoteRepository.getUrl().toLowerCase(Locale.ENGLISH).startsWith("http://")) {
             throw new IllegalArgumentException("Search RR operates on HTTP repositories only");
@@ -83,21 +148,7 @@ public class ToolboxSearchApiImpl implements ToolboxSearchApi {
                 } else if ("nx2".equals(remoteRepository.getContentType())) {
                     repositoryVendor = "nx2";
                 } else {
-                    // Some heuristics trying to figure out (probably not ideal)
-                    if (ContextOverrides.CENTRAL.getId().equals(remoteRepository.getId())
-                            && ContextOverrides.CENTRAL.getUrl().equals(remoteRepository.getUrl())) {
-                        repositoryVendor = "central";
-                    } else if (remoteRepository.getUrl().startsWith("https://repo.maven.apache.org/maven2")
-                            || remoteRepository.getUrl().startsWith("https://repo1.maven.org/maven2/")) {
-                        repositoryVendor = "central";
-                    } else if (remoteRepository.getUrl().startsWith("https://repository.apache.org/")
-                            || remoteRepository.getUrl().startsWith("https://oss.sonatype.org/")
-                            || remoteRepository.getUrl().startsWith("https://s01.oss.sonatype.org/")) {
-                        repositoryVendor = "nx2";
-                    } else if (remoteRepository.getUrl().contains("/content/groups/")
-                            || remoteRepository.getUrl().contains("/content/repositories/")) {
-                        repositoryVendor = "nx2";
-                    }
+                    repositoryVendor = detectVendor(session, remoteRepository);
                 }
             }
             output.chatter("Vendor guessed to {}", repositoryVendor);
@@ -109,7 +160,7 @@ public class ToolboxSearchApiImpl implements ToolboxSearchApi {
             extractor = new Nx2ResponseExtractor();
         } else {
             output.warn(
-                    "Unknown repository vendor type '{}' (supported are 'central', 'nx2'); fallback to Central",
+                    "Unsupported repository vendor type '{}' (supported are 'central', 'nx2'); fallback to Central",
                     repositoryVendor);
             extractor = new MavenCentralResponseExtractor();
         }
@@ -124,14 +175,10 @@ public class ToolboxSearchApiImpl implements ToolboxSearchApi {
         if (!backendUrl.endsWith("/")) {
             backendUrl += "/";
         }
-        return RemoteRepositorySearchBackendFactory.create(
-                backendId + "-rr",
-                backendId,
-                backendUrl,
-                new Java11HttpClientTransport(
-                        Java11HttpClientFactory.DEFAULT_TIMEOUT,
-                        Java11HttpClientFactory.buildHttpClient(session, remoteRepository)),
-                extractor);
+        return searchResponseCache.decorate(
+                RemoteRepositorySearchBackendFactory.create(
+                        backendId + "-rr", backendId, backendUrl, transport(session, remoteRepository), extractor),
+                backendUrl);
     }
 
     /**
@@ -139,6 +186,14 @@ public class ToolboxSearchApiImpl implements ToolboxSearchApi {
      */
     @Override
     public SearchBackend getSmoBackend(RepositorySystemSession session, RemoteRepository remoteRepository) {
+        if (LOCAL.equals(ConfigUtils.getString(session, null, "toolbox.search.smoBackend"))) {
+            try {
+                return getLocalRepositoryBackend(
+                        session, remoteRepository.getId(), session.getLocalRepository().getBasedir().toPath());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
         if (!ContextOverrides.CENTRAL.getId().equals(remoteRepository.getId())) {
             throw new IllegalArgumentException("The SMO service is offered for Central only");
         }
@@ -146,27 +201,144 @@ public class ToolboxSearchApiImpl implements ToolboxSearchApi {
                 ConfigUtils.getString(session, SmoSearchBackendFactory.CSC_BACKEND_ID, "toolbox.search.smoBackend");
         if (SmoSearchBackendFactory.CSC_BACKEND_ID.equals(backend)) {
             output.chatter("Creating CSC backend");
-            return SmoSearchBackendFactory.create(
-                    SmoSearchBackendFactory.CSC_BACKEND_ID,
-                    remoteRepository.getId(),
-                    SmoSearchBackendFactory.CSC_SMO_URI,
-                    new Java11HttpClientTransport(
-                            Java11HttpClientFactory.DEFAULT_TIMEOUT,
-                            Java11HttpClientFactory.buildHttpClient(session, remoteRepository)));
+            return searchResponseCache.decorate(
+                    SmoSearchBackendFactory.create(
+                            SmoSearchBackendFactory.CSC_BACKEND_ID,
+                            remoteRepository.getId(),
+                            SmoSearchBackendFactory.CSC_SMO_URI,
+                            transport(session, remoteRepository)),
+                    SmoSearchBackendFactory.CSC_SMO_URI);
         } else if (SmoSearchBackendFactory.SMO_BACKEND_ID.equals(backend)) {
             output.chatter("Creating SMO backend");
-            return SmoSearchBackendFactory.create(
-                    SmoSearchBackendFactory.SMO_BACKEND_ID,
-                    remoteRepository.getId(),
-                    SmoSearchBackendFactory.SMO_SMO_URI,
-                    new Java11HttpClientTransport(
-                            Java11HttpClientFactory.DEFAULT_TIMEOUT,
-                            Java11HttpClientFactory.buildHttpClient(session, remoteRepository)));
+            return searchResponseCache.decorate(
+                    SmoSearchBackendFactory.create(
+                            SmoSearchBackendFactory.SMO_BACKEND_ID,
+                            remoteRepository.getId(),
+                            SmoSearchBackendFactory.SMO_SMO_URI,
+                            transport(session, remoteRepository)),
+                    SmoSearchBackendFactory.SMO_SMO_URI);
         } else {
             throw new IllegalArgumentException("Unknown SMO service backend: " + backend);
         }
     }
 
+    /**
+     * Detects vendor of repository: well known repositories are recognized by URL, while others are probed (once) and
+     * the outcome is cached per repository URL. If probing does not tell, some heuristics are applied, and their
+     * outcome is cached as well (for shorter time). Detection is serialized per repository URL, so concurrent
+     * callers probe the same repository only once. Returns {@code null} if vendor could not be detected.
+     */
+    protected String detectVendor(RepositorySystemSession session, RemoteRepository remoteRepository) {
+        String url = remoteRepository.getUrl();
+        if (ContextOverrides.CENTRAL.getId().equals(remoteRepository.getId())
+                && ContextOverrides.CENTRAL.getUrl().equals(url)) {
+            return "central";
+        } else if (url.startsWith("https://repo.maven.apache.org/maven2")
+                || url.startsWith("https://repo1.maven.org/maven2/")) {
+            return "central";
+        } else if (url.startsWith("https://repository.apache.org/")
+                || url.startsWith("https://oss.sonatype.org/")
+                || url.startsWith("https://s01.oss.sonatype.org/")) {
+            return "nx2";
+        }
+        synchronized (vendorDetectionLocks.computeIfAbsent(url, k -> new Object())) {
+            Optional<String> cached = repositoryVendorCache.get(url);
+            if (cached.isPresent()) {
+                output.chatter("Vendor of {} is cached as {}", url, cached.orElseThrow());
+                return RepositoryVendorCache.UNKNOWN.equals(cached.orElseThrow()) ? null : cached.orElseThrow();
+            }
+            String vendor = probeVendor(session, remoteRepository);
+            if (vendor != null) {
+                repositoryVendorCache.put(url, vendor);
+                return vendor;
+            }
+            // Some heuristics trying to figure out (probably not ideal)
+            if (url.contains("/content/groups/") || url.contains("/content/repositories/")) {
+                vendor = "nx2";
+            } else if (url.contains("/artifactory/")) {
+                vendor = "artifactory";
+            }
+            repositoryVendorCache.putGuess(url, vendor);
+            return vendor;
+        }
+    }
+
+    /**
+     * Probes repository with one request to its root, and detects vendor by response headers or (only if request
+     * succeeded) content. Returns {@code null} if vendor could not be detected. Note: vendors 'nx3' and 'artifactory'
+     * are detected, but there are no search extractors for them.
+     */
+    protected String probeVendor(RepositorySystemSession session, RemoteRepository remoteRepository) {
+        String url = remoteRepository.getUrl();
+        if (!url.endsWith("/")) {
+            url += "/";
+        }
+        output.chatter("Probing vendor of {}", url);
+        try (Transport.Response response = transport(session, remoteRepository).get(url, Map.of())) {
+            HashMap<String, String> headers = new HashMap<>();
+            response.getHeaders().forEach((k, v) -> headers.put(k.toLowerCase(Locale.ENGLISH), v));
+            String server = headers.getOrDefault("server", "");
+            if (headers.containsKey("x-artifactory-id") || server.contains("Artifactory")) {
+                return "artifactory";
+            } else if (server.startsWith("Nexus/2")) {
+                return "nx2";
+            } else if (server.startsWith("Nexus/3")) {
+                return "nx3";
+            }
+            if (response.getCode() != 200) {
+                output.chatter("Probing vendor of {} failed with status {}", url, response.getCode());
+                return null;
+            }
+            String body;
+            try (InputStream in = response.getBody()) {
+                body = in == null ? "" : new String(in.readNBytes(PROBE_LIMIT), StandardCharsets.UTF_8);
+            }
+            if (body.contains("Sonatype Nexus")) {
+                return url.contains("/content/") ? "nx2" : "nx3";
+            } else if (body.contains("Artifactory")) {
+                return "artifactory";
+            } else if (body.contains("<pre id=\"contents\">")) {
+                // the markup of Maven Central directory listing; generic "Index of" pages tell nothing
+                return "central";
+            }
+        } catch (IOException e) {
+            output.chatter("Could not probe vendor of {}", url, e);
+        }
+        return null;
+    }
+
+    /**
+     * Creates transport for given repository, using shared HTTP client and scheduled by shared request scheduler.
+     */
+    protected Transport transport(RepositorySystemSession session, RemoteRepository remoteRepository) {
+        Transport transport = new Java11HttpClientTransport(
+                Java11HttpClientFactory.DEFAULT_TIMEOUT, httpClientRegistry.get(session, remoteRepository));
+        return httpClientRegistry.getRequestScheduler().decorate(session, transport);
+    }
+
+    @Override
+    public SearchBackend getLocalRepositoryBackend(RepositorySystemSession session, String repositoryId, Path basedir)
+            throws IOException {
+        requireNonNull(session, "session");
+        requireNonNull(repositoryId, "repositoryId");
+        Path repository = basedir.toAbsolutePath().normalize();
+        LocalRepositoryIndex index = localRepositoryIndexes.computeIfAbsent(
+                repository, p -> new LocalRepositoryIndex(output, p, localIndexBasedir.resolve(indexName(p))));
+        index.refreshOnce();
+        output.chatter("Creating local backend {} over {}", repositoryId, repository);
+        return new LocalRepositorySearchBackend(repositoryId + "-" + LOCAL, repositoryId, index);
+    }
+
+    private static String indexName(Path repository) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            return ChecksumUtils.toHexString(digest.digest(repository.toString().getBytes(StandardCharsets.UTF_8)))
+                    + ".index";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 MessageDigest unavailable", e);
+        }
+    }
+
     @Override
     public List<String> renderGavoid(List<Record> page, Predicate<String> versionPredicate) {
         ArrayList<String> result = new ArrayList<>();
@@ -280,42 +452,60 @@ public class ToolboxSearchApiImpl implements ToolboxSearchApi {
     @Override
     public Map<String, Artifact> identify(
             RepositorySystemSession session, SearchBackend searchBackend, Collection<String> sha1s) throws IOException {
-        HashMap<String, Artifact> result = new HashMap<>(sha1s.size());
-        for (String sha1 : sha1s) {
-            output.suggest("Identifying artifact with SHA1={}", sha1);
-            SearchRequest searchRequest = new SearchRequest(fieldQuery(MAVEN.SHA1, sha1));
-            SearchResponse searchResponse = searchBackend.search(searchRequest);
-            output.chatter(
-                    "SearchRequest: {} SearchResponse TH/CH {}/{}",
-                    searchResponse.getSearchRequest(),
-                    searchResponse.getTotalHits(),
-                    searchResponse.getCurrentHits());
-            if (searchResponse.getCurrentHits() == 0) {
-                result.put(sha1, null);
-            } else {
-                while (searchResponse.getCurrentHits() > 0) {
-                    Collection<Artifact> res = renderArtifacts(session, searchResponse.getPage(), null);
-                    if (res.isEmpty()) {
-                        result.put(sha1, null);
-                    } else {
-                        for (Artifact artifact : res) {
-                            result.put(sha1, artifact);
-                        }
-                    }
-
-                    searchResponse = searchBackend.search(
-                            searchResponse.getSearchRequest().nextPage());
-                    output.chatter(
-                            "SearchRequest: {} SearchResponse TH/CH {}/{}",
-                            searchResponse.getSearchRequest(),
-                            searchResponse.getTotalHits(),
-                            searchResponse.getCurrentHits());
+        List<String> distinctSha1s = List.copyOf(new LinkedHashSet<>(sha1s));
+        distinctSha1s.forEach(sha1 -> output.suggest("Identifying artifact with SHA1={}", sha1));
+        List<Artifact> artifacts;
+        try (ParallelExecutor executor = new ParallelExecutor(
+                "identify", ParallelExecutor.parallelism(session, CONFIG_PROP_IDENTIFY_PARALLELISM))) {
+            artifacts = executor.map(distinctSha1s, sha1 -> identify(session, searchBackend, sha1));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("Could not identify artifacts", e);
+        }
+        HashMap<String, Artifact> result = new HashMap<>(distinctSha1s.size());
+        for (int i = 0; i < distinctSha1s.size(); i++) {
+            result.put(distinctSha1s.get(i), artifacts.get(i));
+        }
+        return result;
+    }
+
+    private Artifact identify(RepositorySystemSession session, SearchBackend searchBackend, String sha1) {
+        Artifact result = null;
+        try (SearchPager pager = new SearchPager(searchBackend, new SearchRequest(fieldQuery(MAVEN.SHA1, sha1)), 0)) {
+            while (pager.hasNext()) {
+                SearchResponse searchResponse = pager.next();
+                logResponse(searchResponse);
+                for (Artifact artifact : renderArtifacts(session, searchResponse.getPage(), null)) {
+                    result = artifact;
                 }
             }
         }
         return result;
     }
 
+    @Override
+    public Stream<Artifact> searchArtifacts(
+            RepositorySystemSession session, SearchBackend searchBackend, SearchRequest searchRequest) {
+        SearchPager pager = new SearchPager(
+                searchBackend,
+                searchRequest,
+                ConfigUtils.getInteger(session, DEFAULT_SEARCH_PREFETCH, CONFIG_PROP_SEARCH_PREFETCH));
+        return pager.stream()
+                .peek(this::logResponse)
+                .flatMap(r -> renderArtifacts(session, r.getPage(), null).stream());
+    }
+
+    private void logResponse(SearchResponse searchResponse) {
+        output.chatter(
+                "SearchRequest: {} SearchResponse TH/CH {}/{}",
+                searchResponse.getSearchRequest(),
+                searchResponse.getTotalHits(),
+                searchResponse.getCurrentHits());
+    }
+
     @Override
     public Query toRrQuery(Artifact artifact) {
         Query result = fieldQuery(MAVEN.GROUP_ID, artifact.getGroupId());
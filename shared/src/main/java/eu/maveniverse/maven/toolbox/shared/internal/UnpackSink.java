@@ -19,9 +19,16 @@ import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.Enumeration;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -37,8 +44,23 @@ import org.eclipse.aether.artifact.Artifact;
 
 /**
  * Construction to accept collection of artifacts and unpack them.
+ * <p>
+ * With parallelism greater than {@code 1}, ZIP and JAR archives are unpacked using random access to their central
+ * directory, and entries are inflated and written concurrently. Archives of a collection that are unpacked into
+ * distinct (not nested) roots are also unpacked concurrently. Archives sharing a root are always unpacked in order of
+ * acceptance, so overlays behave same as when unpacked sequentially.
  */
 public final class UnpackSink implements Artifacts.Sink {
+    /**
+     * Session config property to set the parallelism of unpacking.
+     */
+    public static final String CONFIG_PROP_PARALLELISM = "toolbox.sink.unpack.parallelism";
+
+    /**
+     * The minimum of compressed bytes extracted by one unit of work, to not drown in overhead of tiny entries.
+     */
+    private static final long MIN_BATCH_BYTES = 64 * 1024;
+
     /**
      * Creates plain unpack sink where unpacking happens according to supplied parameters.
      *
@@ -55,6 +77,22 @@ public final class UnpackSink implements Artifacts.Sink {
             boolean allowEntryOverwrite,
             boolean dryRun)
             throws IOException {
+        return unpack(output, path, artifactRootMapper, allowEntryOverwrite, 1, dryRun);
+    }
+
+    /**
+     * Creates plain unpack sink where unpacking happens according to supplied parameters, using given parallelism.
+     *
+     * @see #unpack(Output, Path, Function, boolean, boolean)
+     */
+    public static UnpackSink unpack(
+            Output output,
+            Path path,
+            Function<Artifact, String> artifactRootMapper,
+            boolean allowEntryOverwrite,
+            int parallelism,
+            boolean dryRun)
+            throws IOException {
         return new UnpackSink(
                 output,
                 path,
@@ -65,9 +103,14 @@ public final class UnpackSink implements Artifacts.Sink {
                 Function.identity(),
                 true,
                 allowEntryOverwrite,
+                parallelism,
                 dryRun);
     }
 
+    private record Unpack(Artifact artifact, Path target) {}
+
+    private record Extract(ZipArchiveEntry entry, Path target) {}
+
     private final Output output;
     private final Path directory;
     private final boolean directoryCreated;
@@ -80,6 +123,9 @@ public final class UnpackSink implements Artifacts.Sink {
     private final boolean allowEntryOverwrite;
     private final boolean dryRun;
     private final HashSet<Path> writtenPaths;
+    private final Set<Path> writtenEntries;
+    private final ParallelExecutor archives;
+    private final ParallelExecutor entries;
 
     /**
      * Creates a directory sink.
@@ -93,6 +139,7 @@ public final class UnpackSink implements Artifacts.Sink {
      * @param allowRootOverwrite Does sink allow use of same roots for unpack operations.
      * @param allowEntryOverwrite Does sink allow unpacked entry overwrites. Tip: you usually do not want to allow,
      *                            as that means you have some overlap in unpacked archives.
+     * @param parallelism The count of archives and entries unpacked concurrently.
      * @throws IOException In case of IO problem.
      */
     private UnpackSink(
@@ -105,6 +152,7 @@ public final class UnpackSink implements Artifacts.Sink {
             Function<String, String> fileNameMapper,
             boolean allowRootOverwrite,
             boolean allowEntryOverwrite,
+            int parallelism,
             boolean dryRun)
             throws IOException {
         this.output = requireNonNull(output, "output");
@@ -128,6 +176,9 @@ public final class UnpackSink implements Artifacts.Sink {
         this.allowEntryOverwrite = allowEntryOverwrite;
         this.dryRun = dryRun;
         this.writtenPaths = new HashSet<>();
+        this.writtenEntries = ConcurrentHashMap.newKeySet();
+        this.archives = new ParallelExecutor("unpack-archives", parallelism);
+        this.entries = new ParallelExecutor("unpack-entries", parallelism);
     }
 
     public Path getDirectory() {
@@ -136,6 +187,50 @@ public final class UnpackSink implements Artifacts.Sink {
 
     @Override
     public void accept(Artifact artifact) throws IOException {
+        Unpack unpack = prepare(artifact);
+        if (unpack != null && !dryRun) {
+            unpack(unpack);
+        }
+    }
+
+    @Override
+    public void accept(Collection<Artifact> artifacts) throws IOException {
+        requireNonNull(artifacts, "artifacts");
+        try {
+            LinkedHashMap<Path, List<Unpack>> roots = new LinkedHashMap<>();
+            for (Artifact artifact : artifacts) {
+                Unpack unpack = prepare(artifact);
+                if (unpack != null) {
+                    roots.computeIfAbsent(unpack.target(), k -> new ArrayList<>()).add(unpack);
+                }
+            }
+            if (dryRun || roots.isEmpty()) {
+                return;
+            }
+            ArrayList<List<Unpack>> groups = new ArrayList<>(roots.values());
+            if (!disjoint(roots.keySet())) {
+                // nested roots may overlap: keep order of acceptance
+                ArrayList<Unpack> all = new ArrayList<>();
+                groups.forEach(all::addAll);
+                groups.clear();
+                groups.add(all);
+            }
+            run(archives, groups, group -> {
+                for (Unpack unpack : group) {
+                    unpack(unpack);
+                }
+                return null;
+            });
+        } catch (IOException e) {
+            cleanup(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Matches and maps artifact, and returns the unpack operation or {@code null} if artifact is not matched.
+     */
+    private Unpack prepare(Artifact artifact) throws IOException {
         requireNonNull(artifact, "artifact");
         output.chatter("Accept artifact {}", artifact);
         if (artifactMatcher.test(artifact)) {
@@ -150,36 +245,11 @@ public final class UnpackSink implements Artifacts.Sink {
                 throw new IOException("Root overwrite prevented; check mappings");
             }
             switch (artifact.getExtension()) {
-                case "jar": {
-                    if (!dryRun) {
-                        unjar(target, artifact.getFile().toPath());
-                    }
-                    break;
-                }
-                case "zip": {
-                    if (!dryRun) {
-                        unzip(target, artifact.getFile().toPath());
-                    }
-                    break;
-                }
-                case "tar.gz": {
-                    if (!dryRun) {
-                        untar(
-                                target,
-                                new GzipCompressorInputStream(new BufferedInputStream(
-                                        Files.newInputStream(artifact.getFile().toPath()))));
-                    }
-                    break;
-                }
-                case "tar.bz2": {
-                    if (!dryRun) {
-                        untar(
-                                target,
-                                new BZip2CompressorInputStream(new BufferedInputStream(
-                                        Files.newInputStream(artifact.getFile().toPath()))));
-                    }
-                    break;
-                }
+                case "jar":
+                case "zip":
+                case "tar.gz":
+                case "tar.bz2":
+                    return new Unpack(artifact, target);
                 default:
                     throw new IllegalArgumentException("unknown archive");
             }
@@ -187,6 +257,64 @@ public final class UnpackSink implements Artifacts.Sink {
             if (failIfUnmatched) {
                 throw new IllegalArgumentException("not matched");
             }
+            return null;
+        }
+    }
+
+    private void unpack(Unpack unpack) throws IOException {
+        Path target = unpack.target();
+        Path file = unpack.artifact().getFile().toPath();
+        long start = System.nanoTime();
+        switch (unpack.artifact().getExtension()) {
+            case "jar": {
+                if (entries.getParallelism() > 1) {
+                    unzip(target, file);
+                } else {
+                    unjar(target, file);
+                }
+                break;
+            }
+            case "zip": {
+                unzip(target, file);
+                break;
+            }
+            case "tar.gz": {
+                untar(target, new GzipCompressorInputStream(new BufferedInputStream(Files.newInputStream(file))));
+                break;
+            }
+            case "tar.bz2": {
+                untar(target, new BZip2CompressorInputStream(new BufferedInputStream(Files.newInputStream(file))));
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("unknown archive");
+        }
+        output.chatter(
+                "Unpacked {} in {} ms", unpack.artifact(), Duration.ofNanos(System.nanoTime() - start).toMillis());
+    }
+
+    /**
+     * Returns {@code true} if none of the roots is nested in another one.
+     */
+    private static boolean disjoint(Collection<Path> roots) {
+        for (Path root : roots) {
+            for (Path other : roots) {
+                if (root != other && root.startsWith(other)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static <T> void run(ParallelExecutor executor, Collection<T> items, ParallelExecutor.Task<T, Void> task)
+            throws IOException {
+        try {
+            executor.map(items, task);
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("Unpacking failed", e);
         }
     }
 
@@ -209,10 +337,16 @@ public final class UnpackSink implements Artifacts.Sink {
         }
     }
 
+    /**
+     * Unpacks ZIP (or JAR) file using random access: entries are planned from the central directory, and then
+     * extracted in batches (in physical order) concurrently, as {@link ZipFile} supports concurrent reads of entries.
+     */
     private void unzip(Path target, Path zipFile) throws IOException {
         try (ZipFile zip = ZipFile.builder().setFile(zipFile.toFile()).get()) {
-            Enumeration<ZipArchiveEntry> zipArchiveEntryEnumeration = zip.getEntries();
+            LinkedHashMap<Path, Extract> extracts = new LinkedHashMap<>();
+            Enumeration<ZipArchiveEntry> zipArchiveEntryEnumeration = zip.getEntriesInPhysicalOrder();
             ZipArchiveEntry entry;
+            long totalBytes = 0;
             while (zipArchiveEntryEnumeration.hasMoreElements()) {
                 entry = zipArchiveEntryEnumeration.nextElement();
                 if (!zip.canReadEntryData(entry)) {
@@ -224,9 +358,42 @@ public final class UnpackSink implements Artifacts.Sink {
                     Files.createDirectories(f);
                 } else {
                     Files.createDirectories(f.getParent());
-                    mayCopy(f, zip.getInputStream(entry), entry.getLastModifiedTime(), entry.getUnixMode());
+                    if (extracts.remove(f) != null && !allowEntryOverwrite) {
+                        throw new IOException("Entry overwrite prevented; duplicate entry " + entry.getName());
+                    }
+                    extracts.put(f, new Extract(entry, f));
+                    totalBytes += Math.max(0, entry.getCompressedSize());
+                }
+            }
+
+            long batchBytes = Math.max(MIN_BATCH_BYTES, totalBytes / (entries.getParallelism() * 4L));
+            ArrayList<List<Extract>> batches = new ArrayList<>();
+            ArrayList<Extract> batch = new ArrayList<>();
+            long bytes = 0;
+            for (Extract extract : extracts.values()) {
+                batch.add(extract);
+                bytes += Math.max(0, extract.entry().getCompressedSize());
+                if (bytes >= batchBytes) {
+                    batches.add(batch);
+                    batch = new ArrayList<>();
+                    bytes = 0;
                 }
             }
+            if (!batch.isEmpty()) {
+                batches.add(batch);
+            }
+            run(entries, batches, b -> {
+                for (Extract extract : b) {
+                    try (InputStream inputStream = zip.getInputStream(extract.entry())) {
+                        mayCopy(
+                                extract.target(),
+                                inputStream,
+                                extract.entry().getLastModifiedTime(),
+                                extract.entry().getUnixMode());
+                    }
+                }
+                return null;
+            });
         }
     }
 
@@ -259,7 +426,7 @@ public final class UnpackSink implements Artifacts.Sink {
     }
 
     private void mayCopy(Path target, InputStream inputStream, FileTime fileTime, int mode) throws IOException {
-        if (Files.exists(target) && !allowEntryOverwrite) {
+        if ((!writtenEntries.add(target) || Files.exists(target)) && !allowEntryOverwrite) {
             throw new IOException("Entry overwrite prevented; overlap in archives");
         }
         try (OutputStream o = Files.newOutputStream(target)) {
@@ -299,5 +466,8 @@ public final class UnpackSink implements Artifacts.Sink {
     }
 
     @Override
-    public void close() {}
+    public void close() {
+        archives.close();
+        entries.close();
+    }
 }
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.toolbox.shared.internal;
+
+import eu.maveniverse.maven.toolbox.shared.output.NopOutput;
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.collection.CollectRequest;
+import org.eclipse.aether.collection.CollectResult;
+import org.eclipse.aether.graph.DefaultDependencyNode;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.graph.DependencyCycle;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.graph.Exclusion;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.eclipse.aether.repository.WorkspaceReader;
+import org.eclipse.aether.repository.WorkspaceRepository;
+import org.eclipse.aether.util.graph.manager.DependencyManagerUtils;
+import org.eclipse.aether.util.graph.transformer.ConflictResolver;
+import org.eclipse.aether.util.version.GenericVersionScheme;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DependencyGraphCacheTest {
+    private final GenericVersionScheme versionScheme = new GenericVersionScheme();
+
+    private final DefaultRepositorySystemSession session = new DefaultRepositorySystemSession();
+
+    private CollectRequest request(String rootVersion) {
+        CollectRequest collectRequest = new CollectRequest();
+        collectRequest.setRootArtifact(new DefaultArtifact("org.example:root:" + rootVersion));
+        collectRequest.setRepositories(
+                List.of(new RemoteRepository.Builder("central", "default", "https://repo.maven.apache.org/maven2/")
+                        .build()));
+        return collectRequest;
+    }
+
+    private DefaultDependencyNode node(String coords, String scope) throws Exception {
+        DefaultDependencyNode node = new DefaultDependencyNode(new Dependency(
+                new DefaultArtifact(coords), scope, false, List.of(new Exclusion("org.excluded", "*", "*", "*"))));
+        node.setVersion(versionScheme.parseVersion(node.getArtifact().getVersion()));
+        node.setVersionConstraint(versionScheme.parseVersionConstraint(node.getArtifact().getVersion()));
+        return node;
+    }
+
+    @Test
+    void roundTrip(@TempDir Path tempDir) throws Exception {
+        DependencyGraphCache cache = new DependencyGraphCache(NopOutput.INSTANCE, versionScheme, tempDir, 10);
+        CollectRequest collectRequest = request("1.0");
+        String key = cache.key(session, collectRequest, "collect", true);
+        Assertions.assertNotNull(key);
+        Assertions.assertEquals(key, cache.key(session, request("1.0"), "collect", true));
+        Assertions.assertNotEquals(key, cache.key(session, request("1.0"), "collect", false));
+
+        DefaultDependencyNode root = new DefaultDependencyNode(collectRequest.getRootArtifact());
+        DefaultDependencyNode a = node("org.example:a:1.0", "compile");
+        DefaultDependencyNode b = node("org.example:b:2.0", "runtime");
+        DefaultDependencyNode loser = node("org.example:b:1.0", "compile");
+        a.setRepositories(collectRequest.getRepositories());
+        a.setManagedBits(DependencyNode.MANAGED_VERSION);
+        a.setData(DependencyManagerUtils.NODE_DATA_PREMANAGED_VERSION, "0.9");
+        loser.setData(ConflictResolver.NODE_DATA_WINNER, b);
+        root.getChildren().add(a);
+        root.getChildren().add(b);
+        a.getChildren().add(loser);
+        a.getChildren().add(b); // shared node
+        CollectResult collectResult = new CollectResult(collectRequest);
+        collectResult.setRoot(root);
+
+        Assertions.assertFalse(cache.get(key, collectRequest).isPresent());
+        cache.put(key, collectResult);
+        Assertions.assertEquals(1, cache.getStores());
+
+        Optional<CollectResult> cached = cache.get(key, collectRequest);
+        Assertions.assertTrue(cached.isPresent());
+        Assertions.assertEquals(1, cache.getHits());
+        DependencyNode cachedRoot = cached.orElseThrow().getRoot();
+        Assertions.assertEquals(root.getArtifact(), cachedRoot.getArtifact());
+        Assertions.assertEquals(2, cachedRoot.getChildren().size());
+        DependencyNode cachedA = cachedRoot.getChildren().get(0);
+        DependencyNode cachedB = cachedRoot.getChildren().get(1);
+        Assertions.assertEquals(a.getDependency(), cachedA.getDependency());
+        Assertions.assertEquals(b.getDependency(), cachedB.getDependency());
+        Assertions.assertEquals("0.9", DependencyManagerUtils.getPremanagedVersion(cachedA));
+        Assertions.assertSame(cachedB, cachedA.getChildren().get(1));
+        Assertions.assertSame(
+                cachedB, cachedA.getChildren().get(0).getData().get(ConflictResolver.NODE_DATA_WINNER));
+        Assertions.assertSame(collectRequest.getRepositories().get(0), cachedA.getRepositories().get(0));
+    }
+
+    @Test
+    void cycles(@TempDir Path tempDir) throws Exception {
+        DependencyGraphCache cache = new DependencyGraphCache(NopOutput.INSTANCE, versionScheme, tempDir, 10);
+        CollectRequest collectRequest = request("1.0");
+        String key = cache.key(session, collectRequest);
+        DefaultDependencyNode root = new DefaultDependencyNode(collectRequest.getRootArtifact());
+        DefaultDependencyNode a = node("org.example:a:1.0", "compile");
+        root.getChildren().add(a);
+        CollectResult collectResult = new CollectResult(collectRequest);
+        collectResult.setRoot(root);
+        Dependency rootDependency = new Dependency(collectRequest.getRootArtifact(), "compile");
+        collectResult.addCycle(new DependencyCycle() {
+            @Override
+            public List<Dependency> getPrecedingDependencies() {
+                return List.of(rootDependency);
+            }
+
+            @Override
+            public List<Dependency> getCyclicDependencies() {
+                return List.of(a.getDependency(), rootDependency);
+            }
+        });
+        cache.put(key, collectResult);
+
+        CollectResult cached = cache.get(key, collectRequest).orElseThrow();
+        Assertions.assertEquals(1, cached.getCycles().size());
+        DependencyCycle cycle = cached.getCycles().get(0);
+        Assertions.assertEquals(List.of(rootDependency), cycle.getPrecedingDependencies());
+        Assertions.assertEquals(List.of(a.getDependency(), rootDependency), cycle.getCyclicDependencies());
+        Assertions.assertEquals("org.example:a:jar:1.0 -> org.example:root:jar:1.0", cycle.toString());
+    }
+
+    @Test
+    void snapshotsAreNotCached(@TempDir Path tempDir) throws Exception {
+        DependencyGraphCache cache = new DependencyGraphCache(NopOutput.INSTANCE, versionScheme, tempDir, 10);
+        Assertions.assertNull(cache.key(session, request("1.0-SNAPSHOT")));
+        Assertions.assertNull(cache.key(session, request("[1.0,2.0)")));
+
+        CollectRequest collectRequest = request("1.0");
+        String key = cache.key(session, collectRequest);
+        DefaultDependencyNode root = new DefaultDependencyNode(collectRequest.getRootArtifact());
+        root.getChildren().add(node("org.example:a:1.0-SNAPSHOT", "compile"));
+        CollectResult collectResult = new CollectResult(collectRequest);
+        collectResult.setRoot(root);
+        cache.put(key, collectResult);
+        Assertions.assertEquals(0, cache.getStores());
+        Assertions.assertFalse(cache.get(key, collectRequest).isPresent());
+    }
+
+    @Test
+    void sessionAltersKey(@TempDir Path tempDir) throws Exception {
+        DependencyGraphCache cache = new DependencyGraphCache(NopOutput.INSTANCE, versionScheme, tempDir, 10);
+        String key = cache.key(session, request("1.0"));
+        Assertions.assertNotNull(key);
+
+        DefaultRepositorySystemSession profiled = new DefaultRepositorySystemSession(session);
+        profiled.setUserProperty("activate", "true");
+        Assertions.assertNotEquals(key, cache.key(profiled, request("1.0")));
+        profiled = new DefaultRepositorySystemSession(session);
+        profiled.setConfigProperty(ConflictResolver.CONFIG_PROP_VERBOSE, "true");
+        Assertions.assertNotEquals(key, cache.key(profiled, request("1.0")));
+
+        // environment does not alter the key
+        DefaultRepositorySystemSession environment = new DefaultRepositorySystemSession(session);
+        environment.setSystemProperty("env.PWD", "/tmp/elsewhere");
+        environment.setSystemProperty("user.dir", "/tmp/elsewhere");
+        environment.setConfigProperty("toolbox.unrelated", "value");
+        Assertions.assertEquals(key, cache.key(environment, request("1.0")));
+
+        CollectRequest mirrored = request("1.0");
+        mirrored.setRepositories(List.of(new RemoteRepository.Builder(mirrored.getRepositories().get(0))
+                .setMirroredRepositories(List.of(
+                        new RemoteRepository.Builder("other", "default", "https://example.org/").build()))
+                .build()));
+        Assertions.assertNotEquals(key, cache.key(session, mirrored));
+
+        DefaultRepositorySystemSession workspace = new DefaultRepositorySystemSession(session);
+        workspace.setWorkspaceReader(new WorkspaceReader() {
+            @Override
+            public WorkspaceRepository getRepository() {
+                return new WorkspaceRepository();
+            }
+
+            @Override
+            public File findArtifact(Artifact artifact) {
+                return null;
+            }
+
+            @Override
+            public List<String> findVersions(Artifact artifact) {
+                return List.of();
+            }
+        });
+        Assertions.assertNull(cache.key(workspace, request("1.0")));
+    }
+
+    @Test
+    void eviction(@TempDir Path tempDir) throws Exception {
+        DependencyGraphCache cache = new DependencyGraphCache(NopOutput.INSTANCE, versionScheme, tempDir, 2);
+        String first = null;
+        for (int i = 1; i <= 3; i++) {
+            CollectRequest collectRequest = request(i + ".0");
+            String key = cache.key(session, collectRequest);
+            if (first == null) {
+                first = key;
+            }
+            CollectResult collectResult = new CollectResult(collectRequest);
+            collectResult.setRoot(new DefaultDependencyNode(collectRequest.getRootArtifact()));
+            cache.put(key, collectResult);
+            Thread.sleep(20);
+        }
+        Assertions.assertFalse(cache.get(first, request("1.0")).isPresent());
+        Assertions.assertTrue(cache.get(cache.key(session, request("3.0")), request("3.0")).isPresent());
+    }
+}
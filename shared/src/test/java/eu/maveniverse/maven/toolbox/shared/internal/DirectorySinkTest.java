@@ -8,6 +8,7 @@
 package eu.maveniverse.maven.toolbox.shared.internal;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import eu.maveniverse.maven.toolbox.shared.ArtifactNameMapper;
@@ -16,7 +17,10 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.artifact.DefaultArtifact;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -62,6 +66,48 @@ public class DirectorySinkTest {
         }
     }
 
+    @Test
+    void parallelLinked(@TempDir Path source, @TempDir Path target) throws IOException {
+        ArrayList<Artifact> artifacts = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Path file = source.resolve("a" + i);
+            Files.writeString(file, "content" + i, StandardCharsets.UTF_8);
+            artifacts.add(new DefaultArtifact("g:a" + i + ":1").setFile(file.toFile()));
+        }
+        try (DirectorySink sink = DirectorySink.repository(
+                NopOutput.INSTANCE, target.resolve("repo"), DirectorySink.Mode.LINK, 4, false)) {
+            sink.accept(artifacts);
+        }
+        for (int i = 0; i < 20; i++) {
+            Path file = target.resolve("repo/g/a" + i + "/1/a" + i + "-1.jar");
+            assertEquals("content" + i, Files.readString(file, StandardCharsets.UTF_8));
+            assertTrue(Files.isSameFile(source.resolve("a" + i), file));
+        }
+    }
+
+    @Test
+    void identicalSkipped(@TempDir Path source, @TempDir Path target) throws IOException {
+        Path a1 = source.resolve("a1");
+        Files.writeString(a1, "one", StandardCharsets.UTF_8);
+        List<Artifact> artifacts = List.of(new DefaultArtifact("g:a1:1").setFile(a1.toFile()));
+        Path directory = target.resolve("flat");
+        for (int i = 0; i < 2; i++) {
+            try (DirectorySink sink = DirectorySink.flat(
+                    NopOutput.INSTANCE, directory, ArtifactNameMapper.GACE(), DirectorySink.Mode.COPY, 2, false)) {
+                sink.accept(artifacts);
+            }
+        }
+        assertEquals(List.of("g:a1:jar:1 >> g.a1.jar"), Files.readAllLines(directory.resolve(".index")));
+
+        // same name, different content: overwrite is prevented
+        Files.writeString(a1, "changed", StandardCharsets.UTF_8);
+        try (DirectorySink sink = DirectorySink.flat(
+                NopOutput.INSTANCE, directory, ArtifactNameMapper.GACE(), DirectorySink.Mode.COPY, 2, false)) {
+            assertThrows(IOException.class, () -> sink.accept(artifacts));
+        }
+        assertEquals("one", Files.readString(directory.resolve("g.a1.jar"), StandardCharsets.UTF_8));
+    }
+
     @Test
     void flatSameADifferentGAccepted(@TempDir Path source, @TempDir Path target) throws IOException {
         sameADifferentGAccepted(
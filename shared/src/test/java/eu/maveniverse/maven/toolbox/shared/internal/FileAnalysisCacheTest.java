@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.toolbox.shared.internal;
+
+import static eu.maveniverse.maven.toolbox.shared.internal.JarAnalyzerTest.FACTORIES;
+import static eu.maveniverse.maven.toolbox.shared.internal.JarAnalyzerTest.classHeader;
+import static eu.maveniverse.maven.toolbox.shared.internal.JarAnalyzerTest.jar;
+
+import eu.maveniverse.maven.toolbox.shared.output.NopOutput;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.spi.connector.checksum.ChecksumAlgorithmHelper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FileAnalysisCacheTest {
+    @Test
+    void persistedAndInvalidated(@TempDir Path tempDir) throws Exception {
+        Path cacheFile = tempDir.resolve("cache/analysis.bin");
+        Path file = jar(
+                tempDir.resolve("lib-1.0.jar"),
+                Map.of("Automatic-Module-Name", "org.example.lib"),
+                Map.of("org/example/A.class", classHeader(55)));
+
+        FileAnalysisCache cache = new FileAnalysisCache(NopOutput.INSTANCE, cacheFile, 10);
+        JarAnalyzer.Analysis analysis = new JarAnalyzer(NopOutput.INSTANCE, FACTORIES, cache).analyze(file, true);
+        Assertions.assertEquals(1, cache.getMisses());
+        Assertions.assertEquals(1, cache.getStores());
+        cache.save();
+        Assertions.assertTrue(Files.isRegularFile(cacheFile));
+
+        // new process: served from cache
+        FileAnalysisCache reloaded = new FileAnalysisCache(NopOutput.INSTANCE, cacheFile, 10);
+        JarAnalyzer analyzer = new JarAnalyzer(NopOutput.INSTANCE, FACTORIES, reloaded);
+        JarAnalyzer.Analysis cached = analyzer.analyze(file, true);
+        Assertions.assertEquals(1, reloaded.getHits());
+        Assertions.assertEquals(analysis.size(), cached.size());
+        Assertions.assertEquals(analysis.checksums(), cached.checksums());
+        Assertions.assertEquals(analysis.bytecode(), cached.bytecode());
+        Assertions.assertEquals("org.example.lib", cached.module().name());
+        Assertions.assertEquals("MANIFEST", cached.module().moduleNameSource());
+
+        // not analyzed as JAR, but cached one was: still usable
+        Assertions.assertSame(cached, analyzer.analyze(file, false));
+        Assertions.assertEquals(2, reloaded.getHits());
+
+        // file changed: analyzed again
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 1000));
+        analyzer.analyze(file, true);
+        Assertions.assertEquals(1, reloaded.getMisses());
+
+        // more checksums requested than cached: analyzed again
+        FileAnalysisCache sha1Only = new FileAnalysisCache(NopOutput.INSTANCE, tempDir.resolve("sha1.bin"), 10);
+        Path pom = Files.writeString(tempDir.resolve("lib-1.0.pom"), "<project/>");
+        new JarAnalyzer(NopOutput.INSTANCE, List.of(FACTORIES.get(0)), sha1Only).analyze(pom, false);
+        new JarAnalyzer(NopOutput.INSTANCE, FACTORIES, sha1Only).analyze(pom, false);
+        Assertions.assertEquals(2, sha1Only.getMisses());
+        Assertions.assertEquals(0, sha1Only.getHits());
+    }
+
+    @Test
+    void disabled(@TempDir Path tempDir) throws Exception {
+        FileAnalysisCache cache = new FileAnalysisCache(NopOutput.INSTANCE, null, 0);
+        Path pom = Files.writeString(tempDir.resolve("lib-1.0.pom"), "<project/>");
+        JarAnalyzer analyzer = new JarAnalyzer(NopOutput.INSTANCE, FACTORIES, cache);
+        analyzer.analyze(pom, false);
+        analyzer.analyze(pom, false);
+        cache.save();
+        Assertions.assertFalse(cache.isEnabled());
+        Assertions.assertEquals(0, cache.getHits());
+        Assertions.assertEquals(0, cache.getStores());
+    }
+
+    @Test
+    void sharedBySinks(@TempDir Path tempDir) throws Exception {
+        Path cacheFile = tempDir.resolve("cache/analysis.bin");
+        Path file = jar(
+                tempDir.resolve("lib-1.0.jar"),
+                Map.of("Automatic-Module-Name", "org.example.lib"),
+                Map.of("org/example/A.class", classHeader(55)));
+        Artifact artifact = new DefaultArtifact("org.example:lib:1.0").setFile(file.toFile());
+
+        FileAnalysisCache cache = new FileAnalysisCache(NopOutput.INSTANCE, cacheFile, 10);
+        try (ModuleDescriptorExtractingSink sink = new ModuleDescriptorExtractingSink(NopOutput.INSTANCE, cache)) {
+            sink.accept(artifact);
+            Assertions.assertEquals("org.example.lib", sink.getModuleDescriptor(artifact).name());
+        }
+        Assertions.assertEquals(1, cache.getStores());
+        Assertions.assertTrue(Files.isRegularFile(cacheFile));
+
+        // checksums of a (reloaded) cache with module analyzed: no need to read the file again
+        FileAnalysisCache reloaded = new FileAnalysisCache(NopOutput.INSTANCE, cacheFile, 10);
+        try (ArtifactSinks.ChecksumArtifactSink sink = new ArtifactSinks.ChecksumArtifactSink(
+                NopOutput.INSTANCE, reloaded, FACTORIES.get(0))) {
+            sink.accept(artifact);
+            Assertions.assertEquals(
+                    ChecksumAlgorithmHelper.calculate(file.toFile(), List.of(FACTORIES.get(0))),
+                    sink.checksums(artifact));
+        }
+        Assertions.assertEquals(1, reloaded.getHits());
+        Assertions.assertEquals(0, reloaded.getMisses());
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.toolbox.shared.internal;
+
+import eu.maveniverse.maven.toolbox.shared.internal.ModuleDescriptorExtractingSink.ModuleDescriptor;
+import eu.maveniverse.maven.toolbox.shared.output.NopOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.Attributes;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.internal.impl.checksum.Sha1ChecksumAlgorithmFactory;
+import org.eclipse.aether.internal.impl.checksum.Sha512ChecksumAlgorithmFactory;
+import org.eclipse.aether.spi.connector.checksum.ChecksumAlgorithmFactory;
+import org.eclipse.aether.spi.connector.checksum.ChecksumAlgorithmHelper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class JarAnalyzerTest {
+    static final List<ChecksumAlgorithmFactory> FACTORIES =
+            List.of(new Sha1ChecksumAlgorithmFactory(), new Sha512ChecksumAlgorithmFactory());
+
+    private static final FileAnalysisCache NO_CACHE = new FileAnalysisCache(NopOutput.INSTANCE, null, 0);
+
+    static byte[] classHeader(int major) {
+        return new byte[] {(byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE, 0, 0, 0, (byte) major, 0, 0};
+    }
+
+    static Path jar(Path file, Map<String, String> attributes, Map<String, byte[]> entries) throws IOException {
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        attributes.forEach((k, v) -> manifest.getMainAttributes().putValue(k, v));
+        try (JarOutputStream jar = new JarOutputStream(Files.newOutputStream(file), manifest)) {
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                jar.putNextEntry(new ZipEntry(entry.getKey()));
+                jar.write(entry.getValue());
+                jar.closeEntry();
+            }
+        }
+        return file;
+    }
+
+    /**
+     * Asserts that analysis is same as the one done by multiple passes over file.
+     */
+    private static JarAnalyzer.Analysis assertSame(Path file) throws IOException {
+        JarAnalyzer.Analysis analysis = new JarAnalyzer(NopOutput.INSTANCE, FACTORIES, NO_CACHE).analyze(file, true);
+        Assertions.assertEquals(Files.size(file), analysis.size());
+        Assertions.assertEquals(ChecksumAlgorithmHelper.calculate(file.toFile(), FACTORIES), analysis.checksums());
+
+        ModuleDescriptorExtractingSink sink = new ModuleDescriptorExtractingSink(NopOutput.INSTANCE);
+        DefaultArtifact artifact = new DefaultArtifact("g:a:1");
+        artifact = (DefaultArtifact) artifact.setFile(file.toFile());
+        sink.accept(artifact);
+        ModuleDescriptor expected = sink.getModuleDescriptor(artifact);
+        Assertions.assertEquals(expected.available(), analysis.module().available());
+        Assertions.assertEquals(expected.name(), analysis.module().name());
+        Assertions.assertEquals(expected.automatic(), analysis.module().automatic());
+        Assertions.assertEquals(expected.moduleNameSource(), analysis.module().moduleNameSource());
+        return analysis;
+    }
+
+    @Test
+    void automaticModules(@TempDir Path tempDir) throws IOException {
+        Map<String, byte[]> classes = Map.of(
+                "org/example/A.class", classHeader(52),
+                "org/example/B.class", classHeader(52),
+                "org/example/C.class", classHeader(61),
+                "org/example/data.txt", "data".getBytes(StandardCharsets.UTF_8));
+        JarAnalyzer.Analysis analysis = assertSame(jar(tempDir.resolve("my-lib_core-1.2.3.jar"), Map.of(), classes));
+        Assertions.assertEquals("my.lib.core", analysis.module().name());
+        Assertions.assertEquals(Map.of(0, Map.of(52, 2, 61, 1)), analysis.bytecode());
+        Assertions.assertFalse(analysis.multiRelease());
+
+        analysis = assertSame(
+                jar(tempDir.resolve("lib-1.0.jar"), Map.of("Automatic-Module-Name", "org.example.lib"), classes));
+        Assertions.assertEquals("org.example.lib", analysis.module().name());
+        Assertions.assertEquals("MANIFEST", analysis.module().moduleNameSource());
+
+        // unnamed package is not allowed in modules
+        analysis = assertSame(jar(tempDir.resolve("top-1.0.jar"), Map.of(), Map.of("Top.class", classHeader(52))));
+        Assertions.assertFalse(analysis.module().available());
+    }
+
+    @Test
+    void explicitMultiReleaseModule(@TempDir Path tempDir) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        Path src = Files.createDirectories(tempDir.resolve("src"));
+        Files.writeString(src.resolve("module-info.java"), "module org.example.mod { exports org.example; }");
+        Files.writeString(src.resolve("A.java"), "package org.example; public class A {}");
+        Path classes = Files.createDirectories(tempDir.resolve("classes"));
+        Assertions.assertEquals(
+                0,
+                compiler.run(
+                        null,
+                        null,
+                        null,
+                        "-d",
+                        classes.toString(),
+                        src.resolve("module-info.java").toString(),
+                        src.resolve("A.java").toString()));
+
+        byte[] moduleInfo = Files.readAllBytes(classes.resolve("module-info.class"));
+        byte[] a = Files.readAllBytes(classes.resolve("org/example/A.class"));
+        JarAnalyzer.Analysis analysis = assertSame(jar(
+                tempDir.resolve("mod-1.0.jar"),
+                Map.of("Multi-Release", "true"),
+                Map.of(
+                        "org/example/A.class",
+                        classHeader(52),
+                        "META-INF/versions/11/module-info.class",
+                        moduleInfo,
+                        "META-INF/versions/11/org/example/A.class",
+                        a)));
+        Assertions.assertEquals("org.example.mod", analysis.module().name());
+        Assertions.assertFalse(analysis.module().automatic());
+        Assertions.assertTrue(analysis.multiRelease());
+        Assertions.assertEquals(Map.of(52, 1), analysis.bytecode().get(0));
+        Assertions.assertEquals(1, analysis.bytecode().get(11).size());
+    }
+
+    @Test
+    void notJar(@TempDir Path tempDir) throws IOException {
+        Path file = Files.writeString(tempDir.resolve("file.pom"), "<project/>", StandardCharsets.UTF_8);
+        JarAnalyzer.Analysis analysis = new JarAnalyzer(NopOutput.INSTANCE, FACTORIES, NO_CACHE).analyze(file, false);
+        Assertions.assertEquals(ChecksumAlgorithmHelper.calculate(file.toFile(), FACTORIES), analysis.checksums());
+        Assertions.assertNull(analysis.module());
+        Assertions.assertTrue(analysis.bytecode().isEmpty());
+    }
+}
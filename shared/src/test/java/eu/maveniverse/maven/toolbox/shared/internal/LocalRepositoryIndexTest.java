@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.toolbox.shared.internal;
+
+import eu.maveniverse.maven.toolbox.shared.output.NopOutput;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class LocalRepositoryIndexTest {
+    static Path artifact(Path repository, String g, String a, String v, String classifier, String extension)
+            throws Exception {
+        Path dir = repository.resolve(g.replace('.', '/')).resolve(a).resolve(v);
+        Files.createDirectories(dir);
+        String name = a + "-" + v + (classifier.isEmpty() ? "" : "-" + classifier) + "." + extension;
+        return Files.writeString(dir.resolve(name), name, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void indexAndRefresh(@TempDir Path tempDir) throws Exception {
+        Path repository = tempDir.resolve("repository");
+        Path indexFile = tempDir.resolve("index");
+        Path jar = artifact(repository, "org.example", "lib", "1.0", "", "jar");
+        artifact(repository, "org.example", "lib", "1.0", "sources", "jar");
+        Files.writeString(
+                jar.resolveSibling(jar.getFileName() + ".sha1"),
+                "0123456789abcdef0123456789abcdef01234567  lib-1.0.jar",
+                StandardCharsets.UTF_8);
+        Files.writeString(jar.resolveSibling("_remote.repositories"), "", StandardCharsets.UTF_8);
+
+        LocalRepositoryIndex index = new LocalRepositoryIndex(NopOutput.INSTANCE, repository, indexFile);
+        index.refresh();
+        List<LocalRepositoryIndex.Entry> entries = index.entries();
+        Assertions.assertEquals(2, entries.size());
+        LocalRepositoryIndex.Entry main = entries.get(0);
+        Assertions.assertEquals("org.example", main.groupId());
+        Assertions.assertEquals("lib", main.artifactId());
+        Assertions.assertEquals("1.0", main.version());
+        Assertions.assertEquals("", main.classifier());
+        Assertions.assertEquals("jar", main.extension());
+        Assertions.assertEquals("0123456789abcdef0123456789abcdef01234567", main.sha1());
+        Assertions.assertEquals("sources", entries.get(1).classifier());
+        Assertions.assertEquals(
+                ToolboxCommandoImpl.sha1(jar.resolveSibling("lib-1.0-sources.jar")),
+                entries.get(1).sha1());
+        Assertions.assertTrue(Files.isRegularFile(indexFile));
+
+        // new version appears; index loaded from disk picks it up
+        artifact(repository, "org.example", "lib", "1.1", "", "pom");
+        LocalRepositoryIndex reloaded = new LocalRepositoryIndex(NopOutput.INSTANCE, repository, indexFile);
+        reloaded.refresh();
+        Assertions.assertEquals(
+                List.of("1.0", "1.0", "1.1"),
+                reloaded.entries().stream()
+                        .map(LocalRepositoryIndex.Entry::version)
+                        .collect(Collectors.toList()));
+    }
+
+    @Test
+    void unchangedDirectoriesAreNotRescanned(@TempDir Path tempDir) throws Exception {
+        Path repository = tempDir.resolve("repository");
+        Path jar = artifact(repository, "org.example", "lib", "1.0", "", "jar");
+        FileTime mtime = Files.getLastModifiedTime(jar.getParent());
+        LocalRepositoryIndex index = new LocalRepositoryIndex(NopOutput.INSTANCE, repository, tempDir.resolve("index"));
+        index.refresh();
+
+        // a file sneaks in but directory mtime is unchanged: not seen
+        artifact(repository, "org.example", "lib", "1.0", "tests", "jar");
+        Files.setLastModifiedTime(jar.getParent(), mtime);
+        index.refresh();
+        Assertions.assertEquals(1, index.entries().size());
+
+        // directory mtime changes: rescanned
+        Files.setLastModifiedTime(jar.getParent(), FileTime.fromMillis(mtime.toMillis() + 1000));
+        index.refresh();
+        Assertions.assertEquals(2, index.entries().size());
+    }
+
+    @Test
+    void lookupsAndRefreshOnce(@TempDir Path tempDir) throws Exception {
+        Path repository = tempDir.resolve("repository");
+        Path jar = artifact(repository, "org.example", "lib", "1.0", "", "jar");
+        artifact(repository, "org.example", "lib", "1.1", "", "jar");
+        artifact(repository, "org.example", "other", "1.0", "", "jar");
+        LocalRepositoryIndex index = new LocalRepositoryIndex(NopOutput.INSTANCE, repository, tempDir.resolve("index"));
+        index.refreshOnce();
+        Assertions.assertEquals(3, index.entries().size());
+        Assertions.assertEquals(3, index.byGroupId("org.example").size());
+        Assertions.assertEquals(
+                List.of("1.0", "1.1"),
+                index.byGroupArtifactId("org.example", "lib").stream()
+                        .map(LocalRepositoryIndex.Entry::version)
+                        .collect(Collectors.toList()));
+        String sha1 = ToolboxCommandoImpl.sha1(jar);
+        Assertions.assertEquals(1, index.bySha1(sha1.toUpperCase()).size());
+        Assertions.assertTrue(index.bySha1("0000000000000000000000000000000000000000").isEmpty());
+
+        // already refreshed: new artifacts are not seen
+        artifact(repository, "org.example", "lib", "1.2", "", "jar");
+        index.refreshOnce();
+        Assertions.assertEquals(3, index.entries().size());
+        index.refresh();
+        Assertions.assertEquals(4, index.entries().size());
+    }
+}
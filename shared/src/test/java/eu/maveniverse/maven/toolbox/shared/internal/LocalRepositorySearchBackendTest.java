@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.toolbox.shared.internal;
+
+import static eu.maveniverse.maven.toolbox.shared.internal.LocalRepositoryIndexTest.artifact;
+import static org.apache.maven.search.api.request.BooleanQuery.and;
+import static org.apache.maven.search.api.request.FieldQuery.fieldQuery;
+
+import eu.maveniverse.maven.toolbox.shared.output.NopOutput;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.maven.search.api.MAVEN;
+import org.apache.maven.search.api.Record;
+import org.apache.maven.search.api.SearchRequest;
+import org.apache.maven.search.api.SearchResponse;
+import org.apache.maven.search.api.request.Query;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class LocalRepositorySearchBackendTest {
+    private static LocalRepositorySearchBackend backend(Path tempDir) throws Exception {
+        Path repository = tempDir.resolve("repository");
+        artifact(repository, "org.example", "lib", "1.0", "", "jar");
+        artifact(repository, "org.example", "lib", "1.0", "", "pom");
+        artifact(repository, "org.example", "lib", "1.0", "sources", "jar");
+        artifact(repository, "org.example", "lib", "1.1", "", "jar");
+        artifact(repository, "org.example", "other", "2.0", "", "jar");
+        LocalRepositoryIndex index =
+                new LocalRepositoryIndex(NopOutput.INSTANCE, repository, tempDir.resolve("index"));
+        index.refresh();
+        return new LocalRepositorySearchBackend("local-local", "local", index);
+    }
+
+    private static List<String> render(SearchResponse response) {
+        return response.getPage().stream()
+                .map(r -> r.getFields().entrySet().stream()
+                        .filter(e -> e.getKey() != MAVEN.SHA1)
+                        .map(e -> String.valueOf(e.getValue()))
+                        .collect(Collectors.joining(":")))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void listing(@TempDir Path tempDir) throws Exception {
+        LocalRepositorySearchBackend backend = backend(tempDir);
+        Assertions.assertEquals(
+                List.of("org.example:lib", "org.example:other"),
+                render(backend.search(new SearchRequest(fieldQuery(MAVEN.GROUP_ID, "org.example")))));
+        Assertions.assertEquals(
+                List.of("org.example:lib:1.0", "org.example:lib:1.1"),
+                render(backend.search(new SearchRequest(
+                        and(fieldQuery(MAVEN.GROUP_ID, "org.example"), fieldQuery(MAVEN.ARTIFACT_ID, "lib"))))));
+    }
+
+    @Test
+    void existsAndIdentify(@TempDir Path tempDir) throws Exception {
+        LocalRepositorySearchBackend backend = backend(tempDir);
+        SearchResponse main = backend.search(new SearchRequest(and(
+                fieldQuery(MAVEN.GROUP_ID, "org.example"),
+                fieldQuery(MAVEN.ARTIFACT_ID, "lib"),
+                fieldQuery(MAVEN.VERSION, "1.0"),
+                fieldQuery(MAVEN.FILE_EXTENSION, "jar"))));
+        Assertions.assertEquals(1, main.getTotalHits());
+        Assertions.assertEquals(List.of("org.example:lib:1.0:jar"), render(main));
+
+        SearchResponse sources = backend.search(new SearchRequest(and(
+                fieldQuery(MAVEN.GROUP_ID, "org.example"),
+                fieldQuery(MAVEN.ARTIFACT_ID, "lib"),
+                fieldQuery(MAVEN.VERSION, "1.0"),
+                fieldQuery(MAVEN.CLASSIFIER, "sources"),
+                fieldQuery(MAVEN.FILE_EXTENSION, "jar"))));
+        Assertions.assertEquals(1, sources.getTotalHits());
+
+        Record record = sources.getPage().get(0);
+        SearchResponse identified =
+                backend.search(new SearchRequest(fieldQuery(MAVEN.SHA1, record.getValue(MAVEN.SHA1))));
+        Assertions.assertEquals(List.of("org.example:lib:1.0:sources:jar"), render(identified));
+    }
+
+    @Test
+    void freeText(@TempDir Path tempDir) throws Exception {
+        LocalRepositorySearchBackend backend = backend(tempDir);
+        Assertions.assertEquals(
+                List.of("org.example:other:2.0:jar"),
+                render(backend.search(new SearchRequest(Query.query("other jar")))));
+    }
+}
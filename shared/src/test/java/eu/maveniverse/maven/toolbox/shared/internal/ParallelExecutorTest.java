@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.toolbox.shared.internal;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ParallelExecutorTest {
+    @Test
+    void orderIsKept() throws Exception {
+        List<Integer> items = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+        try (ParallelExecutor executor = new ParallelExecutor("test", 8)) {
+            List<String> result = executor.map(items, i -> {
+                Thread.sleep(ThreadLocalRandom.current().nextInt(5));
+                return "item-" + i;
+            });
+            Assertions.assertEquals(items.stream().map(i -> "item-" + i).collect(Collectors.toList()), result);
+        }
+    }
+
+    @Test
+    void sequential() throws Exception {
+        Thread caller = Thread.currentThread();
+        try (ParallelExecutor executor = new ParallelExecutor("test", 1)) {
+            List<Boolean> result = executor.map(List.of(1, 2, 3), i -> Thread.currentThread() == caller);
+            Assertions.assertEquals(List.of(true, true, true), result);
+        }
+    }
+
+    @Test
+    void failure() {
+        try (ParallelExecutor executor = new ParallelExecutor("test", 4)) {
+            IOException e = Assertions.assertThrows(IOException.class, () -> executor.map(List.of(1, 2, 3, 4), i -> {
+                if (i % 2 == 0) {
+                    throw new IOException("failed " + i);
+                }
+                return i;
+            }));
+            Assertions.assertEquals("failed 2", e.getMessage());
+            Assertions.assertEquals(1, e.getSuppressed().length);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.toolbox.shared.internal;
+
+import eu.maveniverse.maven.toolbox.shared.output.NopOutput;
+import java.nio.file.Path;
+import java.time.Instant;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PublishDateCacheTest {
+    @Test
+    void persisted(@TempDir Path tempDir) {
+        Path file = tempDir.resolve("publish-dates.txt");
+        Instant instant = Instant.ofEpochMilli(1700000000000L);
+        PublishDateCache cache = new PublishDateCache(NopOutput.INSTANCE, file, 10);
+        Assertions.assertFalse(cache.get(new DefaultArtifact("org.example:a:1.0")).isPresent());
+        cache.put(new DefaultArtifact("org.example:a:1.0"), instant);
+        cache.save();
+
+        PublishDateCache reloaded = new PublishDateCache(NopOutput.INSTANCE, file, 10);
+        Assertions.assertEquals(instant, reloaded.get(new DefaultArtifact("org.example:a:1.0")).orElseThrow());
+        Assertions.assertFalse(reloaded.get(new DefaultArtifact("org.example:a:1.1")).isPresent());
+        Assertions.assertEquals(1, reloaded.getHits());
+        Assertions.assertEquals(1, reloaded.getMisses());
+    }
+
+    @Test
+    void snapshotsAreNotCached(@TempDir Path tempDir) {
+        PublishDateCache cache = new PublishDateCache(NopOutput.INSTANCE, tempDir.resolve("publish-dates.txt"), 10);
+        cache.put(new DefaultArtifact("org.example:a:1.0-SNAPSHOT"), Instant.now());
+        Assertions.assertEquals(0, cache.getStores());
+        Assertions.assertFalse(cache.get(new DefaultArtifact("org.example:a:1.0-SNAPSHOT")).isPresent());
+    }
+
+    @Test
+    void eviction(@TempDir Path tempDir) {
+        Path file = tempDir.resolve("publish-dates.txt");
+        PublishDateCache cache = new PublishDateCache(NopOutput.INSTANCE, file, 2);
+        for (int i = 1; i <= 3; i++) {
+            cache.put(new DefaultArtifact("org.example:a:" + i + ".0"), Instant.now());
+        }
+        cache.save();
+
+        PublishDateCache reloaded = new PublishDateCache(NopOutput.INSTANCE, file, 2);
+        Assertions.assertFalse(reloaded.get(new DefaultArtifact("org.example:a:1.0")).isPresent());
+        Assertions.assertTrue(reloaded.get(new DefaultArtifact("org.example:a:3.0")).isPresent());
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.toolbox.shared.internal;
+
+import eu.maveniverse.maven.toolbox.shared.output.NopOutput;
+import java.io.InputStream;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.internal.impl.DefaultLocalPathComposer;
+import org.eclipse.aether.internal.impl.DefaultLocalPathPrefixComposerFactory;
+import org.eclipse.aether.internal.impl.DefaultTrackingFileManager;
+import org.eclipse.aether.internal.impl.EnhancedLocalRepositoryManagerFactory;
+import org.eclipse.aether.repository.LocalRepository;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PurgingSinkTest {
+    private static final RemoteRepository CENTRAL =
+            new RemoteRepository.Builder("central", "default", "https://repo.maven.apache.org/maven2/").build();
+
+    private static final RepositorySystem SYSTEM = (RepositorySystem) Proxy.newProxyInstance(
+            RepositorySystem.class.getClassLoader(), new Class<?>[] {RepositorySystem.class}, (proxy, method, args) -> {
+                throw new UnsupportedOperationException(method.getName());
+            });
+
+    private static DefaultRepositorySystemSession session(Path basedir) throws Exception {
+        DefaultRepositorySystemSession session = new DefaultRepositorySystemSession();
+        session.setConfigProperty(PurgingSink.CONFIG_PROP_PARALLELISM, "4");
+        session.setLocalRepositoryManager(new EnhancedLocalRepositoryManagerFactory(
+                        new DefaultLocalPathComposer(),
+                        new DefaultTrackingFileManager(),
+                        new DefaultLocalPathPrefixComposerFactory())
+                .newInstance(session, new LocalRepository(basedir.toFile())));
+        return session;
+    }
+
+    private static Artifact artifact(Path basedir, String coords) throws Exception {
+        Artifact artifact = new DefaultArtifact(coords);
+        Path dir = basedir.resolve(artifact.getGroupId().replace('.', '/'))
+                .resolve(artifact.getArtifactId())
+                .resolve(artifact.getBaseVersion());
+        Files.createDirectories(dir);
+        String name = artifact.getArtifactId() + "-" + artifact.getVersion()
+                + (artifact.getClassifier().isEmpty() ? "" : "-" + artifact.getClassifier()) + "."
+                + artifact.getExtension();
+        Path file = Files.writeString(dir.resolve(name), name, StandardCharsets.UTF_8);
+        Files.writeString(
+                dir.resolve("_remote.repositories"),
+                name + ">central=\n",
+                StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND);
+        return artifact.setFile(file.toFile());
+    }
+
+    @Test
+    void exact(@TempDir Path basedir) throws Exception {
+        Artifact pom = artifact(basedir, "org.example:lib:pom:1.0");
+        Artifact jar = artifact(basedir, "org.example:lib:jar:1.0");
+        Artifact sources = artifact(basedir, "org.example:lib:jar:sources:1.0");
+        Artifact other = artifact(basedir, "org.example:other:jar:2.0");
+
+        PurgingSink sink = PurgingSink.purging(
+                NopOutput.INSTANCE,
+                PurgingSink.Mode.EXACT,
+                true,
+                SYSTEM,
+                session(basedir),
+                List.of(CENTRAL),
+                false);
+        sink.accept(List.of(jar, sources, other));
+        sink.close();
+
+        Assertions.assertEquals(3, sink.getPurgedArtifactsCount());
+        Assertions.assertFalse(jar.getFile().exists());
+        Assertions.assertFalse(sources.getFile().exists());
+        Assertions.assertFalse(other.getFile().exists());
+        Assertions.assertTrue(pom.getFile().exists());
+        Properties registrar = new Properties();
+        try (InputStream input = Files.newInputStream(pom.getFile().toPath().resolveSibling("_remote.repositories"))) {
+            registrar.load(input);
+        }
+        Assertions.assertEquals(Set.of("lib-1.0.pom>central"), registrar.stringPropertyNames());
+    }
+
+    @Test
+    void whole(@TempDir Path basedir) throws Exception {
+        Artifact jar = artifact(basedir, "org.example:lib:jar:1.0");
+        artifact(basedir, "org.example:lib:pom:1.0");
+        Artifact other = artifact(basedir, "org.example:other:jar:2.0");
+
+        PurgingSink sink = PurgingSink.purging(NopOutput.INSTANCE, SYSTEM, session(basedir), List.of(), false);
+        sink.accept(List.of(jar, other));
+        sink.close();
+
+        Assertions.assertEquals(2, sink.getPurgedArtifactsCount());
+        Assertions.assertFalse(Files.exists(jar.getFile().toPath().getParent()));
+        Assertions.assertFalse(Files.exists(other.getFile().toPath().getParent()));
+        Assertions.assertTrue(Files.isDirectory(basedir.resolve("org/example/lib")));
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.toolbox.shared.internal;
+
+import eu.maveniverse.maven.toolbox.shared.output.NopOutput;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class RepositoryVendorCacheTest {
+    @Test
+    void persisted(@TempDir Path tempDir) {
+        Path file = tempDir.resolve("vendors.txt");
+        long ttl = TimeUnit.DAYS.toMillis(1);
+        RepositoryVendorCache cache = new RepositoryVendorCache(NopOutput.INSTANCE, file, ttl, ttl);
+        Assertions.assertEquals(Optional.empty(), cache.get("https://repo.example.org/repository/public/"));
+        cache.put("https://repo.example.org/repository/public/", "nx3");
+        cache.put("https://other.example.org/artifactory/libs/", "artifactory");
+
+        RepositoryVendorCache reloaded = new RepositoryVendorCache(NopOutput.INSTANCE, file, ttl, ttl);
+        Assertions.assertEquals(Optional.of("nx3"), reloaded.get("https://repo.example.org/repository/public/"));
+        Assertions.assertEquals(
+                Optional.of("artifactory"), reloaded.get("https://other.example.org/artifactory/libs/"));
+    }
+
+    @Test
+    void expired(@TempDir Path tempDir) {
+        Path file = tempDir.resolve("vendors.txt");
+        new RepositoryVendorCache(NopOutput.INSTANCE, file, 1, 1).put("https://repo.example.org/", "nx2");
+        RepositoryVendorCache expired = new RepositoryVendorCache(NopOutput.INSTANCE, file, -1, -1);
+        Assertions.assertEquals(Optional.empty(), expired.get("https://repo.example.org/"));
+    }
+
+    @Test
+    void guessesExpireSooner(@TempDir Path tempDir) {
+        Path file = tempDir.resolve("vendors.txt");
+        long ttl = TimeUnit.DAYS.toMillis(1);
+        RepositoryVendorCache cache = new RepositoryVendorCache(NopOutput.INSTANCE, file, ttl, ttl);
+        cache.put("https://repo.example.org/", "nx3");
+        cache.putGuess("https://other.example.org/artifactory/libs/", "artifactory");
+        cache.putGuess("https://unknown.example.org/", null);
+
+        RepositoryVendorCache reloaded = new RepositoryVendorCache(NopOutput.INSTANCE, file, ttl, ttl);
+        Assertions.assertEquals(
+                Optional.of("artifactory"), reloaded.get("https://other.example.org/artifactory/libs/"));
+        Assertions.assertEquals(
+                Optional.of(RepositoryVendorCache.UNKNOWN), reloaded.get("https://unknown.example.org/"));
+
+        RepositoryVendorCache expired = new RepositoryVendorCache(NopOutput.INSTANCE, file, ttl, -1);
+        Assertions.assertEquals(Optional.of("nx3"), expired.get("https://repo.example.org/"));
+        Assertions.assertEquals(Optional.empty(), expired.get("https://other.example.org/artifactory/libs/"));
+        Assertions.assertEquals(Optional.empty(), expired.get("https://unknown.example.org/"));
+    }
+
+    @Test
+    void disabled() {
+        RepositoryVendorCache cache = new RepositoryVendorCache(NopOutput.INSTANCE, null, 1, 1);
+        cache.put("https://repo.example.org/", "nx2");
+        Assertions.assertEquals(Optional.empty(), cache.get("https://repo.example.org/"));
+    }
+}
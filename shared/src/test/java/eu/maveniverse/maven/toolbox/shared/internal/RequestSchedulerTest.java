@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.toolbox.shared.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.maven.search.api.transport.Transport;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class RequestSchedulerTest {
+    private static Transport.Response response(int code, Map<String, String> headers) {
+        return new Transport.Response() {
+            @Override
+            public int getCode() {
+                return code;
+            }
+
+            @Override
+            public Map<String, String> getHeaders() {
+                return headers;
+            }
+
+            @Override
+            public InputStream getBody() {
+                return new ByteArrayInputStream(new byte[0]);
+            }
+
+            @Override
+            public void close() {}
+        };
+    }
+
+    /**
+     * Transport that throttles first requests, and records the maximum of concurrent requests.
+     */
+    private static final class TestTransport implements Transport {
+        private final AtomicInteger throttle;
+        private final AtomicInteger requests = new AtomicInteger();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+
+        private TestTransport(int throttle) {
+            this.throttle = new AtomicInteger(throttle);
+        }
+
+        @Override
+        public Response get(String serviceUri, Map<String, String> headers) {
+            requests.incrementAndGet();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            if (throttle.getAndDecrement() > 0) {
+                return response(429, Map.of("retry-after", "0"));
+            }
+            return response(200, Map.of());
+        }
+
+        @Override
+        public Response head(String serviceUri, Map<String, String> headers) {
+            return get(serviceUri, headers);
+        }
+    }
+
+    @Test
+    void retriesThrottled() throws Exception {
+        DefaultRepositorySystemSession session = new DefaultRepositorySystemSession();
+        RequestScheduler scheduler = new RequestScheduler();
+        TestTransport delegate = new TestTransport(2);
+        Transport transport = scheduler.decorate(session, delegate);
+        try (Transport.Response response = transport.get("https://repo.example.org/path", Map.of())) {
+            Assertions.assertEquals(200, response.getCode());
+        }
+        Assertions.assertEquals(3, delegate.requests.get());
+        RequestScheduler.HostStats stats = scheduler.stats().get(0);
+        Assertions.assertEquals("repo.example.org", stats.host());
+        Assertions.assertEquals(3, stats.requests());
+        Assertions.assertEquals(2, stats.retries());
+        Assertions.assertEquals(2, stats.throttled());
+    }
+
+    @Test
+    void statsSinceBaseline() throws Exception {
+        DefaultRepositorySystemSession session = new DefaultRepositorySystemSession();
+        RequestScheduler scheduler = new RequestScheduler();
+        Transport transport = scheduler.decorate(session, new TestTransport(1));
+        transport.get("https://repo.example.org/first", Map.of()).close();
+        List<RequestScheduler.HostStats> baseline = scheduler.stats();
+        transport.get("https://repo.example.org/second", Map.of()).close();
+        RequestScheduler.HostStats stats = scheduler.stats().get(0).since(baseline.get(0));
+        Assertions.assertEquals(1, stats.requests());
+        Assertions.assertEquals(0, stats.retries());
+        Assertions.assertEquals(0, stats.throttled());
+        Assertions.assertEquals(3, scheduler.stats().get(0).requests());
+    }
+
+    @Test
+    void concurrencyIsCapped() throws Exception {
+        DefaultRepositorySystemSession session = new DefaultRepositorySystemSession();
+        session.setConfigProperty(RequestScheduler.CONFIG_PROP_MAX_CONCURRENCY, "2");
+        RequestScheduler scheduler = new RequestScheduler();
+        TestTransport delegate = new TestTransport(0);
+        Transport transport = scheduler.decorate(session, delegate);
+        List<Integer> items = IntStream.range(0, 16).boxed().collect(Collectors.toList());
+        try (ParallelExecutor executor = new ParallelExecutor("test", 8)) {
+            List<Integer> codes = executor.map(items, i -> {
+                try (Transport.Response response = transport.get("https://repo.example.org/" + i, Map.of())) {
+                    return response.getCode();
+                }
+            });
+            Assertions.assertTrue(codes.stream().allMatch(c -> c == 200));
+        }
+        Assertions.assertEquals(16, delegate.requests.get());
+        Assertions.assertTrue(delegate.maxInFlight.get() <= 2, "max in flight " + delegate.maxInFlight.get());
+    }
+
+    @Test
+    void retryAfter() {
+        Assertions.assertEquals(-1, RequestScheduler.retryAfter(Map.of()));
+        Assertions.assertEquals(120_000, RequestScheduler.retryAfter(Map.of("Retry-After", "120")));
+        Assertions.assertEquals(0, RequestScheduler.retryAfter(Map.of("retry-after", "Wed, 21 Oct 2015 07:28:00 GMT")));
+        Assertions.assertEquals(-1, RequestScheduler.retryAfter(Map.of("Retry-After", "soon")));
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.toolbox.shared.internal;
+
+import static org.apache.maven.search.api.request.FieldQuery.fieldQuery;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.maven.search.api.MAVEN;
+import org.apache.maven.search.api.Record;
+import org.apache.maven.search.api.SearchBackend;
+import org.apache.maven.search.api.SearchRequest;
+import org.apache.maven.search.api.SearchResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SearchPagerTest {
+    /**
+     * Backend having given count of total hits, serving them in pages of requested size.
+     */
+    private static final class PagingBackend implements SearchBackend {
+        private final int totalHits;
+        private final AtomicInteger searches = new AtomicInteger();
+
+        private PagingBackend(int totalHits) {
+            this.totalHits = totalHits;
+        }
+
+        @Override
+        public String getBackendId() {
+            return "test";
+        }
+
+        @Override
+        public String getRepositoryId() {
+            return "central";
+        }
+
+        @Override
+        public SearchResponse search(SearchRequest searchRequest) throws IOException {
+            searches.incrementAndGet();
+            try {
+                Thread.sleep(ThreadLocalRandom.current().nextInt(10));
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException();
+            }
+            int offset = searchRequest.getPaging().getPageOffset();
+            int pageSize = searchRequest.getPaging().getPageSize();
+            int currentHits = Math.max(0, Math.min(pageSize, totalHits - offset * pageSize));
+            return new SearchResponse() {
+                @Override
+                public SearchRequest getSearchRequest() {
+                    return searchRequest;
+                }
+
+                @Override
+                public int getTotalHits() {
+                    return totalHits;
+                }
+
+                @Override
+                public int getCurrentHits() {
+                    return currentHits;
+                }
+
+                @Override
+                public List<Record> getPage() {
+                    return List.of();
+                }
+            };
+        }
+
+        @Override
+        public void close() {}
+    }
+
+    @Test
+    void pagesInOrder() {
+        SearchRequest searchRequest = new SearchRequest(fieldQuery(MAVEN.GROUP_ID, "org.example"));
+        int pageSize = searchRequest.getPaging().getPageSize();
+        PagingBackend backend = new PagingBackend(pageSize * 4 + 1);
+        try (Stream<SearchResponse> pages = new SearchPager(backend, searchRequest, 2).stream()) {
+            List<Integer> offsets = pages.map(r -> r.getSearchRequest().getPaging().getPageOffset())
+                    .collect(Collectors.toList());
+            Assertions.assertEquals(List.of(0, 1, 2, 3, 4), offsets);
+        }
+        Assertions.assertEquals(5, backend.searches.get());
+    }
+
+    @Test
+    void noHits() {
+        PagingBackend backend = new PagingBackend(0);
+        try (SearchPager pager =
+                new SearchPager(backend, new SearchRequest(fieldQuery(MAVEN.GROUP_ID, "org.example")), 2)) {
+            Assertions.assertFalse(pager.hasNext());
+        }
+        Assertions.assertEquals(1, backend.searches.get());
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.toolbox.shared.internal;
+
+import static org.apache.maven.search.api.request.BooleanQuery.and;
+import static org.apache.maven.search.api.request.FieldQuery.fieldQuery;
+import static org.apache.maven.search.api.request.Query.query;
+
+import eu.maveniverse.maven.toolbox.shared.output.NopOutput;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.maven.search.api.MAVEN;
+import org.apache.maven.search.api.Record;
+import org.apache.maven.search.api.SearchBackend;
+import org.apache.maven.search.api.SearchRequest;
+import org.apache.maven.search.api.SearchResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class SearchResponseCacheTest {
+    private static final String URL = "https://repo.example.org/releases/";
+
+    private static final class CountingBackend implements SearchBackend {
+        private final AtomicInteger searches = new AtomicInteger();
+        private final List<Record> page;
+
+        private CountingBackend(List<Record> page) {
+            this.page = page;
+        }
+
+        @Override
+        public String getBackendId() {
+            return "test";
+        }
+
+        @Override
+        public String getRepositoryId() {
+            return "central";
+        }
+
+        @Override
+        public SearchResponse search(SearchRequest searchRequest) {
+            searches.incrementAndGet();
+            return new SearchResponse() {
+                @Override
+                public SearchRequest getSearchRequest() {
+                    return searchRequest;
+                }
+
+                @Override
+                public int getTotalHits() {
+                    return page.size();
+                }
+
+                @Override
+                public int getCurrentHits() {
+                    return page.size();
+                }
+
+                @Override
+                public List<Record> getPage() {
+                    return page;
+                }
+            };
+        }
+
+        @Override
+        public void close() {}
+    }
+
+    @Test
+    void sha1HitsAreCached(@TempDir Path tempDir) throws Exception {
+        Record record = new Record(
+                "test", "central", "uid", 1700000000000L, Map.of(MAVEN.GROUP_ID, "org.example", MAVEN.VERSION, "1.0"));
+        CountingBackend backend = new CountingBackend(List.of(record));
+        SearchResponseCache cache = new SearchResponseCache(NopOutput.INSTANCE, tempDir, 0, 0, 100);
+        SearchRequest searchRequest = new SearchRequest(fieldQuery(MAVEN.SHA1, "abcdef"));
+        try (SearchBackend cached = cache.decorate(backend, URL)) {
+            cached.search(searchRequest);
+            SearchResponse response = cached.search(searchRequest);
+            Assertions.assertEquals(1, backend.searches.get());
+            Assertions.assertEquals(1, cache.getHits());
+            Assertions.assertEquals(1, response.getCurrentHits());
+            Record cachedRecord = response.getPage().get(0);
+            Assertions.assertEquals(record.getLastUpdated(), cachedRecord.getLastUpdated());
+            Assertions.assertEquals("org.example", cachedRecord.getValue(MAVEN.GROUP_ID));
+            Assertions.assertEquals("1.0", cachedRecord.getValue(MAVEN.VERSION));
+        }
+    }
+
+    @Test
+    void missesExpire(@TempDir Path tempDir) throws Exception {
+        CountingBackend backend = new CountingBackend(List.of());
+        // zero miss TTL: misses are not cached at all
+        SearchResponseCache cache = new SearchResponseCache(NopOutput.INSTANCE, tempDir, 0, 0, 100);
+        SearchRequest searchRequest = new SearchRequest(fieldQuery(MAVEN.SHA1, "abcdef"));
+        try (SearchBackend cached = cache.decorate(backend, URL)) {
+            cached.search(searchRequest);
+            cached.search(searchRequest);
+            Assertions.assertEquals(2, backend.searches.get());
+            Assertions.assertEquals(0, cache.getStores());
+        }
+    }
+
+    @Test
+    void missesHaveOwnTtl(@TempDir Path tempDir) throws Exception {
+        CountingBackend backend = new CountingBackend(List.of());
+        SearchResponseCache cache = new SearchResponseCache(NopOutput.INSTANCE, tempDir, 0, 60_000, 100);
+        SearchRequest searchRequest = new SearchRequest(fieldQuery(MAVEN.SHA1, "abcdef"));
+        try (SearchBackend cached = cache.decorate(backend, URL)) {
+            cached.search(searchRequest);
+            cached.search(searchRequest);
+            Assertions.assertEquals(1, backend.searches.get());
+            Assertions.assertEquals(1, cache.getStores());
+        }
+    }
+
+    @Test
+    void urlIsPartOfKey(@TempDir Path tempDir) throws Exception {
+        Record record = new Record("test", "central", "uid", null, Map.of(MAVEN.GROUP_ID, "org.example"));
+        CountingBackend backend = new CountingBackend(List.of(record));
+        SearchResponseCache cache = new SearchResponseCache(NopOutput.INSTANCE, tempDir, 0, 0, 100);
+        SearchRequest searchRequest = new SearchRequest(fieldQuery(MAVEN.SHA1, "abcdef"));
+        try (SearchBackend first = cache.decorate(backend, URL);
+                SearchBackend second = cache.decorate(backend, "https://other.example.org/releases/")) {
+            first.search(searchRequest);
+            second.search(searchRequest);
+            Assertions.assertEquals(2, backend.searches.get());
+            Assertions.assertEquals(0, cache.getHits());
+        }
+    }
+
+    @Test
+    void releasedGavHitsAreCached(@TempDir Path tempDir) throws Exception {
+        Record record = new Record("test", "central", "uid", null, Map.of(MAVEN.GROUP_ID, "org.example"));
+        CountingBackend backend = new CountingBackend(List.of(record));
+        SearchResponseCache cache = new SearchResponseCache(NopOutput.INSTANCE, tempDir, 0, 0, 100);
+        SearchRequest release = new SearchRequest(and(
+                fieldQuery(MAVEN.GROUP_ID, "org.example"),
+                fieldQuery(MAVEN.ARTIFACT_ID, "example"),
+                fieldQuery(MAVEN.VERSION, "1.0")));
+        SearchRequest snapshot = new SearchRequest(and(
+                fieldQuery(MAVEN.GROUP_ID, "org.example"),
+                fieldQuery(MAVEN.ARTIFACT_ID, "example"),
+                fieldQuery(MAVEN.VERSION, "1.0-SNAPSHOT")));
+        SearchRequest versionOnly = new SearchRequest(fieldQuery(MAVEN.VERSION, "1.0"));
+        try (SearchBackend cached = cache.decorate(backend, URL)) {
+            cached.search(release);
+            cached.search(release);
+            cached.search(snapshot);
+            cached.search(snapshot);
+            cached.search(versionOnly);
+            cached.search(versionOnly);
+            Assertions.assertEquals(5, backend.searches.get());
+            Assertions.assertEquals(1, cache.getStores());
+        }
+    }
+
+    @Test
+    void freeTextIsNotImmutable(@TempDir Path tempDir) throws Exception {
+        Record record = new Record("test", "central", "uid", null, Map.of(MAVEN.GROUP_ID, "org.example"));
+        CountingBackend backend = new CountingBackend(List.of(record));
+        SearchResponseCache cache = new SearchResponseCache(NopOutput.INSTANCE, tempDir, 0, 0, 100);
+        // free text that merely mentions fields is not a field query
+        SearchRequest searchRequest = new SearchRequest(query("1: sha1:abcdef v:1.0"));
+        SearchRequest mixed = new SearchRequest(and(query("example"), fieldQuery(MAVEN.SHA1, "abcdef")));
+        try (SearchBackend cached = cache.decorate(backend, URL)) {
+            cached.search(searchRequest);
+            cached.search(searchRequest);
+            cached.search(mixed);
+            cached.search(mixed);
+            Assertions.assertEquals(4, backend.searches.get());
+            Assertions.assertEquals(0, cache.getStores());
+        }
+    }
+
+    @Test
+    void eviction(@TempDir Path tempDir) throws Exception {
+        Record record = new Record("test", "central", "uid", null, Map.of(MAVEN.GROUP_ID, "org.example"));
+        CountingBackend backend = new CountingBackend(List.of(record));
+        SearchResponseCache cache = new SearchResponseCache(NopOutput.INSTANCE, tempDir, 0, 0, 2);
+        try (SearchBackend cached = cache.decorate(backend, URL)) {
+            cached.search(new SearchRequest(fieldQuery(MAVEN.SHA1, "1")));
+            Thread.sleep(20);
+            cached.search(new SearchRequest(fieldQuery(MAVEN.SHA1, "2")));
+            Thread.sleep(20);
+            // hit touches the entry, making "2" the least recently used one
+            cached.search(new SearchRequest(fieldQuery(MAVEN.SHA1, "1")));
+            Thread.sleep(20);
+            cached.search(new SearchRequest(fieldQuery(MAVEN.SHA1, "3")));
+            Assertions.assertEquals(3, backend.searches.get());
+
+            cached.search(new SearchRequest(fieldQuery(MAVEN.SHA1, "1")));
+            cached.search(new SearchRequest(fieldQuery(MAVEN.SHA1, "3")));
+            Assertions.assertEquals(3, backend.searches.get());
+            cached.search(new SearchRequest(fieldQuery(MAVEN.SHA1, "2")));
+            Assertions.assertEquals(4, backend.searches.get());
+        }
+    }
+}
@@ -9,9 +9,25 @@ package eu.maveniverse.maven.toolbox.shared.internal;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import eu.maveniverse.maven.toolbox.shared.ArtifactMatcher;
+import eu.maveniverse.maven.toolbox.shared.DependencyMatcher;
+import eu.maveniverse.maven.toolbox.shared.ProjectLocator;
+import eu.maveniverse.maven.toolbox.shared.ReactorLocator;
 import eu.maveniverse.maven.toolbox.shared.output.NopOutput;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.maven.model.Model;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.util.artifact.ArtifactIdUtils;
 import org.junit.jupiter.api.Test;
 
 public class ToolboxGraphImplTest {
@@ -52,4 +68,107 @@ public class ToolboxGraphImplTest {
         String p3 = graph.formatLabel(commonPrefix, shortPrefix, "org.apache.maven.shared");
         assertEquals("o.a.m.shared", p3);
     }
+
+    @Test
+    void projectDependencyGraphParallelism() {
+        TestReactor reactor = new TestReactor();
+        reactor.add("parent");
+        reactor.add("api", "org.external:lib:1.0");
+        reactor.add("spi", "test:api:1.0");
+        reactor.add("impl", "test:api:1.0", "test:spi:1.0", "org.external:other:1.0");
+        reactor.add("app", "test:impl:1.0", "test:spi:1.0");
+        reactor.add("it", "test:app:1.0", "test:impl:1.0");
+
+        ToolboxGraphImpl serialGraph = new ToolboxGraphImpl(NopOutput.INSTANCE, 1);
+        ToolboxGraphImpl parallelGraph = new ToolboxGraphImpl(NopOutput.INSTANCE, 4);
+        ArtifactMatcher noSubprojects = ArtifactMatcher.not(ArtifactMatcher.any());
+        DependencyMatcher noDependencies = DependencyMatcher.not(DependencyMatcher.any());
+        for (boolean showExternal : new boolean[] {true, false}) {
+            Map<ReactorLocator.ReactorProject, Collection<Dependency>> serial =
+                    serialGraph.projectDependencyGraph(reactor, showExternal, noSubprojects, noDependencies);
+            Map<ReactorLocator.ReactorProject, Collection<Dependency>> parallel =
+                    parallelGraph.projectDependencyGraph(reactor, showExternal, noSubprojects, noDependencies);
+
+            assertEquals(showExternal ? 5 : 4, serial.size());
+            assertEquals(serial, parallel);
+        }
+    }
+
+    private static final class TestReactor implements ReactorLocator {
+        private final Map<String, ReactorProject> projects = new LinkedHashMap<>();
+
+        void add(String artifactId, String... dependencies) {
+            Artifact artifact = new DefaultArtifact("test", artifactId, "jar", "1.0");
+            List<Dependency> deps = Arrays.stream(dependencies)
+                    .map(d -> new Dependency(new DefaultArtifact(d), "compile"))
+                    .collect(Collectors.toList());
+            ReactorLocator origin = this;
+            projects.put(ArtifactIdUtils.toVersionlessId(artifact), new ReactorProject() {
+                @Override
+                public Model effectiveModel() {
+                    return new Model();
+                }
+
+                @Override
+                public Artifact artifact() {
+                    return artifact;
+                }
+
+                @Override
+                public Optional<Artifact> getParent() {
+                    return Optional.empty();
+                }
+
+                @Override
+                public List<Dependency> dependencies() {
+                    return deps;
+                }
+
+                @Override
+                public ProjectLocator origin() {
+                    return origin;
+                }
+            });
+        }
+
+        @Override
+        public ReactorProject getTopLevelProject() {
+            return projects.values().iterator().next();
+        }
+
+        @Override
+        public Optional<ReactorProject> getSelectedProject() {
+            return Optional.empty();
+        }
+
+        @Override
+        public ReactorProject getCurrentProject() {
+            return getTopLevelProject();
+        }
+
+        @Override
+        public List<ReactorProject> getAllProjects() {
+            return List.copyOf(projects.values());
+        }
+
+        @Override
+        public List<ReactorProject> locateChildren(Project project) {
+            return List.of();
+        }
+
+        @Override
+        public List<ReactorProject> locateCollected(Project project) {
+            return List.of();
+        }
+
+        @Override
+        public Optional<ReactorProject> locateProject(Artifact artifact) {
+            return Optional.ofNullable(projects.get(ArtifactIdUtils.toVersionlessId(artifact)));
+        }
+
+        @Override
+        public Stream<Artifact> get() {
+            return projects.values().stream().map(Project::artifact);
+        }
+    }
 }
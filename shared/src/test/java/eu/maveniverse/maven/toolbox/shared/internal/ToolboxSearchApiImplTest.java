@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.toolbox.shared.internal;
+
+import eu.maveniverse.maven.toolbox.shared.output.NopOutput;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.maven.search.api.transport.Transport;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ToolboxSearchApiImplTest {
+    private static final String CENTRAL_LISTING = "<html><head><title>Central Repository: </title></head><body>\n"
+            + "<header><h1>/</h1></header><main><pre id=\"contents\">\n"
+            + "<a href=\"archetype-catalog.xml\" title=\"archetype-catalog.xml\">archetype-catalog.xml</a>\n"
+            + "</pre></main></body></html>";
+
+    private static final String NEXUS2_WELCOME = "<html><head><title>Sonatype Nexus Repository Manager</title>"
+            + "</head><body>Nexus Repository Manager</body></html>";
+
+    private static final String HTTPD_INDEX = "<!DOCTYPE HTML PUBLIC \"-//W3C//DTD HTML 3.2 Final//EN\">\n"
+            + "<html><head><title>Index of /maven2</title></head><body><h1>Index of /maven2</h1>\n"
+            + "<pre><a href=\"org/\">org/</a></pre></body></html>";
+
+    private record RecordedResponse(int code, Map<String, String> headers, String body) {}
+
+    private static final class RecordedTransport implements Transport {
+        private final RecordedResponse recorded;
+        private final AtomicInteger requests = new AtomicInteger();
+
+        private RecordedTransport(RecordedResponse recorded) {
+            this.recorded = recorded;
+        }
+
+        @Override
+        public Response get(String serviceUri, Map<String, String> headers) {
+            requests.incrementAndGet();
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new Response() {
+                @Override
+                public int getCode() {
+                    return recorded.code();
+                }
+
+                @Override
+                public Map<String, String> getHeaders() {
+                    return recorded.headers();
+                }
+
+                @Override
+                public InputStream getBody() {
+                    return new ByteArrayInputStream(recorded.body().getBytes(StandardCharsets.UTF_8));
+                }
+
+                @Override
+                public void close() {}
+            };
+        }
+
+        @Override
+        public Response head(String serviceUri, Map<String, String> headers) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static final class ProbingSearchApi extends ToolboxSearchApiImpl {
+        private final RecordedTransport transport;
+
+        private ProbingSearchApi(Path tempDir, HttpClientRegistry httpClientRegistry, RecordedTransport transport) {
+            super(
+                    NopOutput.INSTANCE,
+                    httpClientRegistry,
+                    new SearchResponseCache(NopOutput.INSTANCE, null, 0, 0, 0),
+                    new RepositoryVendorCache(
+                            NopOutput.INSTANCE,
+                            tempDir.resolve("vendors.txt"),
+                            TimeUnit.DAYS.toMillis(1),
+                            TimeUnit.DAYS.toMillis(1)),
+                    tempDir.resolve("local-index"));
+            this.transport = transport;
+        }
+
+        @Override
+        protected Transport transport(RepositorySystemSession session, RemoteRepository remoteRepository) {
+            return transport;
+        }
+    }
+
+    private static String probe(Path tempDir, String url, RecordedResponse recorded) {
+        try (HttpClientRegistry httpClientRegistry = new HttpClientRegistry()) {
+            ProbingSearchApi searchApi =
+                    new ProbingSearchApi(tempDir, httpClientRegistry, new RecordedTransport(recorded));
+            return searchApi.probeVendor(
+                    new DefaultRepositorySystemSession(),
+                    new RemoteRepository.Builder("test", "default", url).build());
+        }
+    }
+
+    @Test
+    void probeByHeaders(@TempDir Path tempDir) {
+        Assertions.assertEquals(
+                "nx3",
+                probe(
+                        tempDir,
+                        "https://repo.example.org/repository/maven-public/",
+                        new RecordedResponse(200, Map.of("Server", "Nexus/3.61.0-02 (OSS)"), "")));
+        Assertions.assertEquals(
+                "nx2",
+                probe(
+                        tempDir,
+                        "https://repo.example.org/nexus/content/groups/public/",
+                        new RecordedResponse(200, Map.of("Server", "Nexus/2.15.1-02 Noelios-Restlet-Engine"), "")));
+        // headers tell even if request failed
+        Assertions.assertEquals(
+                "artifactory",
+                probe(
+                        tempDir,
+                        "https://repo.example.org/artifactory/libs-release/",
+                        new RecordedResponse(404, Map.of("X-Artifactory-Id", "a1b2c3", "Server", "nginx"), "")));
+    }
+
+    @Test
+    void probeByBody(@TempDir Path tempDir) {
+        Assertions.assertEquals(
+                "central",
+                probe(
+                        tempDir,
+                        "https://repo.example.org/maven2/",
+                        new RecordedResponse(200, Map.of("Server", "nginx"), CENTRAL_LISTING)));
+        Assertions.assertEquals(
+                "nx2",
+                probe(
+                        tempDir,
+                        "https://repo.example.org/nexus/content/repositories/releases/",
+                        new RecordedResponse(200, Map.of(), NEXUS2_WELCOME)));
+    }
+
+    @Test
+    void probeUndecided(@TempDir Path tempDir) {
+        // generic directory listing is not Central
+        Assertions.assertNull(probe(
+                tempDir,
+                "https://repo.example.org/maven2/",
+                new RecordedResponse(200, Map.of("Server", "Apache/2.4.57 (Unix)"), HTTPD_INDEX)));
+        // body of failed request is not sniffed
+        Assertions.assertNull(probe(
+                tempDir,
+                "https://repo.example.org/maven2/",
+                new RecordedResponse(401, Map.of("Server", "nginx"), CENTRAL_LISTING)));
+    }
+
+    @Test
+    void detectVendorProbesOnce(@TempDir Path tempDir) throws Exception {
+        RecordedTransport transport =
+                new RecordedTransport(new RecordedResponse(200, Map.of("Server", "Nexus/3.61.0-02 (OSS)"), ""));
+        RemoteRepository repository =
+                new RemoteRepository.Builder("test", "default", "https://repo.example.org/repository/public/").build();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try (HttpClientRegistry httpClientRegistry = new HttpClientRegistry()) {
+            ProbingSearchApi searchApi = new ProbingSearchApi(tempDir, httpClientRegistry, transport);
+            RepositorySystemSession session = new DefaultRepositorySystemSession();
+            List<Callable<String>> detections = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                detections.add(() -> searchApi.detectVendor(session, repository));
+            }
+            for (Future<String> vendor : executor.invokeAll(detections)) {
+                Assertions.assertEquals("nx3", vendor.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assertions.assertEquals(1, transport.requests.get());
+    }
+}
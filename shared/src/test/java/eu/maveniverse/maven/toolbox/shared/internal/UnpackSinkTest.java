@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2023-2026 Maveniverse Org.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package eu.maveniverse.maven.toolbox.shared.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import eu.maveniverse.maven.toolbox.shared.output.NopOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+public class UnpackSinkTest {
+    private static Artifact archive(Path dir, String artifactId, String extension, int entries, int size)
+            throws IOException {
+        Path file = dir.resolve(artifactId + "." + extension);
+        Random random = new Random(artifactId.hashCode());
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(file))) {
+            zip.putNextEntry(new ZipEntry("META-INF/"));
+            zip.closeEntry();
+            for (int i = 0; i < entries; i++) {
+                zip.putNextEntry(new ZipEntry("p" + (i % 10) + "/e" + i + ".txt"));
+                StringBuilder sb = new StringBuilder(artifactId).append(' ');
+                while (sb.length() < size) {
+                    sb.append(random.nextInt(100));
+                }
+                zip.write(sb.toString().getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+        return new DefaultArtifact("g:" + artifactId + ":" + extension + ":1").setFile(file.toFile());
+    }
+
+    private static TreeMap<String, String> contents(Path root) throws IOException {
+        TreeMap<String, String> result = new TreeMap<>();
+        try (Stream<Path> stream = Files.walk(root)) {
+            for (Path p : stream.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                result.put(root.relativize(p).toString(), Files.readString(p, StandardCharsets.UTF_8));
+            }
+        }
+        return result;
+    }
+
+    private static void unpack(Path target, List<Artifact> artifacts, int parallelism) throws Exception {
+        try (UnpackSink sink = UnpackSink.unpack(
+                NopOutput.INSTANCE, target, Artifact::getArtifactId, false, parallelism, false)) {
+            sink.accept(artifacts);
+        }
+    }
+
+    @Test
+    void sequentialAndParallelSame(@TempDir Path tempDir) throws Exception {
+        List<Artifact> artifacts = List.of(
+                archive(tempDir, "a", "jar", 200, 100),
+                archive(tempDir, "b", "zip", 50, 10_000),
+                archive(tempDir, "c", "jar", 1, 10));
+        unpack(tempDir.resolve("sequential"), artifacts, 1);
+        unpack(tempDir.resolve("parallel"), artifacts, 4);
+        TreeMap<String, String> sequential = contents(tempDir.resolve("sequential"));
+        assertEquals(251, sequential.size());
+        assertEquals(sequential, contents(tempDir.resolve("parallel")));
+    }
+
+    @Test
+    void overlayKeepsOrder(@TempDir Path tempDir) throws Exception {
+        List<Artifact> artifacts = List.of(archive(tempDir, "a", "jar", 20, 10), archive(tempDir, "b", "jar", 10, 10));
+        Path target = tempDir.resolve("overlay");
+        try (UnpackSink sink = UnpackSink.unpack(NopOutput.INSTANCE, target, a -> ".", true, 4, false)) {
+            sink.accept(artifacts);
+        }
+        TreeMap<String, String> contents = contents(target);
+        assertEquals(20, contents.size());
+        assertEquals("b ", contents.get("p0/e0.txt").substring(0, 2));
+        assertEquals("a ", contents.get("p0/e10.txt").substring(0, 2));
+    }
+
+    @Test
+    void overlapPrevented(@TempDir Path tempDir) throws Exception {
+        List<Artifact> artifacts = List.of(archive(tempDir, "a", "jar", 20, 10), archive(tempDir, "b", "zip", 10, 10));
+        Path target = tempDir.resolve("overlap");
+        try (UnpackSink sink = UnpackSink.unpack(NopOutput.INSTANCE, target, a -> ".", false, 4, false)) {
+            assertThrows(IOException.class, () -> sink.accept(artifacts));
+        }
+        assertEquals(false, Files.exists(target));
+    }
+
+    /**
+     * Compares sequential (streaming) and parallel (random access) unpacking; run with
+     * {@code -Dtoolbox.benchmark=true}.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "toolbox.benchmark", matches = "true")
+    void benchmark(@TempDir Path tempDir) throws Exception {
+        ArrayList<Artifact> artifacts = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            artifacts.add(archive(tempDir, "archive" + i, "jar", 2000, 8 * 1024));
+        }
+        int parallelism = Math.max(2, Runtime.getRuntime().availableProcessors());
+        for (int round = 0; round < 3; round++) {
+            for (int p : new int[] {1, parallelism}) {
+                Path target = tempDir.resolve("round" + round + (p == 1 ? "-sequential" : "-parallel"));
+                long start = System.nanoTime();
+                unpack(target, artifacts, p);
+                long millis = (System.nanoTime() - start) / 1_000_000;
+                System.out.printf("unpack parallelism=%d round=%d: %d ms%n", p, round, millis);
+            }
+        }
+    }
+}
@@ -35,7 +35,8 @@ public abstract class GavSearchMojoSupport extends GavMojoSupport {
     protected String repositoryBaseUri;
 
     /**
-     * The vendor of the remote repository.
+     * The vendor of the remote repository ("central", "nx2", "nx3", "artifactory", or "local" to answer offline from
+     * local repository). If not set, vendor is detected.
      */
     @CommandLine.Option(
             names = {"--repositoryVendor"},
@@ -47,8 +47,8 @@ public abstract class MPMojoSupport extends MojoSupport {
     protected ArtifactHandlerManager artifactHandlerManager;
 
     /**
-     * The repository vendor to use for Search RR backend ("central", "nx2" or any other extractor). If empty,
-     * heuristics will be applied to figure out.
+     * The repository vendor to use for Search RR backend ("central", "nx2" or any other extractor, or "local" to
+     * answer offline from local repository). If empty, heuristics will be applied to figure out.
      */
     @Parameter(property = "toolbox.search.backend.type")
     private String repositoryVendor;
@@ -11,10 +11,16 @@ import static java.util.Objects.requireNonNull;
 
 import eu.maveniverse.maven.toolbox.shared.ProjectLocator;
 import eu.maveniverse.maven.toolbox.shared.ReactorLocator;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -30,19 +36,38 @@ import org.eclipse.aether.graph.Dependency;
 import org.eclipse.aether.util.artifact.ArtifactIdUtils;
 
 /**
- * Maven project locator.
+ * Maven project locator. Lookups are backed by indexes built once, at construction.
  */
 public class MavenReactorLocator implements ReactorLocator {
     private final ReactorProject topLevel;
     private final ReactorProject current;
     private final ReactorProject selected;
     private final List<ReactorProject> allProjects;
+    private final Map<String, ReactorProject> projectsById;
+    private final Map<String, List<ReactorProject>> childrenByParentId;
+    private final Map<ReactorProject, List<ReactorProject>> collectedByProject;
 
     public MavenReactorLocator(MavenSession session, String selector) {
         requireNonNull(session, "session");
         this.allProjects = session.getAllProjects().stream()
                 .map(p -> convert(session.getRepositorySession(), p))
                 .collect(Collectors.toList());
+        this.projectsById = new HashMap<>();
+        HashMap<String, List<ReactorProject>> children = new HashMap<>();
+        for (ReactorProject project : allProjects) {
+            projectsById.putIfAbsent(ArtifactIdUtils.toId(project.artifact()), project);
+            Optional<Artifact> parent = project.getParent();
+            if (parent.isPresent()) {
+                children.computeIfAbsent(ArtifactIdUtils.toId(parent.orElseThrow()), k -> new ArrayList<>())
+                        .add(project);
+            }
+        }
+        this.childrenByParentId = new HashMap<>();
+        children.forEach((k, v) -> childrenByParentId.put(k, List.copyOf(v)));
+        this.collectedByProject = new IdentityHashMap<>();
+        for (ReactorProject project : allProjects) {
+            collectedByProject.put(project, collected((MProject) project));
+        }
         this.topLevel = locateProject(
                         RepositoryUtils.toArtifact(session.getTopLevelProject().getArtifact()))
                 .orElseThrow();
@@ -129,48 +154,48 @@ public class MavenReactorLocator implements ReactorLocator {
 
     @Override
     public Optional<ReactorProject> locateProject(Artifact artifact) {
-        return allProjects.stream()
-                .filter(p -> ArtifactIdUtils.equalsId(p.artifact(), artifact))
-                .findFirst();
+        return Optional.ofNullable(projectsById.get(ArtifactIdUtils.toId(artifact)));
     }
 
     @Override
     public List<ReactorProject> locateChildren(Project project) {
-        return allProjects.stream()
-                .filter(p -> {
-                    Optional<Artifact> parentArtifact = p.getParent();
-                    return parentArtifact.isPresent()
-                            && ArtifactIdUtils.equalsId(parentArtifact.orElseThrow(), project.artifact());
-                })
-                .collect(Collectors.toList());
+        return childrenByParentId.getOrDefault(ArtifactIdUtils.toId(project.artifact()), List.of());
     }
 
     @Override
     public List<ReactorProject> locateCollected(Project project) {
+        List<ReactorProject> result = collectedByProject.get(project);
+        if (result != null) {
+            return result;
+        }
         if (project instanceof MProject mProject) {
-            List<Project> allOfGrandchildren = mProject.collected().stream()
-                    .map(this::locateProject)
-                    .filter(Optional::isPresent)
-                    .map(Optional::get)
-                    .filter(p -> MProject.class.isAssignableFrom(p.getClass()))
-                    .map(p -> ((MProject) p).collected())
-                    .flatMap(List::stream)
-                    .map(this::locateProject)
-                    .filter(Optional::isPresent)
-                    .map(Optional::get)
-                    .collect(Collectors.toList());
-            return mProject.collected().stream()
-                    .map(this::locateProject)
-                    .filter(Optional::isPresent)
-                    .map(Optional::get)
-                    .toList()
-                    .stream()
-                    .filter(p -> !allOfGrandchildren.contains(p))
-                    .collect(Collectors.toList());
+            return collected(mProject);
         }
         return List.of();
     }
 
+    /**
+     * Returns the collected projects of given project that are not collected by any of those (its grandchildren).
+     */
+    private List<ReactorProject> collected(MProject project) {
+        List<ReactorProject> collected = project.collected().stream()
+                .map(this::locateProject)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .toList();
+        Set<ReactorProject> allOfGrandchildren = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (ReactorProject child : collected) {
+            if (child instanceof MProject mChild) {
+                mChild.collected().stream()
+                        .map(this::locateProject)
+                        .filter(Optional::isPresent)
+                        .map(Optional::get)
+                        .forEach(allOfGrandchildren::add);
+            }
+        }
+        return collected.stream().filter(p -> !allOfGrandchildren.contains(p)).toList();
+    }
+
     @Override
     public Stream<Artifact> get() {
         return getAllProjects().stream().map(Project::artifact);
@@ -7,6 +7,8 @@
  */
 package eu.maveniverse.maven.toolbox.plugin.gav;
 
+import static eu.maveniverse.maven.toolbox.shared.input.StringSlurper.slurp;
+
 import eu.maveniverse.maven.toolbox.plugin.GavSearchMojoSupport;
 import eu.maveniverse.maven.toolbox.shared.Result;
 import eu.maveniverse.maven.toolbox.shared.ToolboxCommando;
@@ -18,15 +20,17 @@ import org.eclipse.aether.artifact.Artifact;
 import picocli.CommandLine;
 
 /**
- * Checks given GAV for existence in a remote repository.
+ * Checks given GAVs for existence in a remote repository.
  */
 @CommandLine.Command(name = "exists", description = "Checks Maven Artifact existence")
 @Mojo(name = "gav-exists", requiresProject = false, threadSafe = true)
 public class GavExistsMojo extends GavSearchMojoSupport {
     /**
-     * The GAV to check for.
+     * The GAV to check for (comma separated if more, or a file with one GAV per line).
      */
-    @CommandLine.Parameters(index = "0", description = "The GAV to check for")
+    @CommandLine.Parameters(
+            index = "0",
+            description = "The GAV to check for (comma separated if more, or a file with one GAV per line)")
     @Parameter(property = "gav", required = true)
     private String gav;
 
@@ -81,6 +85,6 @@ public class GavExistsMojo extends GavSearchMojoSupport {
     protected Result<Map<Artifact, Boolean>> doExecute() throws IOException {
         ToolboxCommando toolboxCommando = getToolboxCommando();
         return toolboxCommando.exists(
-                getRemoteRepository(toolboxCommando), gav, pom, sources, javadoc, signature, allRequired, null);
+                getRemoteRepository(toolboxCommando), slurp(gav), pom, sources, javadoc, signature, allRequired, null);
     }
 }
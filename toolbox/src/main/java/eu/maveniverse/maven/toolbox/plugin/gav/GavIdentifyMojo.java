@@ -29,9 +29,11 @@ import picocli.CommandLine;
 @Mojo(name = "gav-identify", requiresProject = false, threadSafe = true)
 public class GavIdentifyMojo extends GavSearchMojoSupport {
     /**
-     * Target, SHA-1 checksum or a file (comma separated if more).
+     * Target, SHA-1 checksum, a file, a directory or a glob (comma separated if more).
      */
-    @CommandLine.Parameters(index = "0", description = "Target, a SHA-1 checksum or a file (comma separated if more)")
+    @CommandLine.Parameters(
+            index = "0",
+            description = "Target, a SHA-1 checksum, a file, a directory or a glob (comma separated if more)")
     @Parameter(property = "target", required = true)
     private String target;
 
@@ -18,15 +18,22 @@ import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
-import org.eclipse.aether.artifact.Artifact;
 import org.eclipse.aether.artifact.DefaultArtifact;
 
 /**
- * Lists reactor module artifactIds whose dependency tree contains an artifact matching the given spec.
+ * Lists reactor module artifactIds whose dependency tree contains an artifact matching the given spec(s).
+ * <p>
+ * Trees of all reactor modules are collected only once (concurrently), and all specs are answered from a reverse
+ * index of artifacts reached by modules.
  */
 @Mojo(name = "affected-by", aggregator = true, threadSafe = true)
 public class AffectedByMojo extends MPMojoSupport {
@@ -39,9 +46,16 @@ public class AffectedByMojo extends MPMojoSupport {
     /**
      * The artifact matcher spec.
      */
-    @Parameter(property = "artifactMatcherSpec", required = true)
+    @Parameter(property = "artifactMatcherSpec")
     private String artifactMatcherSpec;
 
+    /**
+     * Additional artifact matcher specs, to answer several queries against the same reactor index. If more than one
+     * spec is given, the output lists affected artifactIds per spec.
+     */
+    @Parameter
+    private List<String> artifactMatcherSpecs;
+
     /**
      * Optional output file. If set, the list of affected artifactIds is written to this file
      * instead of stdout.
@@ -50,33 +64,58 @@ public class AffectedByMojo extends MPMojoSupport {
     private File output;
 
     @Override
-    protected Result<List<String>> doExecute() throws Exception {
+    protected Result<Map<String, List<String>>> doExecute() throws Exception {
         ToolboxCommando toolboxCommando = getToolboxCommando();
-        ArtifactMatcher artifactMatcher = toolboxCommando.parseArtifactMatcherSpec(artifactMatcherSpec);
+        LinkedHashMap<String, ArtifactMatcher> artifactMatchers = new LinkedHashMap<>();
+        if (artifactMatcherSpec != null) {
+            artifactMatchers.put(artifactMatcherSpec, toolboxCommando.parseArtifactMatcherSpec(artifactMatcherSpec));
+        }
+        if (artifactMatcherSpecs != null) {
+            for (String spec : artifactMatcherSpecs) {
+                artifactMatchers.put(spec, toolboxCommando.parseArtifactMatcherSpec(spec));
+            }
+        }
+        if (artifactMatchers.isEmpty()) {
+            throw new MojoExecutionException("At least one of artifactMatcherSpec or artifactMatcherSpecs must be set");
+        }
         ResolutionScope resolutionScope = ResolutionScope.parse(scope);
 
-        List<String> affectedArtifactIds = new ArrayList<>();
+        LinkedHashMap<String, ResolutionRoot> roots = new LinkedHashMap<>();
+        HashMap<String, String> artifactIds = new HashMap<>();
         for (MavenProject project : mavenSession.getProjects()) {
-            ResolutionRoot root = projectAsResolutionRoot(project);
-            Result<List<List<Artifact>>> treeFindResult =
-                    toolboxCommando.treeFind(resolutionScope, root, false, artifactMatcher, false);
-            if (treeFindResult.isSuccess()
-                    && treeFindResult.getData().isPresent()
-                    && !treeFindResult.getData().orElseThrow().isEmpty()) {
-                affectedArtifactIds.add(project.getArtifactId());
-            }
+            String key = project.getGroupId() + ":" + project.getArtifactId();
+            roots.put(key, projectAsResolutionRoot(project));
+            artifactIds.put(key, project.getArtifactId());
+        }
+        Result<Map<String, List<String>>> affectedBy =
+                toolboxCommando.affectedBy(resolutionScope, roots, artifactMatchers);
+        if (!affectedBy.isSuccess()) {
+            return affectedBy;
+        }
+
+        LinkedHashMap<String, List<String>> affectedArtifactIds = new LinkedHashMap<>();
+        affectedBy.getData().orElseThrow().forEach((spec, keys) -> affectedArtifactIds.put(
+                spec, keys.stream().map(artifactIds::get).collect(Collectors.toList())));
+        ArrayList<String> lines = new ArrayList<>();
+        if (affectedArtifactIds.size() == 1) {
+            lines.addAll(affectedArtifactIds.values().iterator().next());
+        } else {
+            affectedArtifactIds.forEach((spec, ids) -> {
+                lines.add(spec);
+                ids.forEach(id -> lines.add("  " + id));
+            });
         }
 
         if (output != null) {
             Files.createDirectories(output.toPath().getParent());
             try (PrintWriter pw = new PrintWriter(Files.newBufferedWriter(output.toPath(), StandardCharsets.UTF_8))) {
-                for (String artifactId : affectedArtifactIds) {
-                    pw.println(artifactId);
+                for (String line : lines) {
+                    pw.println(line);
                 }
             }
         } else {
-            for (String artifactId : affectedArtifactIds) {
-                getOutput().doTell("{}", artifactId);
+            for (String line : lines) {
+                getOutput().doTell("{}", line);
             }
         }
 
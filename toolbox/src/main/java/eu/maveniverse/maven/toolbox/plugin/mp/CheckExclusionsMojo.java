@@ -8,13 +8,10 @@
 package eu.maveniverse.maven.toolbox.plugin.mp;
 
 import eu.maveniverse.maven.toolbox.plugin.MPPluginMojoSupport;
-import eu.maveniverse.maven.toolbox.shared.ArtifactMatcher;
-import eu.maveniverse.maven.toolbox.shared.ResolutionRoot;
 import eu.maveniverse.maven.toolbox.shared.ResolutionScope;
 import eu.maveniverse.maven.toolbox.shared.Result;
-import eu.maveniverse.maven.toolbox.shared.ToolboxCommando;
-import eu.maveniverse.maven.toolbox.shared.output.Output;
 import java.util.List;
+import java.util.Map;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.eclipse.aether.artifact.Artifact;
@@ -33,59 +30,7 @@ public class CheckExclusionsMojo extends MPPluginMojoSupport {
     private boolean verboseTree;
 
     @Override
-    protected Result<Boolean> doExecute() throws Exception {
-        ToolboxCommando toolboxCommando = getToolboxCommando();
-        ResolutionRoot project = projectAsResolutionRoot();
-        for (Dependency dependency : project.getDependencies()) {
-            for (Exclusion exclusion : dependency.getExclusions()) {
-                ResolutionRoot dependencyRoot = ResolutionRoot.ofNotLoaded(project.getArtifact())
-                        .withDependencies(List.of(dependency.setExclusions(null)))
-                        .build();
-                getOutput()
-                        .marker(Output.Verbosity.NORMAL)
-                        .normal("Checking dependency ")
-                        .emphasize(dependency.toString())
-                        .normal(" exclusion ")
-                        .emphasize(exclusion.toString())
-                        .normal(" paths")
-                        .say();
-                Result<List<List<Artifact>>> paths = toolboxCommando.treeFind(
-                        ResolutionScope.RUNTIME,
-                        dependencyRoot,
-                        verboseTree,
-                        artifactMatcher(dependency.getArtifact(), exclusion),
-                        false);
-                if (paths.getData().isPresent() && paths.getData().orElseThrow().isEmpty()) {
-                    getOutput()
-                            .marker(Output.Verbosity.NORMAL)
-                            .scary("Is unused")
-                            .say();
-                } else {
-                    getOutput()
-                            .marker(Output.Verbosity.NORMAL)
-                            .outstanding("Is used")
-                            .say();
-                }
-                getOutput().doTell("");
-            }
-        }
-        return Result.success(true);
-    }
-
-    protected ArtifactMatcher artifactMatcher(Artifact root, Exclusion exclusion) {
-        // not(root) && matches
-        return ArtifactMatcher.and(
-                ArtifactMatcher.not(ArtifactMatcher.artifact(root.toString())),
-                ArtifactMatcher.artifact(asteriskOrString(exclusion.getGroupId()) + ":"
-                        + asteriskOrString(exclusion.getArtifactId()) + ":"
-                        + asteriskOrString(exclusion.getClassifier())
-                        + ":" + asteriskOrString(exclusion.getExtension()) + ":*"));
-    }
-
-    protected String asteriskOrString(String str) {
-        if (str == null || str.trim().isEmpty()) {
-            return "*";
-        }
-        return str;
+    protected Result<Map<Dependency, Map<Exclusion, List<List<Artifact>>>>> doExecute() throws Exception {
+        return getToolboxCommando().checkExclusions(ResolutionScope.RUNTIME, projectAsResolutionRoot(), verboseTree);
     }
 }